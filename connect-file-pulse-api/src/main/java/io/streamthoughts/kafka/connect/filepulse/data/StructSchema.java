@@ -35,6 +35,10 @@ public class StructSchema implements Schema, Iterable<TypedField> {
 
     private Integer hash;
 
+    private int version;
+
+    private volatile Object attachment;
+
     private String name;
 
     private String namespace;
@@ -83,6 +87,8 @@ public class StructSchema implements Schema, Iterable<TypedField> {
             throw new DataException("Cannot create field because of field name duplication " + fieldName);
         }
         fields.put(fieldName, new TypedField(fields.size(), fieldSchema, fieldName));
+        hash = null;
+        version++;
         return this;
     }
 
@@ -116,6 +122,8 @@ public class StructSchema implements Schema, Iterable<TypedField> {
             throw new DataException("Cannot set field because of field do not exist " + fieldName);
         }
         fields.put(fieldName, new TypedField(field.index(), fieldSchema, fieldName));
+        hash = null;
+        version++;
     }
 
     void rename(final String fieldName, final String newField) {
@@ -125,19 +133,41 @@ public class StructSchema implements Schema, Iterable<TypedField> {
         }
         fields.remove(fieldName);
         fields.put(newField, new TypedField(tf.index(), tf.schema(), newField));
+        hash = null;
+        version++;
     }
 
-    void remove(final String fieldName) {
-        TypedField tf = field(fieldName);
+    /**
+     * Removes the given field from this schema. Fields that were declared after the removed one
+     * are shifted by one slot so that indexes stay dense.
+     *
+     * @param fieldName the field name.
+     * @return          the removed {@link TypedField}, or {@code null} if no field exists for the given name.
+     */
+    TypedField remove(final String fieldName) {
+        final TypedField tf = field(fieldName);
         if (tf != null) {
             fields.remove(tf.name());
-            fields.replaceAll((k, v) -> {
-                if (v.index() > tf.index()) {
-                    return new TypedField(v.index() - 1, tf.schema(), tf.name());
+            final int removed = tf.index();
+            for (Map.Entry<String, TypedField> entry : fields.entrySet()) {
+                final TypedField v = entry.getValue();
+                if (v.index() > removed) {
+                    entry.setValue(new TypedField(v.index() - 1, v.schema(), v.name()));
                 }
-                return v;
-            });
+            }
+            hash = null;
+        version++;
         }
+        return tf;
+    }
+
+    /**
+     * Gets the number of fields declared in this schema.
+     *
+     * @return  the number of fields.
+     */
+    public int size() {
+        return fields.size();
     }
 
     /**
@@ -173,6 +203,7 @@ public class StructSchema implements Schema, Iterable<TypedField> {
      */
     public StructSchema name(final String name) {
         this.name = name;
+        version++;
         return this;
     }
 
@@ -194,6 +225,7 @@ public class StructSchema implements Schema, Iterable<TypedField> {
      */
     public StructSchema namespace(final String namespace) {
         this.namespace = namespace;
+        version++;
         return this;
     }
 
@@ -214,9 +246,41 @@ public class StructSchema implements Schema, Iterable<TypedField> {
      */
     public StructSchema doc(final String doc) {
         this.doc = doc;
+        version++;
         return this;
     }
 
+    /**
+     * Gets the version of this schema, which is incremented each time a field is added, replaced,
+     * renamed or removed, or when the name, namespace or doc of this schema is changed.
+     *
+     * @return  the schema version.
+     */
+    public int version() {
+        return version;
+    }
+
+    /**
+     * Gets the object attached to this schema.
+     *
+     * @return  the object attached to this schema, or {@code null}.
+     * @see #attach(Object)
+     */
+    public Object attachment() {
+        return attachment;
+    }
+
+    /**
+     * Attaches the given object to this schema. This can be used by {@link SchemaMapper}s to cache
+     * the result of a mapping on the schema instance itself; the attached object is not cleared when
+     * the schema is modified, so callers must check the {@link #version()} of the schema before reusing it.
+     *
+     * @param attachment    the object to attach.
+     */
+    public void attach(final Object attachment) {
+        this.attachment = attachment;
+    }
+
     /**
      * {@inheritDoc}
      */
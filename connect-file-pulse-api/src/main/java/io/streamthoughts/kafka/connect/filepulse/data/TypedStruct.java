@@ -20,8 +20,6 @@ package io.streamthoughts.kafka.connect.filepulse.data;
 
 import java.util.Arrays;
 import java.util.Iterator;
-import java.util.LinkedList;
-
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -30,8 +28,14 @@ import java.util.stream.StreamSupport;
 
 public class TypedStruct implements GettableByName, SettableByName<TypedStruct>, Iterable<TypedField> {
 
+    private static final int DEFAULT_INITIAL_CAPACITY = 8;
+
     private StructSchema schema;
-    private List<Object> values;
+
+    /**
+     * The field values, each stored at the slot given by {@link TypedField#index()}.
+     */
+    private Object[] values;
 
     /**
      * Static helper that can be used to create a new {@link TypedStruct} instance.
@@ -75,7 +79,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     private TypedStruct(final StructSchema schema) {
         this.schema = Objects.requireNonNull(schema, "schema cannot be null");
-        this.values = new LinkedList<>();
+        this.values = new Object[Math.max(DEFAULT_INITIAL_CAPACITY, schema.size())];
     }
 
     public TypedStruct rename(final String field, final String newField) {
@@ -84,7 +88,18 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     }
 
     public TypedStruct remove(final String field) {
-        schema.remove(field);
+        final TypedField removed = schema.remove(field);
+        if (removed != null) {
+            // compact values so that slots stay aligned with the re-indexed fields.
+            final int index = removed.index();
+            final int last = Math.min(schema.size(), values.length - 1);
+            if (last > index) {
+                System.arraycopy(values, index + 1, values, index, last - index);
+            }
+            if (last >= index) {
+                values[last] = null;
+            }
+        }
         return this;
     }
 
@@ -203,18 +218,32 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     }
 
     public TypedStruct put(final String field, final Schema schema, final Object object) {
-        if (!has(field)) {
+        final TypedField existing = this.schema.field(field);
+        final int index;
+        if (existing == null) {
             this.schema.field(field, schema);
-            values.add(object);
+            index = this.schema.size() - 1;
         } else {
-
-            int index = this.schema.indexOf(field);
-            this.schema.set(field, schema); // handle case where field's schema is changed.
-            values.set(index, object);
+            index = existing.index();
+            if (existing.schema() != schema) {
+                this.schema.set(field, schema); // handle case where field's schema is changed.
+            }
         }
+        ensureCapacity(index + 1);
+        values[index] = object;
         return this;
     }
 
+    private void ensureCapacity(final int capacity) {
+        if (capacity > values.length) {
+            values = Arrays.copyOf(values, Math.max(capacity, values.length + (values.length >> 1)));
+        }
+    }
+
+    private Object valueAt(final int index) {
+        return index < values.length ? values[index] : null;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -228,6 +257,18 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
         return get(field.name());
     }
 
+    /**
+     * Gets the raw value stored in the slot of the given field, without looking up the field by name.
+     * The field must have been obtained from the schema of this struct.
+     *
+     * @param field the {@link TypedField} of this struct.
+     * @return      the field value.
+     */
+    public Object value(final TypedField field) {
+        Objects.requireNonNull(field, "field cannot be null");
+        return valueAt(field.index());
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -235,8 +276,7 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
     public TypedValue get(final String name) {
         Objects.requireNonNull(name, "name cannot be null");
         TypedField field = lookupField(name);
-        Object o = values.get(field.index());
-        return TypedValue.of(o, field.schema());
+        return TypedValue.of(valueAt(field.index()), field.schema());
     }
 
     /**
@@ -367,8 +407,11 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
         if (this == o) return true;
         if (!(o instanceof TypedStruct)) return false;
         TypedStruct that = (TypedStruct) o;
-        return Objects.equals(schema, that.schema) &&
-                Objects.equals(values, that.values);
+        if (!Objects.equals(schema, that.schema)) return false;
+        for (int i = 0; i < schema.size(); i++) {
+            if (!Objects.equals(valueAt(i), that.valueAt(i))) return false;
+        }
+        return true;
     }
 
     /**
@@ -376,7 +419,11 @@ public class TypedStruct implements GettableByName, SettableByName<TypedStruct>,
      */
     @Override
     public int hashCode() {
-        return Objects.hash(schema, values);
+        int result = Objects.hashCode(schema);
+        for (int i = 0; i < schema.size(); i++) {
+            result = 31 * result + Objects.hashCode(valueAt(i));
+        }
+        return result;
     }
 
     /**
@@ -26,7 +26,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 
-import java.util.LinkedList;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
@@ -84,8 +84,54 @@ public class DefaultTypeValueMerger implements TypeValueMerger {
         return struct;
     }
 
+    /**
+     * Merges the right {@link TypedStruct} into the left one, which is updated in place.
+     * The resulting fields are the same, and in the same order, as the ones returned by
+     * {@link #merge(TypedStruct, TypedStruct, Set)}.
+     *
+     * @param left      the left {@link TypedStruct} to be merged.
+     * @param right     the right {@link TypedStruct} to be merged.
+     * @param overwrite the left field that must overwritten.
+     *
+     * @return       the left {@link TypedStruct} instance.
+     */
+    @Override
+    public TypedStruct mergeInto(final TypedStruct left,
+                                 final TypedStruct right,
+                                 final Set<String> overwrite) {
+
+        if (left == null) return right;
+        if (right == null || right == left) return left;
+
+        // check all fields first so that the left struct is left unchanged if they cannot be merged.
+        for (TypedField rightField : right) {
+            final TypedField leftField = left.schema().field(rightField.name());
+            if (leftField != null && !overwrite.contains(leftField.name())) {
+                checkIfTypesAreCompatibleForMerge(leftField, rightField);
+            }
+        }
+
+        // merge() always returns an unnamed struct.
+        left.schema().name(null).namespace(null).doc(null);
+
+        for (TypedField rightField : right) {
+            final String name = rightField.name();
+            final TypedField leftField = left.schema().field(name);
+            if (leftField == null) {
+                left.put(name, rightField.schema(), right.value(rightField));
+            } else if (overwrite.contains(name)) {
+                // the overwritten field is moved after the left fields.
+                left.remove(name);
+                left.put(name, rightField.schema(), right.value(rightField));
+            } else {
+                left.put(name, merge(left.get(leftField), right.get(rightField)));
+            }
+        }
+        return left;
+    }
+
     private static TypedValue merge(final TypedValue left, final TypedValue right) {
-        List<Object> values = new LinkedList<>();
+        final List<Object> values = new ArrayList<>(size(left) + size(right));
 
         if (left.type() == Type.ARRAY) {
             values.addAll(left.getArray());
@@ -102,6 +148,10 @@ public class DefaultTypeValueMerger implements TypeValueMerger {
         return TypedValue.array(values, left.schema());
     }
 
+    private static int size(final TypedValue value) {
+        return value.type() == Type.ARRAY ? value.getArray().size() : 1;
+    }
+
     private static void checkIfTypesAreCompatibleForMerge(final TypedField left, final TypedField right) {
         final String name = left.name();
 
@@ -39,4 +39,22 @@ public interface TypeValueMerger {
     TypedStruct merge(final TypedStruct left,
                       final TypedStruct right,
                       final Set<String> overwrite);
+
+    /**
+     * Method to merge the right {@link TypedStruct} into the left one.
+     *
+     * Implementations may update the left {@link TypedStruct} in place instead of creating a new instance;
+     * the default implementation delegates to {@link #merge(TypedStruct, TypedStruct, Set)}.
+     *
+     * @param left      the left {@link TypedStruct} to be merged.
+     * @param right     the right {@link TypedStruct} to be merged.
+     * @param overwrite the left field that must overwritten.
+     *
+     * @return       the merged {@link TypedStruct} instance.
+     */
+    default TypedStruct mergeInto(final TypedStruct left,
+                                  final TypedStruct right,
+                                  final Set<String> overwrite) {
+        return merge(left, right, overwrite);
+    }
 }
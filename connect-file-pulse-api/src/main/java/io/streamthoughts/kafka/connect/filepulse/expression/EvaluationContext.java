@@ -19,6 +19,7 @@
 package io.streamthoughts.kafka.connect.filepulse.expression;
 
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessor;
+import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessorRegistry;
 import io.streamthoughts.kafka.connect.filepulse.expression.converter.PropertyConverter;
 
 import java.util.List;
@@ -41,6 +42,16 @@ public interface EvaluationContext {
      */
     List<PropertyAccessor> getPropertyAccessors();
 
+    /**
+     * Return the registry used to resolve the accessors applicable to a target type.
+     * Implementations should override this method to return a shared instance.
+     *
+     * @return the {@link PropertyAccessorRegistry} instance.
+     */
+    default PropertyAccessorRegistry getPropertyAccessorRegistry() {
+        return new PropertyAccessorRegistry(getPropertyAccessors());
+    }
+
     /**
      * Return a list of converter that will be asked in turn to convert read value into expected type.
      *
@@ -20,14 +20,12 @@ package io.streamthoughts.kafka.connect.filepulse.expression;
 
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.AccessException;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessor;
+import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessorRegistry;
 import io.streamthoughts.kafka.connect.filepulse.expression.converter.Converters;
 import io.streamthoughts.kafka.connect.filepulse.expression.converter.PropertyConverter;
 
-import java.util.Arrays;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class PropertyExpression implements Expression {
 
@@ -123,39 +121,60 @@ public class PropertyExpression implements Expression {
                                      final Object target,
                                      final String name,
                                      final Object newValue) {
-
-        List<PropertyAccessor> specificAccessors = findSpecificAccessorsToWrite(context, target, name);
-        if (!specificAccessors.isEmpty() && evaluateWriters(context, target, name, newValue, specificAccessors)) {
-            return;
+        final PropertyAccessorRegistry registry = context.getPropertyAccessorRegistry();
+
+        final List<PropertyAccessor> specificAccessors = registry.specificAccessorsFor(typeOf(target));
+        for (int i = 0; i < specificAccessors.size(); i++) {
+            final PropertyAccessor accessor = specificAccessors.get(i);
+            if (accessor.canWrite(context, target, name)) {
+                accessor.write(context, target, name, newValue);
+                return;
+            }
         }
 
-        List<PropertyAccessor> genericAccessors = findGenericAccessorsToWrite(context, target, name);
-        if (!genericAccessors.isEmpty() && evaluateWriters(context, target, name, newValue, genericAccessors)) {
-            return;
+        final List<PropertyAccessor> genericAccessors = registry.genericAccessors();
+        for (int i = 0; i < genericAccessors.size(); i++) {
+            final PropertyAccessor accessor = genericAccessors.get(i);
+            if (accessor.canWrite(context, target, name)) {
+                accessor.write(context, target, name, newValue);
+                return;
+            }
         }
 
-        if (specificAccessors.isEmpty() && genericAccessors.isEmpty()) {
-            throw new AccessException(String.format(
-                "Can't found any property accessor for type '%s' and property %s",
-                target.getClass().getCanonicalName(),
-                name)
-            );
-        }
+        throw new AccessException(String.format(
+            "Can't found any property accessor for type '%s' and property %s",
+            target.getClass().getCanonicalName(),
+            name)
+        );
     }
 
     private Object getValueForProperty(final EvaluationContext context,
                                        final Object target,
                                        final String name) {
+        final PropertyAccessorRegistry registry = context.getPropertyAccessorRegistry();
+
+        final List<PropertyAccessor> specificAccessors = registry.specificAccessorsFor(typeOf(target));
+        for (int i = 0; i < specificAccessors.size(); i++) {
+            final PropertyAccessor accessor = specificAccessors.get(i);
+            if (accessor.canRead(context, target, name)) {
+                final Object value = accessor.read(context, target, name);
+                if (value != null) return value;
+            }
+        }
 
-        List<PropertyAccessor> specificAccessors = findSpecificAccessorsToRead(context, target, name);
-        if (!specificAccessors.isEmpty()) {
-            Object value = evaluateReaders(context, target, name, specificAccessors);
-            if (value != null) return value;
+        boolean readable = false;
+        final List<PropertyAccessor> genericAccessors = registry.genericAccessors();
+        for (int i = 0; i < genericAccessors.size(); i++) {
+            final PropertyAccessor accessor = genericAccessors.get(i);
+            if (accessor.canRead(context, target, name)) {
+                readable = true;
+                final Object value = accessor.read(context, target, name);
+                if (value != null) return value;
+            }
         }
 
-        List<PropertyAccessor> genericAccessors = findGenericAccessorsToRead(context, target, name);
-        if (!genericAccessors.isEmpty()) {
-            return evaluateReaders(context, target, name, genericAccessors);
+        if (readable) {
+            return null;
         }
 
         throw new AccessException(
@@ -166,90 +185,8 @@ public class PropertyExpression implements Expression {
         );
     }
 
-    private Boolean evaluateWriters(final EvaluationContext context,
-                                    final Object target,
-                                    final String name,
-                                    final Object newValue,
-                                    final List<PropertyAccessor> specifics) {
-        Iterator<PropertyAccessor> it = specifics.iterator();
-        boolean run = false;
-        while (it.hasNext() && !run) {
-            PropertyAccessor accessor = it.next();
-            accessor.write(context, target, name, newValue);
-            run = true;
-        }
-        return run;
-    }
-
-    private Object evaluateReaders(final EvaluationContext context,
-                                   final Object target,
-                                   final String name,
-                                   final List<PropertyAccessor> specifics) {
-        Iterator<PropertyAccessor> it = specifics.iterator();
-        Object value = null;
-        while (it.hasNext() && value == null ) {
-            PropertyAccessor accessor = it.next();
-            value = accessor.read(context, target, name);
-        }
-        return value;
-    }
-
-    private List<PropertyAccessor> findGenericAccessorsToWrite(final EvaluationContext context,
-                                                               final Object target,
-                                                               final String name) {
-        return context.getPropertyAccessors()
-            .stream()
-            .filter(accessor -> !isSpecificAccessor(accessor))
-            .filter(accessor -> accessor.canWrite(context, target, name))
-            .collect(Collectors.toList());
-    }
-
-    private List<PropertyAccessor> findSpecificAccessorsToWrite(final EvaluationContext context,
-                                                                final Object target,
-                                                                final String name) {
-        Class<?> type = target instanceof Class ? (Class<?>) target : target.getClass();
-        return context.getPropertyAccessors()
-            .stream()
-            .filter(accessor -> isAccessorSpecificForType(type, accessor))
-            .filter(accessor -> accessor.canWrite(context, target, name))
-            .collect(Collectors.toList());
-    }
-
-    private List<PropertyAccessor> findGenericAccessorsToRead(final EvaluationContext context,
-                                                              final Object target,
-                                                              final String name) {
-        return context.getPropertyAccessors()
-            .stream()
-            .filter(accessor -> !isSpecificAccessor(accessor))
-            .filter(accessor -> accessor.canRead(context, target, name))
-            .collect(Collectors.toList());
-    }
-
-    private List<PropertyAccessor> findSpecificAccessorsToRead(final EvaluationContext context,
-                                                               final Object target,
-                                                               final String name) {
-        Class<?> type = target instanceof Class ? (Class<?>) target : target.getClass();
-        return context.getPropertyAccessors()
-            .stream()
-            .filter(accessor -> isAccessorSpecificForType(type, accessor))
-            .filter(accessor -> accessor.canRead(context, target, name))
-            .collect(Collectors.toList());
-    }
-
-    private boolean isAccessorSpecificForType(final Class<?> type, PropertyAccessor accessor) {
-        if (isSpecificAccessor(accessor)) {
-            Class<?>[] specificTargetClasses = accessor.getSpecificTargetClasses();
-            List<Class<?>> l = Arrays
-                .stream(specificTargetClasses)
-                .filter(clazz -> clazz.isAssignableFrom(type))
-                .collect(Collectors.toList());
-            return l.size() > 0;
-        }
-        return false;
-    }
-
-    private boolean isSpecificAccessor(final PropertyAccessor accessor) {
-        return accessor.getSpecificTargetClasses() != null && accessor.getSpecificTargetClasses().length > 0;
+    private static Class<?> typeOf(final Object target) {
+        return target instanceof Class ? (Class<?>) target : target.getClass();
     }
 
     /**
@@ -21,6 +21,7 @@ package io.streamthoughts.kafka.connect.filepulse.expression;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.HeadersAccessor;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.MapAdaptablePropertyAccessor;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessor;
+import io.streamthoughts.kafka.connect.filepulse.expression.accessor.PropertyAccessorRegistry;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.ReflectivePropertyAccessor;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.StructFieldAccessor;
 import io.streamthoughts.kafka.connect.filepulse.expression.accessor.TypedStructAccessor;
@@ -28,20 +29,37 @@ import io.streamthoughts.kafka.connect.filepulse.expression.converter.PrimitiveC
 import io.streamthoughts.kafka.connect.filepulse.expression.converter.PropertyConverter;
 import io.streamthoughts.kafka.connect.filepulse.expression.converter.TypedValueConverter;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 
+/**
+ * The default {@link EvaluationContext} implementation.
+ *
+ * All instances share the same immutable set of accessors and converters. An instance is not thread-safe
+ * but can be re-used for successive evaluations through {@link #reset(Object, Map)}.
+ */
 public class StandardEvaluationContext implements EvaluationContext {
 
-    private final Object rootObject;
-    private final Map<String, Object> variables;
+    private static final PropertyAccessorRegistry DEFAULT_ACCESSORS = new PropertyAccessorRegistry(Arrays.asList(
+        new HeadersAccessor(),
+        new TypedStructAccessor(),
+        new StructFieldAccessor(),
+        new MapAdaptablePropertyAccessor(),
+        new ReflectivePropertyAccessor()
+    ));
+
+    private static final List<PropertyConverter> DEFAULT_CONVERTERS = Collections.unmodifiableList(Arrays.asList(
+        new PrimitiveConverter(),
+        new TypedValueConverter()
+    ));
 
-    private final List<PropertyAccessor> propertyAccessors;
-    private final List<PropertyConverter> propertyConverters;
+    private Object rootObject;
+    private Map<String, Object> variables;
 
     /**
      * Creates a new {@link StandardEvaluationContext} instance.
@@ -49,7 +67,7 @@ public class StandardEvaluationContext implements EvaluationContext {
      * @param rootObject the root object.
      */
     public StandardEvaluationContext(final Object rootObject) {
-        this(rootObject, new HashMap<>(), new LinkedList<>(), new LinkedList<>());
+        this(rootObject, new HashMap<>());
     }
 
     /**
@@ -60,34 +78,23 @@ public class StandardEvaluationContext implements EvaluationContext {
      */
     public StandardEvaluationContext(final Object rootObject,
                                      final Map<String, Object> variables) {
-        this(rootObject, variables, new LinkedList<>(), new LinkedList<>());
+        reset(rootObject, variables);
     }
 
     /**
-     * Creates a new {@link StandardEvaluationContext} instance.
+     * Resets this context so that it can be re-used to evaluate expressions against a new root object.
      *
      * @param rootObject the root object.
      * @param variables  the variables.
+     * @return {@code this}
      */
-    private StandardEvaluationContext(final Object rootObject,
-                                      final Map<String, Object> variables,
-                                      final List<PropertyAccessor> propertyAccessors,
-                                      final List<PropertyConverter> converters) {
+    public StandardEvaluationContext reset(final Object rootObject,
+                                           final Map<String, Object> variables) {
         Objects.requireNonNull(rootObject, "rootObject cannot be null");
         Objects.requireNonNull(variables, "variables cannot be null");
-        Objects.requireNonNull(propertyAccessors, "propertyAccessors cannot be null");
         this.rootObject = rootObject;
         this.variables = variables;
-        this.propertyAccessors = propertyAccessors;
-        this.propertyAccessors.add(new HeadersAccessor());
-        this.propertyAccessors.add(new TypedStructAccessor());
-        this.propertyAccessors.add(new StructFieldAccessor());
-        this.propertyAccessors.add(new MapAdaptablePropertyAccessor());
-        this.propertyAccessors.add(new ReflectivePropertyAccessor());
-
-        this.propertyConverters = converters;
-        this.propertyConverters.add(new PrimitiveConverter());
-        this.propertyConverters.add(new TypedValueConverter());
+        return this;
     }
 
     /**
@@ -103,7 +110,15 @@ public class StandardEvaluationContext implements EvaluationContext {
      */
     @Override
     public List<PropertyAccessor> getPropertyAccessors() {
-        return propertyAccessors;
+        return DEFAULT_ACCESSORS.accessors();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public PropertyAccessorRegistry getPropertyAccessorRegistry() {
+        return DEFAULT_ACCESSORS;
     }
 
     /**
@@ -111,7 +126,7 @@ public class StandardEvaluationContext implements EvaluationContext {
      */
     @Override
     public List<PropertyConverter> getPropertyConverter() {
-        return propertyConverters;
+        return DEFAULT_CONVERTERS;
     }
 
     /**
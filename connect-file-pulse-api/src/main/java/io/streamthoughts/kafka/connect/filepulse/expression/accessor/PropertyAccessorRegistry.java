@@ -0,0 +1,109 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An immutable, ordered set of {@link PropertyAccessor} which resolves the accessors
+ * applicable to a target type only once per class.
+ *
+ * Instances are thread-safe and are meant to be shared across evaluation contexts.
+ */
+public final class PropertyAccessorRegistry {
+
+    private final List<PropertyAccessor> accessors;
+    private final List<PropertyAccessor> genericAccessors;
+
+    private final ClassValue<List<PropertyAccessor>> specificAccessors = new ClassValue<List<PropertyAccessor>>() {
+        @Override
+        protected List<PropertyAccessor> computeValue(final Class<?> type) {
+            final List<PropertyAccessor> resolved = new ArrayList<>();
+            for (PropertyAccessor accessor : accessors) {
+                if (isAccessorSpecificForType(type, accessor)) {
+                    resolved.add(accessor);
+                }
+            }
+            return Collections.unmodifiableList(resolved);
+        }
+    };
+
+    /**
+     * Creates a new {@link PropertyAccessorRegistry} instance.
+     *
+     * @param accessors the accessors, in the order they will be asked to read/write a property.
+     */
+    public PropertyAccessorRegistry(final List<PropertyAccessor> accessors) {
+        Objects.requireNonNull(accessors, "accessors cannot be null");
+        this.accessors = Collections.unmodifiableList(new ArrayList<>(accessors));
+        final List<PropertyAccessor> generics = new ArrayList<>();
+        for (PropertyAccessor accessor : accessors) {
+            if (!isSpecificAccessor(accessor)) {
+                generics.add(accessor);
+            }
+        }
+        this.genericAccessors = Collections.unmodifiableList(generics);
+    }
+
+    /**
+     * Returns all the registered accessors.
+     *
+     * @return an unmodifiable list of {@link PropertyAccessor}.
+     */
+    public List<PropertyAccessor> accessors() {
+        return accessors;
+    }
+
+    /**
+     * Returns the accessors declaring the given type, or one of its super-types, as a specific target class.
+     *
+     * @param type  the target type.
+     * @return an unmodifiable list of {@link PropertyAccessor}.
+     */
+    public List<PropertyAccessor> specificAccessorsFor(final Class<?> type) {
+        return specificAccessors.get(type);
+    }
+
+    /**
+     * Returns the accessors which do not declare any specific target class.
+     *
+     * @return an unmodifiable list of {@link PropertyAccessor}.
+     */
+    public List<PropertyAccessor> genericAccessors() {
+        return genericAccessors;
+    }
+
+    private static boolean isAccessorSpecificForType(final Class<?> type, final PropertyAccessor accessor) {
+        if (isSpecificAccessor(accessor)) {
+            for (Class<?> clazz : accessor.getSpecificTargetClasses()) {
+                if (clazz.isAssignableFrom(type)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean isSpecificAccessor(final PropertyAccessor accessor) {
+        return accessor.getSpecificTargetClasses() != null && accessor.getSpecificTargetClasses().length > 0;
+    }
+}
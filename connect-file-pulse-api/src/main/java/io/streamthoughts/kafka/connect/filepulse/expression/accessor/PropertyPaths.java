@@ -0,0 +1,66 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Helper class to split dot property access paths (e.g. {@code field.child}).
+ *
+ * Property names are mostly the attributes of pre-compiled expressions, thus splits are cached
+ * so that a path is only split once instead of on every access.
+ */
+final class PropertyPaths {
+
+    private static final int MAX_CACHED_PATHS = 4096;
+
+    private static final String[] NO_SPLIT = new String[0];
+
+    private static final ConcurrentMap<String, String[]> PATHS = new ConcurrentHashMap<>();
+
+    private PropertyPaths() {
+    }
+
+    /**
+     * Splits the given property name on its first dot.
+     *
+     * @param name  the property name.
+     * @return      an array of two elements, the name before and after the first dot,
+     *              or {@code null} if the name is not a dot property access path.
+     */
+    static String[] splitFirst(final String name) {
+        String[] split = PATHS.get(name);
+        if (split == null) {
+            split = computeSplit(name);
+            if (PATHS.size() < MAX_CACHED_PATHS) {
+                PATHS.putIfAbsent(name, split);
+            }
+        }
+        return split == NO_SPLIT ? null : split;
+    }
+
+    private static String[] computeSplit(final String name) {
+        final int index = name.indexOf('.');
+        if (index < 0) {
+            return NO_SPLIT;
+        }
+        return new String[]{name.substring(0, index), name.substring(index + 1)};
+    }
+}
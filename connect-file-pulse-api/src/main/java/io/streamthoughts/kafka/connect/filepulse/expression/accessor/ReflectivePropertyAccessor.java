@@ -20,14 +20,36 @@ package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
 
 import io.streamthoughts.kafka.connect.filepulse.expression.EvaluationContext;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public class ReflectivePropertyAccessor implements PropertyAccessor {
 
     private static final String GETTER_PREFIX = "of";
     private static final String SETTER_PREFIX = "set";
 
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * The getter and setter handles resolved for each class, by property name.
+     */
+    private static final ClassValue<PropertyMethods> METHODS = new ClassValue<PropertyMethods>() {
+        @Override
+        protected PropertyMethods computeValue(final Class<?> type) {
+            return new PropertyMethods();
+        }
+    };
+
     /**
      * {@inheritDoc}
      */
@@ -50,13 +72,15 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
         Class<?> type = (target instanceof Class) ? (Class<?>) target : target.getClass();
 
+        final Optional<MethodHandle> getter;
         try {
-            Method method = findGetterMethodForProperty(type, name);
-            if (method != null || (method = findAccessMethodForProperty(type, name)) != null) {
-                method.setAccessible(true);
-                return method.invoke(target);
+            getter = METHODS.get(type).getters.computeIfAbsent(name, k -> resolveGetter(type, k));
+            if (getter.isPresent()) {
+                return getter.get().invokeExact(target);
             }
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new AccessException(e.getMessage());
         }
         throw new AccessException(
@@ -79,14 +103,16 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
 
         Class<?> type = target instanceof Class ? (Class<?>) target : target.getClass();
 
+        final Optional<MethodHandle> setter;
         try {
-            Method method = findSetterMethodForProperty(type, name);
-            if (method != null ) {
-                method.setAccessible(true);
-                method.invoke(target, newValue);
+            setter = METHODS.get(type).setters.computeIfAbsent(name, k -> resolveSetter(type, k));
+            if (setter.isPresent()) {
+                setter.get().invokeExact(target, newValue);
                 return;
             }
-        } catch (Exception e) {
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
             throw new AccessException(
                 String.format(
                     "Cannot set property '%s' to '%s' on target type %s : %s",
@@ -113,7 +139,38 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
         return true;
     }
 
-    private Method findGetterMethodForProperty(final Class target, final String name) {
+    private static Optional<MethodHandle> resolveGetter(final Class<?> target, final String name) {
+        Method method = findGetterMethodForProperty(target, name);
+        if (method == null) {
+            method = findAccessMethodForProperty(target, name);
+        }
+        return method == null ? Optional.empty() : Optional.of(unreflect(method, GETTER_TYPE));
+    }
+
+    private static Optional<MethodHandle> resolveSetter(final Class<?> target, final String name) {
+        final Method method = findSetterMethodForProperty(target, name);
+        return method == null ? Optional.empty() : Optional.of(unreflect(method, SETTER_TYPE));
+    }
+
+    /**
+     * Converts the given method into a handle of the given type, which takes the target object as
+     * its first argument. The target is ignored when invoking a static method.
+     */
+    private static MethodHandle unreflect(final Method method, final MethodType type) {
+        method.setAccessible(true);
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new AccessException(e.getMessage());
+        }
+        if (Modifier.isStatic(method.getModifiers())) {
+            handle = MethodHandles.dropArguments(handle, 0, Object.class);
+        }
+        return handle.asType(type);
+    }
+
+    private static Method findGetterMethodForProperty(final Class target, final String name) {
         for (Method m : target.getMethods()) {
             String methodName = m.getName();
             if (methodName.equals(GETTER_PREFIX + getMethodSuffixForProperty(name))) {
@@ -123,7 +180,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
         return null;
     }
 
-    private Method findSetterMethodForProperty(final Class target, final String name) {
+    private static Method findSetterMethodForProperty(final Class target, final String name) {
         for (Method m : target.getDeclaredMethods()) {
             String methodName = m.getName();
             if (methodName.equals(SETTER_PREFIX + getMethodSuffixForProperty(name))) {
@@ -133,7 +190,7 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
         return null;
     }
 
-    private Method findAccessMethodForProperty(final Class target, final String name) {
+    private static Method findAccessMethodForProperty(final Class target, final String name) {
         for (Method m : target.getMethods()) {
             String methodName = m.getName();
             if (methodName.equals(name)) {
@@ -143,7 +200,12 @@ public class ReflectivePropertyAccessor implements PropertyAccessor {
         return null;
     }
 
-    private String getMethodSuffixForProperty(final String name) {
+    private static String getMethodSuffixForProperty(final String name) {
         return Character.toUpperCase(name.charAt(0)) + name.substring(1);
     }
-}
\ No newline at end of file
+
+    private static final class PropertyMethods {
+        private final ConcurrentMap<String, Optional<MethodHandle>> getters = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, Optional<MethodHandle>> setters = new ConcurrentHashMap<>();
+    }
+}
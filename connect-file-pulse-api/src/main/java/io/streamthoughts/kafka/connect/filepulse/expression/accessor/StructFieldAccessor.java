@@ -62,11 +62,13 @@ public class StructFieldAccessor implements PropertyAccessor {
         Field field = struct.schema().field(name);
         if (field != null) {
             return new SchemaAndValue(field.schema(), struct.get(field));
-        } else if (isDotPropertyAccessPath(name)) {
-            String[] split = name.split("\\.", 2);
-            Object rootObject = read(context, target, split[0]);
-            if (rootObject != null) {
-                return read(context, rootObject, split[1]);
+        } else {
+            final String[] split = PropertyPaths.splitFirst(name);
+            if (split != null) {
+                Object rootObject = read(context, target, split[0]);
+                if (rootObject != null) {
+                    return read(context, rootObject, split[1]);
+                }
             }
         }
 
@@ -101,8 +103,4 @@ public class StructFieldAccessor implements PropertyAccessor {
                             final String name) throws AccessException {
         return false;
     }
-
-    private boolean isDotPropertyAccessPath(final String name) {
-        return name.contains(".");
-    }
 }
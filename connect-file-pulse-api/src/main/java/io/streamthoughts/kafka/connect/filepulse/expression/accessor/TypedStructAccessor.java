@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
 
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.expression.EvaluationContext;
@@ -61,21 +62,17 @@ public class TypedStructAccessor implements PropertyAccessor {
             return struct.get(name);
         }
 
-        if (isDotPropertyAccessPath(name)) {
-            String[] split = name.split("\\.", 2);
-            Object rootObject = read(context, target, split[0]);
-            if (rootObject != null) {
-                return read(context, rootObject, split[1]);
+        final String[] split = PropertyPaths.splitFirst(name);
+        if (split != null) {
+            final TypedValue rootObject = read(context, target, split[0]);
+            if (rootObject != null && rootObject.type() == Type.STRUCT && !rootObject.isNull()) {
+                return read(context, rootObject.getStruct(), split[1]);
             }
         }
 
         throw new AccessException("Cannot access to field '" + name + "'");
     }
 
-    private boolean isDotPropertyAccessPath(final String name) {
-        return name.contains(".");
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -90,8 +87,8 @@ public class TypedStructAccessor implements PropertyAccessor {
 
         final TypedStruct struct = (TypedStruct)target;
 
-        if (isDotPropertyAccessPath(name)) {
-            String[] split = name.split("\\.", 2);
+        final String[] split = PropertyPaths.splitFirst(name);
+        if (split != null) {
             final String field = split[0];
             final String remaining = split[1];
 
@@ -24,6 +24,9 @@ import io.streamthoughts.kafka.connect.filepulse.expression.SubstitutionExpressi
 import io.streamthoughts.kafka.connect.filepulse.expression.ValueExpression;
 import io.streamthoughts.kafka.connect.filepulse.expression.parser.ExpressionParser;
 
+import java.util.AbstractMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -35,13 +38,37 @@ public class RegexExpressionParser implements ExpressionParser {
     private static Pattern SUBSTITUTION_EXPRESSION_PATTERN =
             Pattern.compile("(?<expression>\\{\\{\\s*.+?\\s*\\}\\})+?");
 
+    private static final int DEFAULT_MAX_CACHED_EXPRESSIONS = 128;
+
     private final RegexExpressionMatchers matchers;
 
+    /**
+     * The expressions already parsed without substitution, keyed by the root object and the expression string.
+     * Filters which support substitution in field names parse the evaluated field name for each record,
+     * while it is most of the time resolved to a few distinct values.
+     */
+    private final Map<Map.Entry<String, String>, Expression> parsed;
+
     /**
      * Creates a new {@link RegexExpressionParser} instance.
      */
     public RegexExpressionParser() {
+        this(DEFAULT_MAX_CACHED_EXPRESSIONS);
+    }
+
+    /**
+     * Creates a new {@link RegexExpressionParser} instance.
+     *
+     * @param maxCachedExpressions  the maximum number of parsed expressions to keep in cache.
+     */
+    public RegexExpressionParser(final int maxCachedExpressions) {
         matchers = new RegexExpressionMatchers();
+        parsed = new LinkedHashMap<Map.Entry<String, String>, Expression>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<Map.Entry<String, String>, Expression> eldest) {
+                return size() > maxCachedExpressions;
+            }
+        };
     }
 
     /**
@@ -101,7 +128,7 @@ public class RegexExpressionParser implements ExpressionParser {
                 }
             }
         } else {
-            compiledExpression = matchers.matches(expression, defaultRootObject, substitution);
+            compiledExpression = matchesAndCache(expression, defaultRootObject);
         }
 
         if (compiledExpression == null) {
@@ -110,4 +137,19 @@ public class RegexExpressionParser implements ExpressionParser {
 
         return compiledExpression;
     }
+
+    private Expression matchesAndCache(final String expression, final String defaultRootObject) {
+        final Map.Entry<String, String> key = new AbstractMap.SimpleImmutableEntry<>(defaultRootObject, expression);
+        synchronized (parsed) {
+            Expression compiled = parsed.get(key);
+            if (compiled == null) {
+                compiled = matchers.matches(expression, defaultRootObject, false);
+                if (compiled == null) {
+                    compiled = new ValueExpression(expression);
+                }
+                parsed.put(key, compiled);
+            }
+            return compiled;
+        }
+    }
 }
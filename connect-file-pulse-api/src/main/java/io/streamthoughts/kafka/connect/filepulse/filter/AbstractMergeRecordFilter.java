@@ -23,10 +23,10 @@ import io.streamthoughts.kafka.connect.filepulse.data.merger.TypeValueMerger;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 public abstract class AbstractMergeRecordFilter<T extends AbstractRecordFilter> extends AbstractRecordFilter<T> {
 
@@ -50,10 +50,15 @@ public abstract class AbstractMergeRecordFilter<T extends AbstractRecordFilter>
 
         final RecordsIterable<TypedStruct> filtered = apply(context, record);
 
-        final List<TypedStruct> merged = filtered
-                .stream()
-                .map(r -> merger.merge(record, r, overwrite()))
-                .collect(Collectors.toList());
+        if (filtered.size() == 1) {
+            // the input record is not used anymore, thus the output can be merged into it.
+            return RecordsIterable.of(merger.mergeInto(record, filtered.last(), overwrite()));
+        }
+
+        final List<TypedStruct> merged = new ArrayList<>(filtered.size());
+        for (TypedStruct r : filtered) {
+            merged.add(merger.merge(record, r, overwrite()));
+        }
         return new RecordsIterable<>(merged);
     }
 
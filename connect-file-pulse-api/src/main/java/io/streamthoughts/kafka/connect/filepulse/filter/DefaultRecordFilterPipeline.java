@@ -28,13 +28,14 @@ import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRecord<TypedStruct>> {
 
@@ -42,10 +43,17 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
 
     private final FilterNode rootNode;
 
+    /**
+     * The context re-initialized for each record pushed through this pipeline.
+     */
+    private final InternalFilterContext recordContext = new InternalFilterContext();
+
     private FileContext context;
 
     /**
      * Creates a new {@link RecordFilterPipeline} instance.
+     * Consecutive {@link StatelessRecordFilter}s are fused into a single node.
+     *
      * @param filters   the list of filters.
      */
     public DefaultRecordFilterPipeline(final List<RecordFilter> filters) {
@@ -53,8 +61,21 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
 
         ListIterator<RecordFilter> filterIterator = filters.listIterator(filters.size());
         FilterNode next = null;
+        final LinkedList<StatelessRecordFilter> stateless = new LinkedList<>();
         while (filterIterator.hasPrevious()) {
-            next = new FilterNode(filterIterator.previous(), next);
+            final RecordFilter filter = filterIterator.previous();
+            if (filter instanceof StatelessRecordFilter) {
+                stateless.addFirst((StatelessRecordFilter) filter);
+                continue;
+            }
+            if (!stateless.isEmpty()) {
+                next = new FusedFilterNode(stateless, next);
+                stateless.clear();
+            }
+            next = new FilterNode(filter, next);
+        }
+        if (!stateless.isEmpty()) {
+            next = new FusedFilterNode(stateless, next);
         }
         rootNode = next;
     }
@@ -67,13 +88,15 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
         this.context = context;
         FilterNode node = rootNode;
         while (node != null) {
-            // Initialize on failure pipeline
-            RecordFilterPipeline<FileRecord<TypedStruct>> pipelineOnFailure = node.filter.onFailure();
-            if (pipelineOnFailure != null) {
-                pipelineOnFailure.init(context);
+            for (RecordFilter filter : node.filters()) {
+                // Initialize on failure pipeline
+                RecordFilterPipeline<FileRecord<TypedStruct>> pipelineOnFailure = filter.onFailure();
+                if (pipelineOnFailure != null) {
+                    pipelineOnFailure.init(context);
+                }
+                // Prepare filter for next input file.
+                filter.clear();
             }
-            // Prepare filter for next input file.
-            node.filter.clear();
             node = node.onSuccess;
         }
     }
@@ -90,26 +113,17 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
             return records;
         }
 
-        List<FileRecord<TypedStruct>> results = new LinkedList<>();
+        final List<FileRecord<TypedStruct>> results = new ArrayList<>(records.size());
         final Iterator<FileRecord<TypedStruct>> iterator = records.iterator();
         while (iterator.hasNext()) {
             FileRecord<TypedStruct> record = iterator.next();
             boolean doHasNext = hasNext || iterator.hasNext();
-            FilterContext context = getContextFor(record, this.context.metadata());
-            results.addAll(apply(context, record.value(), doHasNext));
+            recordContext.reset(this.context.metadata(), record.offset());
+            rootNode.apply(recordContext, record.value(), doHasNext, results);
         }
         return new RecordsIterable<>(results);
     }
 
-    private FilterContext getContextFor(final FileRecord<TypedStruct> record,
-                                        final SourceMetadata metadata) {
-        return FilterContextBuilder
-            .newBuilder()
-            .withMetadata(metadata)
-            .withOffset(record.offset())
-            .build();
-    }
-
     private void checkState() {
         if (context == null) {
             throw new IllegalStateException("Cannot apply this pipeline, no context initialized");
@@ -128,13 +142,21 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
                 new TypedFileRecord(context.offset(), record)
             );
         }
-        return rootNode.apply(context, record, hasNext);
+        final List<FileRecord<TypedStruct>> results = new ArrayList<>();
+        rootNode.apply(context, record, hasNext, results);
+        return results;
     }
 
     private class FilterNode {
 
-        private final RecordFilter filter;
-        private final FilterNode onSuccess;
+        final RecordFilter filter;
+        final FilterNode onSuccess;
+
+        /**
+         * The context passed to this node for each record forwarded by the previous one.
+         * Nodes are executed depth-first, so an instance is never in use twice at the same time.
+         */
+        private final InternalFilterContext context = new InternalFilterContext();
 
         /**
          * Creates a new {@link FilterNode} instance.
@@ -148,81 +170,104 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
             this.onSuccess = onSuccess;
         }
 
-        public List<FileRecord<TypedStruct>> apply(final FilterContext context,
-                                                   final TypedStruct record,
-                                                   final boolean hasNext) {
+        /**
+         * @return the filters executed by this node.
+         */
+        List<? extends RecordFilter> filters() {
+            return Collections.singletonList(filter);
+        }
 
-            final List<FileRecord<TypedStruct>> filtered = new LinkedList<>();
+        /**
+         * Applies the filter chain starting from this node on the given record.
+         *
+         * @param context   the record context.
+         * @param record    the record to be filtered.
+         * @param hasNext   flag to indicate if there is remaining records for the current input file.
+         * @param filtered  the list to which the filtered records are added.
+         */
+        void apply(final FilterContext context,
+                   final TypedStruct record,
+                   final boolean hasNext,
+                   final List<FileRecord<TypedStruct>> filtered) {
 
             if (filter.accept(context, record)) {
+                final RecordsIterable<TypedStruct> data;
                 try {
-                    RecordsIterable<TypedStruct> data = filter.apply(context, record, hasNext);
-                    List<FileRecord<TypedStruct>> records = data
-                        .stream()
-                        .map(s -> newRecordFor(context, s))
-                        .collect(Collectors.toList());
-                    filtered.addAll(records);
-
-                    if (onSuccess == null) {
-                        return filtered;
-                    }
-                    return filtered
-                        .stream()
-                        .flatMap(r ->
-                            onSuccess.apply(FilterContextBuilder.newBuilder(context).build(), r.value(), hasNext)
-                                     .stream()
-                        )
-                        .collect(Collectors.toList());
+                    data = filter.apply(context, record, hasNext);
                 // handle any error
-                } catch (final Exception e) {
+                } catch (final RuntimeException e) {
+                    onFailure(context, record, hasNext, filtered, e);
+                    return;
+                }
 
-                    if (filter.onFailure() == null && !filter.ignoreFailure()) {
-                        LOG.error(
-                            "Error occurred while executing filter '{}' on record='{}'",
-                            filter.label(),
-                            record);
-                        throw e;
+                if (onSuccess == null) {
+                    for (TypedStruct s : data) {
+                        filtered.add(newRecordFor(context, s));
                     }
-                    // Some filters can aggregate records which follow each other by maintaining internal buffers.
-                    // Those buffered records are expected to be returned at a certain point in time on the
-                    // invocation of the method apply.
-                    // When an error occurred, current record can be ignored or forward to an error pipeline.
-                    // Thus, following records can potentially trigger unexpected aggregates to be built.
-                    // To address that we force a flush of all records still buffered by the current filter.
-                    List<FileRecord<TypedStruct>> flushed = flush(context);
-                    filtered.addAll(flushed);
-
-                    if (filter.onFailure() != null) {
-                        final FilterContext errorContext = FilterContextBuilder.newBuilder(context)
-                                .withException(new FilterError(e.getLocalizedMessage(), filter.label()))
-                                .build();
-                        filtered.addAll(filter.onFailure().apply(errorContext, record, hasNext));
-                    } else {
-                        if (onSuccess != null) {
-                            filtered.addAll(onSuccess.apply(context, record, hasNext));
-                        } else {
-                            filtered.add(new TypedFileRecord(context.offset(), record));
-                        }
+                } else {
+                    for (TypedStruct s : data) {
+                        onSuccess.apply(onSuccess.contextFrom(context), s, hasNext, filtered);
                     }
-                    return filtered;
                 }
-
+                return;
             }
             // skip current filter and forward record to the next one.
             if (onSuccess != null) {
-                filtered.addAll(onSuccess.apply(context, record, hasNext));
+                onSuccess.apply(context, record, hasNext, filtered);
             } else {
                 if (!hasNext) {
-                    final List<FileRecord<TypedStruct>> flushed = flush(context);
-                    filtered.addAll(flushed);
+                    flush(context, filtered);
                 }
                 // add current record to filtered result.
                 filtered.add(new TypedFileRecord(context.offset(), record));
             }
-           return filtered;
         }
 
-        private TypedFileRecord newRecordFor(final FilterContext context, final TypedStruct s) {
+        private void onFailure(final FilterContext context,
+                               final TypedStruct record,
+                               final boolean hasNext,
+                               final List<FileRecord<TypedStruct>> filtered,
+                               final RuntimeException e) {
+            if (filter.onFailure() == null && !filter.ignoreFailure()) {
+                LOG.error(
+                    "Error occurred while executing filter '{}' on record='{}'",
+                    filter.label(),
+                    record);
+                throw e;
+            }
+            // Some filters can aggregate records which follow each other by maintaining internal buffers.
+            // Those buffered records are expected to be returned at a certain point in time on the
+            // invocation of the method apply.
+            // When an error occurred, current record can be ignored or forward to an error pipeline.
+            // Thus, following records can potentially trigger unexpected aggregates to be built.
+            // To address that we force a flush of all records still buffered by the current filter.
+            flush(context, filtered);
+
+            if (filter.onFailure() != null) {
+                final FilterContext errorContext = FilterContextBuilder.newBuilder(context)
+                        .withException(new FilterError(e.getLocalizedMessage(), filter.label()))
+                        .build();
+                filtered.addAll(filter.onFailure().apply(errorContext, record, hasNext));
+            } else {
+                if (onSuccess != null) {
+                    onSuccess.apply(context, record, hasNext, filtered);
+                } else {
+                    filtered.add(new TypedFileRecord(context.offset(), record));
+                }
+            }
+        }
+
+        FilterContext contextFrom(final FilterContext parent) {
+            context.reset(parent);
+            return context;
+        }
+
+        FilterContext contextFor(final FileRecord<TypedStruct> record, final SourceMetadata metadata) {
+            context.reset(metadata, record.offset());
+            return context;
+        }
+
+        TypedFileRecord newRecordFor(final FilterContext context, final TypedStruct s) {
             return new TypedFileRecord(context.offset(), s)
                     .withTopic(context.topic())
                     .withPartition(context.partition())
@@ -234,11 +279,10 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
         /**
          * Flush and apply the filter chain on any remaining records buffered by this.
          *
-         * @param context the filter context to be used.
+         * @param context   the filter context to be used.
+         * @param filtered  the list to which the filtered records are added.
          */
-        List<FileRecord<TypedStruct>> flush(final FilterContext context) {
-
-            final List<FileRecord<TypedStruct>> filtered = new LinkedList<>();
+        void flush(final FilterContext context, final List<FileRecord<TypedStruct>> filtered) {
 
             RecordsIterable<FileRecord<TypedStruct>> buffered = filter.flush();
 
@@ -247,13 +291,91 @@ public class DefaultRecordFilterPipeline implements RecordFilterPipeline<FileRec
                 while (iterator.hasNext()) {
                     final FileRecord<TypedStruct> record = iterator.next();
                     // create a new context for buffered records.
-                    final FilterContext renewedContext = getContextFor(record, context.metadata());
-                    filtered.addAll(onSuccess.apply(renewedContext, record.value(), iterator.hasNext()));
+                    final FilterContext renewedContext = onSuccess.contextFor(record, context.metadata());
+                    onSuccess.apply(renewedContext, record.value(), iterator.hasNext(), filtered);
                 }
             } else {
                 filtered.addAll(buffered.collect());
             }
-            return filtered;
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * A node executing a chain of {@link StatelessRecordFilter}s on a record, one after the other.
+     */
+    private class FusedFilterNode extends FilterNode {
+
+        private final StatelessRecordFilter[] stages;
+
+        /**
+         * Creates a new {@link FusedFilterNode} instance.
+         *
+         * @param stages       the filters to be fused.
+         * @param onSuccess    the next filter ot be apply on success.
+         */
+        private FusedFilterNode(final List<StatelessRecordFilter> stages,
+                                final FilterNode onSuccess) {
+            super(null, onSuccess);
+            this.stages = stages.toArray(new StatelessRecordFilter[0]);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        List<? extends RecordFilter> filters() {
+            return Arrays.asList(stages);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        void apply(final FilterContext context,
+                   final TypedStruct record,
+                   final boolean hasNext,
+                   final List<FileRecord<TypedStruct>> filtered) {
+            TypedStruct current = record;
+            boolean applied = false;
+            for (final StatelessRecordFilter stage : stages) {
+                applied = false;
+                if (!stage.accept(context, current)) {
+                    continue;
+                }
+                try {
+                    current = stage.filter(context, current);
+                } catch (final RuntimeException e) {
+                    if (stage.onFailure() == null && !stage.ignoreFailure()) {
+                        LOG.error(
+                            "Error occurred while executing filter '{}' on record='{}'",
+                            stage.label(),
+                            current);
+                        throw e;
+                    }
+                    if (stage.onFailure() != null) {
+                        final FilterContext errorContext = FilterContextBuilder.newBuilder(context)
+                            .withException(new FilterError(e.getLocalizedMessage(), stage.label()))
+                            .build();
+                        filtered.addAll(stage.onFailure().apply(errorContext, current, hasNext));
+                        return;
+                    }
+                    // skip the failing filter and forward record to the next one.
+                    continue;
+                }
+                if (current == null) {
+                    // record dropped.
+                    return;
+                }
+                applied = true;
+            }
+
+            if (onSuccess != null) {
+                onSuccess.apply(context, current, hasNext, filtered);
+            } else if (applied) {
+                filtered.add(newRecordFor(context, current));
+            } else {
+                filtered.add(new TypedFileRecord(context.offset(), current));
+            }
+        }
+    }
+}
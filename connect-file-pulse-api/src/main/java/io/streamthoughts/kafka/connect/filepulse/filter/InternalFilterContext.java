@@ -22,6 +22,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.internal.Environment;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.TimestampedRecordOffset;
 import org.apache.kafka.connect.header.ConnectHeaders;
 
 import java.util.HashMap;
@@ -88,6 +89,60 @@ public class InternalFilterContext extends Environment implements FilterContext
         this.variables = variables == null ? new HashMap<>() : new HashMap<>(variables);
     }
 
+    /**
+     * Creates a new empty {@link InternalFilterContext} instance which is intended to be
+     * re-initialized through the {@code reset} methods before each use.
+     */
+    InternalFilterContext() {
+        this.headers = new ConnectHeaders();
+        this.variables = new HashMap<>();
+    }
+
+    /**
+     * Resets this context for a new record read from the given source.
+     *
+     * @param metadata  the {@link SourceMetadata} instance.
+     * @param offset    the {@link FileRecordOffset} instance.
+     */
+    void reset(final SourceMetadata metadata, final FileRecordOffset offset) {
+        Objects.requireNonNull(metadata, "metadata can't be null");
+        Objects.requireNonNull(offset, "offset can't be null");
+        this.metadata = metadata;
+        this.offset = offset;
+        this.topic = null;
+        this.partition = null;
+        this.timestamp = offset instanceof TimestampedRecordOffset ?
+            ((TimestampedRecordOffset) offset).timestamp() : null;
+        this.key = null;
+        this.exception = null;
+        this.value = null;
+        // headers are attached by reference to the records built from this context.
+        this.headers = new ConnectHeaders();
+        this.variables.clear();
+    }
+
+    /**
+     * Resets this context with a copy of the given context.
+     *
+     * @param original  the {@link FilterContext} to copy.
+     */
+    void reset(final FilterContext original) {
+        this.metadata = original.metadata();
+        this.offset = original.offset();
+        this.topic = original.topic();
+        this.partition = original.partition();
+        this.timestamp = original.timestamp() == null && offset instanceof TimestampedRecordOffset ?
+            Long.valueOf(((TimestampedRecordOffset) offset).timestamp()) : original.timestamp();
+        this.key = original.key();
+        this.exception = original.error();
+        this.value = null;
+        this.headers = original.headers() == null ? new ConnectHeaders() : original.headers();
+        this.variables.clear();
+        if (original.variables() != null) {
+            this.variables.putAll(original.variables());
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.filter;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+
+/**
+ * A {@link RecordFilter} which does not maintain any state between records and which produces
+ * at most one record for each input record.
+ *
+ * Consecutive stateless filters are fused by the {@link DefaultRecordFilterPipeline} into a single stage
+ * that passes the record from one filter to the next without building intermediate {@code RecordsIterable}.
+ */
+public interface StatelessRecordFilter extends RecordFilter {
+
+    /**
+     * Filters the specified record.
+     *
+     * @param context   the filter execution context.
+     * @param record    the value to apply.
+     *
+     * @throws FilterException if an occurred while filtering input record.
+     * @return the output record, which can be the input record updated in place, or {@code null}
+     *         if the record must be dropped.
+     */
+    TypedStruct filter(final FilterContext context,
+                       final TypedStruct record) throws FilterException;
+}
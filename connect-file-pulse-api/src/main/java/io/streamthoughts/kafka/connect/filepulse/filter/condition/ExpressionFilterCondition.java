@@ -36,6 +36,8 @@ public class ExpressionFilterCondition implements FilterCondition {
 
     private final Expression expression;
 
+    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new Object());
+
     /**
      * Creates a new {@link ExpressionFilterCondition} instance.
      *
@@ -58,9 +60,7 @@ public class ExpressionFilterCondition implements FilterCondition {
         InternalFilterContext internalContext = (InternalFilterContext) context;
         internalContext.setValue(record);
 
-        final StandardEvaluationContext ec = new StandardEvaluationContext(
-                internalContext,
-                context.variables());
+        final StandardEvaluationContext ec = evaluationContext.reset(internalContext, context.variables());
 
         Object o = expression.readValue(ec);
 
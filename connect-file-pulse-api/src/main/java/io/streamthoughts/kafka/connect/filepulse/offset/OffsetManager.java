@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import org.apache.kafka.connect.source.SourceTaskContext;
@@ -35,8 +36,33 @@ public interface OffsetManager {
      * @param metadata      the source metadata.
      * @return a new {@link SourceOffset} instance.
      */
-    Optional<SourceOffset> getOffsetFor(final SourceTaskContext context, final SourceMetadata metadata);
+    default Optional<SourceOffset> getOffsetFor(final SourceTaskContext context, final SourceMetadata metadata) {
+        return getOffsetFor(context, metadata, null);
+    }
+
+    /**
+     * Retrieves the position for the specified context, metadata and split.
+     *
+     * @param context       the source task context.
+     * @param metadata      the source metadata.
+     * @param split         the file split, or {@code null} if the whole file is read.
+     * @return a new {@link SourceOffset} instance.
+     */
+    Optional<SourceOffset> getOffsetFor(final SourceTaskContext context,
+                                        final SourceMetadata metadata,
+                                        final FileSplit split);
 
+    /**
+     * Retrieves the boundaries of the split starting at the specified position, as committed with its offsets.
+     *
+     * @param context       the source task context.
+     * @param metadata      the source metadata.
+     * @param startPosition the start position of the split.
+     * @return the committed {@link FileSplit}, or {@link Optional#empty()} if no offset was committed for it.
+     */
+    Optional<FileSplit> getSplitFor(final SourceTaskContext context,
+                                    final SourceMetadata metadata,
+                                    final long startPosition);
 
     /**
      * Converts the specified {@link SourceOffset} into connect position map.
@@ -44,7 +70,19 @@ public interface OffsetManager {
      * @param offset  the {@link SourceOffset} to convert.
      * @return an {@link Map} instance.
      */
-    Map<String, ?> toOffsetMap(final SourceOffset offset);
+    default Map<String, ?> toOffsetMap(final SourceOffset offset) {
+        return toOffsetMap(offset, null);
+    }
+
+    /**
+     * Converts the specified {@link SourceOffset} and {@link FileSplit} into connect position map.
+     * The boundaries of the split are stored along with the position so that they can be reused on resume.
+     *
+     * @param offset  the {@link SourceOffset} to convert.
+     * @param split   the file split, or {@code null} if the whole file is read.
+     * @return an {@link Map} instance.
+     */
+    Map<String, ?> toOffsetMap(final SourceOffset offset, final FileSplit split);
 
     /**
      * Converts the specified {@link SourceMetadata} into connect partition map.
@@ -52,7 +90,18 @@ public interface OffsetManager {
      * @param metadata  the {@link SourceMetadata} to convert.
      * @return an {@link Map} instance.
      */
-    Map<String, ?> toPartitionMap(final SourceMetadata metadata);
+    default Map<String, ?> toPartitionMap(final SourceMetadata metadata) {
+        return toPartitionMap(metadata, null);
+    }
+
+    /**
+     * Converts the specified {@link SourceMetadata} and {@link FileSplit} into connect partition map.
+     *
+     * @param metadata  the {@link SourceMetadata} to convert.
+     * @param split     the file split, or {@code null} if the whole file is read.
+     * @return an {@link Map} instance.
+     */
+    Map<String, ?> toPartitionMap(final SourceMetadata metadata, final FileSplit split);
 
     default String toPartitionJson(final SourceMetadata metadata) {
         final Map<String, ?> partition = toPartitionMap(metadata);
@@ -21,8 +21,12 @@ package io.streamthoughts.kafka.connect.filepulse.reader;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import org.apache.kafka.common.Configurable;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -48,6 +52,17 @@ public interface FileInputReader extends Configurable, AutoCloseable {
      */
     FileInputIterator<FileRecord<TypedStruct>> newIterator(final FileContext context);
 
+    /**
+     * Computes the splits of the specified file that can be read independently.
+     * An iterator for a split can be created by passing a {@link FileContext} holding that split.
+     *
+     * @param metadata  the metadata of the file to split.
+     * @return          the list of {@link FileSplit}, or an empty list if the file should be read as a whole.
+     */
+    default List<FileSplit> splits(final SourceMetadata metadata) {
+        return Collections.emptyList();
+    }
+
     /**
      * Close this reader and any remaining un-close iterators.
      */
@@ -20,6 +20,8 @@ package io.streamthoughts.kafka.connect.filepulse.scanner;
 
 import org.apache.kafka.connect.connector.ConnectorContext;
 
+import java.io.File;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -34,6 +36,17 @@ public interface FileSystemScanner {
      */
     void scan(final ConnectorContext context);
 
+    /**
+     * Run a scan limited to the specified entries, which were created into the file system.
+     * By default, the whole file system is scanned.
+     *
+     * @param context   the connector context.
+     * @param created   the new files or directories.
+     */
+    default void scan(final ConnectorContext context, final Collection<File> created) {
+        scan(context);
+    }
+
     /**
      * Gets newest files found during last scan partitioned for the specified number of groups.
      *
@@ -30,6 +30,8 @@ public class FileContext {
 
     private final SourceOffset offset;
 
+    private final FileSplit split;
+
     /**
      * Creates a new {@link FileContext} instance.
      *
@@ -47,10 +49,24 @@ public class FileContext {
      */
     public FileContext(final SourceMetadata metadata,
                        final SourceOffset offset) {
+        this(metadata, offset, null);
+    }
+
+    /**
+     * Creates a new {@link FileContext} instance.
+     *
+     * @param metadata  the source metadata.
+     * @param offset    the source startPosition.
+     * @param split     the split of the file to read, or {@code null} to read the whole file.
+     */
+    public FileContext(final SourceMetadata metadata,
+                       final SourceOffset offset,
+                       final FileSplit split) {
         Objects.requireNonNull(metadata, "metadata can't be null");
         Objects.requireNonNull(offset, "startPosition can't be null");
         this.metadata = metadata;
         this.offset = offset;
+        this.split = split;
     }
 
     /**
@@ -79,9 +95,18 @@ public class FileContext {
     public SourceOffset offset() {
         return offset;
     }
-    
+
+    /**
+     * Returns the split of this file to be read.
+     *
+     * @return the {@link FileSplit} instance, or {@code null} if the whole file is read.
+     */
+    public FileSplit split() {
+        return split;
+    }
+
     public FileContext withOffset(final SourceOffset offset) {
-        return new FileContext(metadata, offset);
+        return new FileContext(metadata, offset, split);
     }
 
     /**
@@ -93,7 +118,8 @@ public class FileContext {
         if (!(o instanceof FileContext)) return false;
         FileContext that = (FileContext) o;
         return Objects.equals(metadata, that.metadata) &&
-                Objects.equals(offset, that.offset);
+                Objects.equals(offset, that.offset) &&
+                Objects.equals(split, that.split);
     }
 
     /**
@@ -101,7 +127,7 @@ public class FileContext {
      */
     @Override
     public int hashCode() {
-        return Objects.hash(metadata, offset);
+        return Objects.hash(metadata, offset, split);
     }
 
     @Override
@@ -109,6 +135,7 @@ public class FileContext {
         return "[" +
                 "metadata=" + metadata +
                 ", offset=" + offset +
+                ", split=" + split +
                 ']';
     }
 }
\ No newline at end of file
@@ -36,6 +36,7 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
 
     private final File file;
     private final FileInputReader reader;
+    private final FileSplit split;
     private SourceMetadata metadata;
     private FileInputIterator<FileRecord<TypedStruct>> iterator;
 
@@ -48,10 +49,22 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
      * @param reader the input source reader used to create a new {@link FileInputIterator}.
      */
     FileInputIterable(final File source, final FileInputReader reader) {
+        this(source, reader, null);
+    }
+
+    /**
+     * Creates a new {@link FileInputIterable} instance.
+     *
+     * @param source the input source file.
+     * @param reader the input source reader used to create a new {@link FileInputIterator}.
+     * @param split  the split of the file to read, or {@code null} to read the whole file.
+     */
+    FileInputIterable(final File source, final FileInputReader reader, final FileSplit split) {
         Objects.requireNonNull(source, "source can't be null");
         Objects.requireNonNull(reader, "reader can't be null");
         this.file = source;
         this.reader = reader;
+        this.split = split;
         this.metadata = SourceMetadata.fromFile(source);
     }
 
@@ -62,8 +75,8 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
      * @return a new {@link FileInputIterator} instance.
      */
     public FileInputIterator<FileRecord<TypedStruct>> open(final SourceOffset offset) {
-        LOG.info("Opening new iterator for source : {}", metadata);
-        iterator = reader.newIterator(new FileContext(metadata));
+        LOG.info("Opening new iterator for source : {} (split={})", metadata, split);
+        iterator = reader.newIterator(new FileContext(metadata, SourceOffset.empty(), split));
         iterator.seekTo(offset);
         isOpen.set(true);
         return iterator;
@@ -73,6 +86,10 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
         return metadata;
     }
 
+    public FileSplit split() {
+        return split;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -113,4 +130,14 @@ public class FileInputIterable implements Iterable<RecordsIterable<FileRecord<Ty
                 committedOffset.position() >= metadata.size();
     }
 
+    static boolean isAlreadyCompleted(final SourceOffset committedOffset,
+                                      final SourceMetadata metadata,
+                                      final FileSplit split) {
+        if (split == null) {
+            return isAlreadyCompleted(committedOffset, metadata);
+        }
+        return committedOffset != null &&
+                committedOffset.position() >= Math.min(split.endPosition(), metadata.size());
+    }
+
 }
\ No newline at end of file
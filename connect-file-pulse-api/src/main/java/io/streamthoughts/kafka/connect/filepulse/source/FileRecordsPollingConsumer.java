@@ -19,12 +19,17 @@
 package io.streamthoughts.kafka.connect.filepulse.source;
 
 
-import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+
+import java.util.Iterator;
 
 /**
+ * Consumes the records of the files to be processed by a task.
  *
+ * Unlike a {@link io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator}, a consumer reads
+ * several files, so it cannot be positioned to a single offset.
  */
-public interface FileRecordsPollingConsumer<T> extends FileInputIterator<T> {
+public interface FileRecordsPollingConsumer<T> extends Iterator<RecordsIterable<T>> {
 
     /**
      * Returns the context for the last record return from the {@link #next()} method.
@@ -34,6 +39,28 @@ public interface FileRecordsPollingConsumer<T> extends FileInputIterator<T> {
      */
     FileContext context();
 
+    /**
+     * Reads the next records from the files to be consumed.
+     */
+    RecordsIterable<T> next();
+
+    /**
+     * Checks whether there are more records to read.
+     * @return {@code true} if some files are still to be consumed.
+     */
+    boolean hasNext();
+
+    /**
+     * Close the consumer and all the files being read.
+     */
+    void close();
+
+    /**
+     * Checks whether this consumer is already close.
+     * @return {@code true} if this consumer is close.
+     */
+    boolean isClose();
+
     /**
      * Sets a state listener.
      *
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import java.util.Objects;
+
+/**
+ * Immutable class which is used to describe a range of bytes of an input file that can be read independently.
+ *
+ * A split always starts at the beginning of a record (e.g. a line) and is identified by its start position.
+ */
+public class FileSplit {
+
+    /**
+     * The end position used for the last split of a file.
+     */
+    public static final long UNBOUNDED = Long.MAX_VALUE;
+
+    private final long startPosition;
+
+    private final long endPosition;
+
+    /**
+     * Creates a new {@link FileSplit} instance.
+     *
+     * @param startPosition the position of the first byte of this split (inclusive).
+     * @param endPosition   the position of the last byte of this split (exclusive).
+     */
+    public FileSplit(final long startPosition, final long endPosition) {
+        if (startPosition < 0 || endPosition < startPosition) {
+            throw new IllegalArgumentException(
+                "Invalid split [" + startPosition + ", " + endPosition + "]");
+        }
+        this.startPosition = startPosition;
+        this.endPosition = endPosition;
+    }
+
+    /**
+     * Returns the identifier of this split.
+     *
+     * @return the string identifier.
+     */
+    public String id() {
+        return idOf(startPosition);
+    }
+
+    /**
+     * Returns the identifier of the split starting at the specified position.
+     *
+     * @param startPosition the position of the first byte of the split.
+     * @return the string identifier.
+     */
+    public static String idOf(final long startPosition) {
+        return String.valueOf(startPosition);
+    }
+
+    /**
+     * Returns the position of the first byte of this split.
+     *
+     * @return the start position.
+     */
+    public long startPosition() {
+        return startPosition;
+    }
+
+    /**
+     * Returns the position of the first byte after this split.
+     *
+     * @return the end position, or {@link #UNBOUNDED} for the last split of a file.
+     */
+    public long endPosition() {
+        return endPosition;
+    }
+
+    /**
+     * Checks whether the specified position is beyond this split.
+     *
+     * @param position  the position to check.
+     * @return {@code true} if the position is greater than or equal to the end of this split.
+     */
+    public boolean isAfterEnd(final long position) {
+        return position >= endPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof FileSplit)) return false;
+        FileSplit that = (FileSplit) o;
+        return startPosition == that.startPosition &&
+                endPosition == that.endPosition;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(startPosition, endPosition);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "startPosition=" + startPosition +
+                ", endPosition=" + endPosition +
+                ']';
+    }
+}
@@ -19,7 +19,6 @@
 package io.streamthoughts.kafka.connect.filepulse.source.internal;
 
 import io.streamthoughts.kafka.connect.filepulse.data.ArraySchema;
-import io.streamthoughts.kafka.connect.filepulse.data.DataException;
 import io.streamthoughts.kafka.connect.filepulse.data.MapSchema;
 import io.streamthoughts.kafka.connect.filepulse.data.SchemaMapper;
 import io.streamthoughts.kafka.connect.filepulse.data.SchemaMapperWithValue;
@@ -27,32 +26,62 @@ import io.streamthoughts.kafka.connect.filepulse.data.SimpleSchema;
 import io.streamthoughts.kafka.connect.filepulse.data.StructSchema;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
-import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
-import org.apache.kafka.connect.data.Field;
 import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.SchemaBuilder;
-import org.apache.kafka.connect.data.Struct;
 
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWithValue<SchemaAndValue> {
 
     private static final Object DEFAULT_NULL_VALUE = null;
 
+    private static final int DEFAULT_MAX_CACHED_SCHEMAS = 1000;
+
     public static final ConnectSchemaMapper INSTANCE = new ConnectSchemaMapper();
 
+    private static final SchemaMapper<Schema> BUILDER = new ConnectSchemaBuilder();
+
+    /**
+     * Connect schemas already built for a struct, keyed on the structural fingerprint of the {@link StructSchema}.
+     * Records sharing the same shape get the same {@link Schema} instance, so that downstream converters
+     * can rely on identity-based caches, and are converted using the same compiled {@link ConnectStructWriter}.
+     *
+     * The fingerprint is only computed for {@link StructSchema} instances that have not been mapped yet, or that
+     * have been modified since; otherwise the compiled schema is directly retrieved from the schema instance.
+     */
+    private final Map<String, CompiledSchema> schemas;
+
+    private final int maxCachedSchemas;
+
+    /**
+     * Creates a new {@link ConnectSchemaMapper} instance.
+     */
+    public ConnectSchemaMapper() {
+        this(DEFAULT_MAX_CACHED_SCHEMAS);
+    }
+
+    /**
+     * Creates a new {@link ConnectSchemaMapper} instance.
+     *
+     * @param maxCachedSchemas  the maximum number of connect schemas to keep in cache; the cache is cleared
+     *                          when this number is reached.
+     */
+    public ConnectSchemaMapper(final int maxCachedSchemas) {
+        this.schemas = new ConcurrentHashMap<>();
+        this.maxCachedSchemas = maxCachedSchemas;
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public Schema map(final MapSchema schema) {
-        final Schema keySchema = schema.keySchema().map(this);
-        final Schema valueSchema = schema.valueSchema().map(this);
-        return asNullableAndOptional(SchemaBuilder.map(keySchema, valueSchema)).build();
+        return BUILDER.map(schema);
     }
 
     /**
@@ -60,8 +89,7 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final ArraySchema schema) {
-        Schema valueSchema = schema.valueSchema().map(this);
-        return asNullableAndOptional(SchemaBuilder.array(valueSchema)).build();
+        return BUILDER.map(schema);
     }
 
     /**
@@ -69,25 +97,28 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final StructSchema schema) {
-        SchemaBuilder sb = SchemaBuilder.struct();
+        return compile(schema).schema;
+    }
 
-        String schemaName = schema.name();
-        if (schemaName != null) {
-            if (schema.namespace() != null) {
-                schemaName = schema.namespace() + "." + schemaName;
+    private CompiledSchema compile(final StructSchema schema) {
+        final Object attachment = schema.attachment();
+        if (attachment instanceof AttachedSchema) {
+            final AttachedSchema attached = (AttachedSchema) attachment;
+            if (attached.mapper == this && attached.isUpToDate()) {
+                return attached.compiled;
             }
-            sb.name(schemaName);
         }
 
-        if (schema.doc() != null) {
-            sb.doc(schema.doc());
-        }
-
-        for(final TypedField field : schema) {
-            sb.field(field.name(), field.schema().map(this)).optional();
+        final String fingerprint = new SchemaFingerprint().map(schema).toString();
+        CompiledSchema compiled = schemas.get(fingerprint);
+        if (compiled == null) {
+            if (schemas.size() >= maxCachedSchemas) {
+                schemas.clear();
+            }
+            compiled = schemas.computeIfAbsent(fingerprint, k -> new CompiledSchema(BUILDER.map(schema)));
         }
-
-        return sb.build();
+        schema.attach(new AttachedSchema(this, compiled, new StructSchemaCollector().map(schema)));
+        return compiled;
     }
 
     /**
@@ -95,11 +126,7 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public Schema map(final SimpleSchema schema) {
-        return asNullableAndOptional(new SchemaBuilder(schema.type().schemaType())).build();
-    }
-
-    private static SchemaBuilder asNullableAndOptional(final SchemaBuilder sb) {
-        return sb.optional().defaultValue(DEFAULT_NULL_VALUE);
+        return BUILDER.map(schema);
     }
 
     /**
@@ -126,8 +153,8 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
      */
     @Override
     public SchemaAndValue map(final StructSchema schema, final TypedStruct struct) {
-        final Schema connectSchema = schema.map(this);
-        return new SchemaAndValue(connectSchema, toConnectStruct(connectSchema, struct));
+        final CompiledSchema compiled = compile(schema);
+        return new SchemaAndValue(compiled.schema, compiled.writer.write(struct));
     }
 
     /**
@@ -138,84 +165,219 @@ public class ConnectSchemaMapper implements SchemaMapper<Schema>, SchemaMapperWi
         return new SchemaAndValue(schema.map(this), value);
     }
 
-    private static Struct toConnectStruct(final Schema connectSchema, final TypedStruct struct) {
-        final Struct connectStruct = new Struct(connectSchema);
-        for (Field field : connectSchema.fields()) {
+    private static class CompiledSchema {
+
+        private final Schema schema;
+        private final ConnectStructWriter writer;
 
-            final String fieldName = connectSchema.name();
-            final boolean isOptional = field.schema().isOptional();
-            if (!struct.has(field.name())) {
-                if (!isOptional) {
-                    throw new DataException(
-                        "Failed to convert record to connect data. " +
-                        "Missing required field '" + field.name() + "' for record '" + fieldName + "'"
-                    );
+        CompiledSchema(final Schema schema) {
+            this.schema = schema;
+            this.writer = ConnectStructWriter.compile(schema);
+        }
+    }
+
+    /**
+     * A {@link CompiledSchema} attached to a {@link StructSchema} instance, together with the versions
+     * of that schema and of all its nested struct schemas at the time it was compiled.
+     */
+    private static class AttachedSchema {
+
+        private final ConnectSchemaMapper mapper;
+        private final CompiledSchema compiled;
+        private final StructSchema[] structs;
+        private final int[] versions;
+
+        AttachedSchema(final ConnectSchemaMapper mapper,
+                       final CompiledSchema compiled,
+                       final List<StructSchema> structs) {
+            this.mapper = mapper;
+            this.compiled = compiled;
+            this.structs = structs.toArray(new StructSchema[0]);
+            this.versions = new int[this.structs.length];
+            for (int i = 0; i < this.structs.length; i++) {
+                versions[i] = this.structs[i].version();
+            }
+        }
+
+        boolean isUpToDate() {
+            for (int i = 0; i < structs.length; i++) {
+                if (structs[i].version() != versions[i]) {
+                    return false;
                 }
-                continue;
             }
+            return true;
+        }
+    }
 
-            TypedValue typed = struct.get(field.name());
-            final Schema fieldSchema = field.schema();
+    /**
+     * Collects a struct schema and all the struct schemas nested into it.
+     */
+    private static class StructSchemaCollector implements SchemaMapper<List<StructSchema>> {
 
-            final Schema.Type dataSchemaType = typed.type().schemaType();
+        private final List<StructSchema> structs = new ArrayList<>();
 
-            if (fieldSchema.type() != dataSchemaType) {
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<StructSchema> map(final MapSchema schema) {
+            schema.keySchema().map(this);
+            return schema.valueSchema().map(this);
+        }
 
-                if (!fieldSchema.type().equals(Schema.Type.ARRAY)) {
-                    throw new DataException("Failed to convert record field '" + fieldName + "' to connect data. " +
-                        "Types do not match " + fieldSchema.type() + "<>" + typed.type());
-                }
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<StructSchema> map(final ArraySchema schema) {
+            return schema.valueSchema().map(this);
+        }
 
-                Schema.Type arrayValueType = fieldSchema.valueSchema().type();
-                if (!arrayValueType.equals(dataSchemaType)) {
-                    throw new DataException("Failed to convert record field '" + fieldName + "' to connect data. " +
-                        "Types do not match Array[" + arrayValueType + "]<>Array[" + typed.type() + "]");
-                }
-                typed = TypedValue.array(Collections.singleton(typed.value()), typed.schema());
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<StructSchema> map(final StructSchema schema) {
+            structs.add(schema);
+            for (final TypedField field : schema) {
+                field.schema().map(this);
             }
-            connectStruct.put(field, toConnectObject(fieldSchema, typed));
+            return structs;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public List<StructSchema> map(final SimpleSchema schema) {
+            return structs;
         }
-        return connectStruct;
     }
 
-    private static Object toConnectObject(final Schema schema, final TypedValue typed) {
-        if (schema.type() != typed.type().schemaType()) {
-            throw new DataException("types do not match " + schema.type() + "<>" + typed.type());
+    /**
+     * Builds a new connect {@link Schema} for each invocation.
+     */
+    private static class ConnectSchemaBuilder implements SchemaMapper<Schema> {
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Schema map(final MapSchema schema) {
+            final Schema keySchema = schema.keySchema().map(this);
+            final Schema valueSchema = schema.valueSchema().map(this);
+            return asNullableAndOptional(SchemaBuilder.map(keySchema, valueSchema)).build();
         }
 
-        if (schema.type() == Schema.Type.STRUCT) {
-            return toConnectStruct(schema, typed.value());
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Schema map(final ArraySchema schema) {
+            Schema valueSchema = schema.valueSchema().map(this);
+            return asNullableAndOptional(SchemaBuilder.array(valueSchema)).build();
         }
 
-        if (schema.type() == Schema.Type.MAP) {
-            final Schema connectValueSchema = schema.valueSchema();
-            final Schema connectKeySchema = schema.keySchema();
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Schema map(final StructSchema schema) {
+            SchemaBuilder sb = SchemaBuilder.struct();
+
+            String schemaName = schema.name();
+            if (schemaName != null) {
+                if (schema.namespace() != null) {
+                    schemaName = schema.namespace() + "." + schemaName;
+                }
+                sb.name(schemaName);
+            }
+
+            if (schema.doc() != null) {
+                sb.doc(schema.doc());
+            }
 
-            final io.streamthoughts.kafka.connect.filepulse.data.Schema valueSchema =
-                    ((MapSchema) typed.schema()).valueSchema();
-            final io.streamthoughts.kafka.connect.filepulse.data.Schema keySchema =
-                    ((MapSchema) typed.schema()).keySchema();
+            for(final TypedField field : schema) {
+                sb.field(field.name(), field.schema().map(this)).optional();
+            }
 
-            return typed.getMap().entrySet()
-                .stream()
-                .collect(Collectors.toMap(
-                    e -> toConnectObject(connectKeySchema, TypedValue.of(e.getKey(), keySchema)),
-                    e -> toConnectObject(connectValueSchema, TypedValue.of(e.getValue(), valueSchema))
-                    )
-                );
+            return sb.build();
         }
 
-        if (schema.type() == Schema.Type.ARRAY) {
-            final Schema connectValueSchema = schema.valueSchema();
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public Schema map(final SimpleSchema schema) {
+            return asNullableAndOptional(new SchemaBuilder(schema.type().schemaType())).build();
+        }
+
+        private static SchemaBuilder asNullableAndOptional(final SchemaBuilder sb) {
+            return sb.optional().defaultValue(DEFAULT_NULL_VALUE);
+        }
+    }
 
-            final io.streamthoughts.kafka.connect.filepulse.data.Schema valueSchema =
-                    ((ArraySchema) typed.schema()).valueSchema();
+    /**
+     * Writes an unambiguous textual representation of a schema tree; two schemas having the same
+     * fingerprint are mapped to equal connect schemas.
+     */
+    private static class SchemaFingerprint implements SchemaMapper<StringBuilder> {
+
+        private final StringBuilder sb = new StringBuilder();
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StringBuilder map(final MapSchema schema) {
+            sb.append('<');
+            schema.keySchema().map(this);
+            sb.append(',');
+            schema.valueSchema().map(this);
+            return sb.append('>');
+        }
 
-            return typed.getArray()
-                .stream()
-                .map(e -> toConnectObject(connectValueSchema, TypedValue.of(e, valueSchema)))
-                .collect(Collectors.toList());
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StringBuilder map(final ArraySchema schema) {
+            sb.append('[');
+            schema.valueSchema().map(this);
+            return sb.append(']');
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StringBuilder map(final StructSchema schema) {
+            sb.append('{');
+            appendString(schema.namespace());
+            appendString(schema.name());
+            appendString(schema.doc());
+            for (final TypedField field : schema) {
+                appendString(field.name());
+                field.schema().map(this);
+            }
+            return sb.append('}');
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public StringBuilder map(final SimpleSchema schema) {
+            return sb.append(schema.type().ordinal()).append(';');
+        }
+
+        private void appendString(final String s) {
+            if (s == null) {
+                sb.append('-');
+            } else {
+                // length-prefixed so that names containing separators cannot collide.
+                sb.append(s.length()).append(':').append(s);
+            }
         }
-        return typed.value();
     }
 }
@@ -0,0 +1,188 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.data.DataException;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import org.apache.kafka.connect.data.Field;
+import org.apache.kafka.connect.data.Schema;
+import org.apache.kafka.connect.data.Struct;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Converts {@link TypedStruct} instances into connect {@link Struct} for a given connect {@link Schema}.
+ *
+ * The conversion plan (connect field and value converter for each field position) is compiled once per schema,
+ * so that structs declaring their fields in the same order as the schema are converted without any name lookup.
+ * Other structs are converted by looking up each field by name.
+ */
+class ConnectStructWriter {
+
+    @FunctionalInterface
+    private interface ValueConverter {
+        Object convert(final Object value);
+    }
+
+    private static final ValueConverter IDENTITY = value -> value;
+
+    private final Schema schema;
+    private final Field[] fields;
+    private final ValueConverter[] converters;
+
+    /**
+     * Compiles a new {@link ConnectStructWriter} for the given schema.
+     *
+     * @param schema    the connect {@link Schema} of type STRUCT.
+     * @return          a new {@link ConnectStructWriter} instance.
+     */
+    static ConnectStructWriter compile(final Schema schema) {
+        return new ConnectStructWriter(schema);
+    }
+
+    private ConnectStructWriter(final Schema schema) {
+        this.schema = schema;
+        final List<Field> schemaFields = schema.fields();
+        this.fields = schemaFields.toArray(new Field[0]);
+        this.converters = new ValueConverter[fields.length];
+        for (int i = 0; i < fields.length; i++) {
+            converters[i] = compileConverter(fields[i].schema());
+        }
+    }
+
+    /**
+     * Converts the given struct.
+     *
+     * @param struct    the {@link TypedStruct} to convert.
+     * @return          a new {@link Struct} instance.
+     */
+    Struct write(final TypedStruct struct) {
+        final Struct connectStruct = new Struct(schema);
+        if (struct.schema().size() == fields.length && writeAligned(struct, connectStruct)) {
+            return connectStruct;
+        }
+
+        for (int i = 0; i < fields.length; i++) {
+            final String fieldName = fields[i].name();
+            if (!struct.has(fieldName)) {
+                if (!fields[i].schema().isOptional()) {
+                    throw new DataException(
+                        "Failed to convert record to connect data. " +
+                        "Missing required field '" + fieldName + "' for record '" + schema.name() + "'"
+                    );
+                }
+                continue;
+            }
+            final TypedField field = struct.field(fieldName);
+            writeField(connectStruct, i, field, struct.value(field));
+        }
+        return connectStruct;
+    }
+
+    private boolean writeAligned(final TypedStruct struct, final Struct connectStruct) {
+        int i = 0;
+        for (final TypedField field : struct) {
+            if (!fields[i].name().equals(field.name())) {
+                return false;
+            }
+            writeField(connectStruct, i, field, struct.value(field));
+            i++;
+        }
+        return true;
+    }
+
+    private void writeField(final Struct connectStruct,
+                            final int position,
+                            final TypedField field,
+                            final Object value) {
+        if (value == null) {
+            return;
+        }
+        final Schema fieldSchema = fields[position].schema();
+        final Schema.Type dataSchemaType = field.type().schemaType();
+
+        Object connectValue = value;
+        if (fieldSchema.type() != dataSchemaType) {
+            if (fieldSchema.type() != Schema.Type.ARRAY) {
+                throw new DataException("Failed to convert record field '" + schema.name() + "' to connect data. " +
+                    "Types do not match " + fieldSchema.type() + "<>" + field.type());
+            }
+            final Schema.Type arrayValueType = fieldSchema.valueSchema().type();
+            if (arrayValueType != dataSchemaType) {
+                throw new DataException("Failed to convert record field '" + schema.name() + "' to connect data. " +
+                    "Types do not match Array[" + arrayValueType + "]<>Array[" + field.type() + "]");
+            }
+            connectValue = Collections.singletonList(value);
+        }
+        connectStruct.put(fields[position], converters[position].convert(connectValue));
+    }
+
+    private static ValueConverter compileConverter(final Schema schema) {
+        switch (schema.type()) {
+            case STRUCT:
+                final ConnectStructWriter writer = new ConnectStructWriter(schema);
+                return value -> writer.write((TypedStruct) value);
+            case ARRAY:
+                return compileArrayConverter(compileConverter(schema.valueSchema()));
+            case MAP:
+                return compileMapConverter(
+                    compileConverter(schema.keySchema()),
+                    compileConverter(schema.valueSchema())
+                );
+            default:
+                return IDENTITY;
+        }
+    }
+
+    private static ValueConverter compileArrayConverter(final ValueConverter valueConverter) {
+        if (valueConverter == IDENTITY) {
+            return value -> value instanceof List ? value : new ArrayList<>((Collection<?>) value);
+        }
+        return value -> {
+            final Collection<?> collection = (Collection<?>) value;
+            final List<Object> converted = new ArrayList<>(collection.size());
+            for (Object o : collection) {
+                converted.add(o == null ? null : valueConverter.convert(o));
+            }
+            return converted;
+        };
+    }
+
+    private static ValueConverter compileMapConverter(final ValueConverter keyConverter,
+                                                      final ValueConverter valueConverter) {
+        if (keyConverter == IDENTITY && valueConverter == IDENTITY) {
+            return IDENTITY;
+        }
+        return value -> {
+            final Map<?, ?> map = (Map<?, ?>) value;
+            final Map<Object, Object> converted = new HashMap<>(Math.max(16, (int) (map.size() / 0.75f) + 1));
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                final Object v = entry.getValue();
+                converted.put(keyConverter.convert(entry.getKey()), v == null ? null : valueConverter.convert(v));
+            }
+            return converted;
+        };
+    }
+}
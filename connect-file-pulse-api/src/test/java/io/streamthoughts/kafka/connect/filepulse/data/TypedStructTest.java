@@ -83,4 +83,49 @@ public class TypedStructTest {
         assertFalse(struct.has(STRING_FIELD_1));
         assertTrue(struct.has(STRING_FIELD_2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldKeepValuesAlignedWithFieldsAfterRemove() {
+        final TypedStruct struct = TypedStruct.create()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2)
+                .put(STRING_FIELD_3, STRING_VALUE_3);
+
+        struct.remove(STRING_FIELD_1);
+
+        assertEquals(STRING_VALUE_2, struct.getString(STRING_FIELD_2));
+        assertEquals(STRING_VALUE_3, struct.getString(STRING_FIELD_3));
+        assertEquals(Schema.string(), struct.field(STRING_FIELD_3).schema());
+
+        struct.put(STRING_FIELD_1, STRING_VALUE_1);
+        assertEquals(2, struct.field(STRING_FIELD_1).index());
+        assertEquals(STRING_VALUE_1, struct.getString(STRING_FIELD_1));
+    }
+
+    @Test
+    public void shouldGrowGivenManyFields() {
+        final TypedStruct struct = TypedStruct.create();
+        for (int i = 0; i < 256; i++) {
+            struct.put("field-" + i, "value-" + i);
+        }
+        struct.put("field-128", "updated");
+
+        assertEquals(256, struct.schema().size());
+        assertEquals("value-0", struct.getString("field-0"));
+        assertEquals("updated", struct.getString("field-128"));
+        assertEquals("value-255", struct.getString("field-255"));
+    }
+
+    @Test
+    public void shouldBeEqualGivenSameFieldsAndValues() {
+        final TypedStruct s1 = TypedStruct.create()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2);
+        final TypedStruct s2 = TypedStruct.create()
+                .put(STRING_FIELD_1, STRING_VALUE_1)
+                .put(STRING_FIELD_2, STRING_VALUE_2);
+
+        assertEquals(s1, s2);
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+}
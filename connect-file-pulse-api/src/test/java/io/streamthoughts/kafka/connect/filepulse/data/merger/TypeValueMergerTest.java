@@ -18,10 +18,15 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.data.merger;
 
+import io.streamthoughts.kafka.connect.filepulse.data.DataException;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
 
 import static org.junit.Assert.*;
 
@@ -132,4 +137,47 @@ public class TypeValueMergerTest {
         assertEquals(VALUE_A,  merged.getArray(FIELD_VALUE_A).get(0));
         assertEquals(VALUE_B,  merged.getArray(FIELD_VALUE_A).get(1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void shouldMergeInPlaceWithSameResultAsMerge() {
+        final TypedStruct right = TypedStruct.create()
+                .put("c", "value-c")
+                .put(FIELD_VALUE_A, VALUE_B)
+                .put(FIELD_VALUE_B, VALUE_B);
+
+        final TypedStruct expected = merger.merge(newLeftStruct(), right, Collections.singleton(FIELD_VALUE_B));
+
+        final TypedStruct left = newLeftStruct();
+        final TypedStruct merged = merger.mergeInto(left, right, Collections.singleton(FIELD_VALUE_B));
+
+        assertSame(left, merged);
+        assertEquals(expected.toString(), merged.toString());
+        assertEquals(Arrays.asList("d", FIELD_VALUE_A, "c", FIELD_VALUE_B), fieldNames(merged));
+    }
+
+    @Test
+    public void shouldLeaveLeftStructUnchangedGivenFieldsWithIncompatibleTypes() {
+        final TypedStruct left = newLeftStruct();
+        final TypedStruct right = TypedStruct.create()
+                .put("c", "value-c")
+                .put(FIELD_VALUE_A, 42L);
+
+        try {
+            merger.mergeInto(left, right, Collections.emptySet());
+            fail("expecting DataException to be thrown");
+        } catch (DataException e) {
+            assertEquals(newLeftStruct().toString(), left.toString());
+        }
+    }
+
+    private static TypedStruct newLeftStruct() {
+        return TypedStruct.create()
+                .put("d", "value-d")
+                .put(FIELD_VALUE_A, VALUE_A)
+                .put(FIELD_VALUE_B, VALUE_A);
+    }
+
+    private static List<String> fieldNames(final TypedStruct struct) {
+        return struct.schema().fields().stream().map(TypedField::name).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.expression;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+
+public class PropertyExpressionTest {
+
+    private static final PropertyExpression EXPRESSION = new PropertyExpression("{{ value.field }}", "value", "field");
+
+    @Test
+    public void shouldReadValueFromContextRootObjectAfterReset() {
+        final StandardEvaluationContext context = new StandardEvaluationContext(rootFor("foo"));
+        assertEquals("foo", EXPRESSION.readValue(context, String.class));
+
+        context.reset(rootFor("bar"), new HashMap<>());
+        assertEquals("bar", EXPRESSION.readValue(context, String.class));
+    }
+
+    @Test
+    public void shouldWriteValueIntoContextRootObject() {
+        final Map<String, Object> root = rootFor("foo");
+        EXPRESSION.writeValue("bar", new StandardEvaluationContext(root));
+        assertEquals("bar", ((TypedStruct) root.get("value")).getString("field"));
+    }
+
+    private static Map<String, Object> rootFor(final String field) {
+        final Map<String, Object> root = new HashMap<>();
+        root.put("value", TypedStruct.create().put("field", field));
+        return root;
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import org.apache.kafka.connect.header.ConnectHeaders;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class PropertyAccessorRegistryTest {
+
+    private final HeadersAccessor headersAccessor = new HeadersAccessor();
+    private final TypedStructAccessor structAccessor = new TypedStructAccessor();
+    private final MapAdaptablePropertyAccessor mapAccessor = new MapAdaptablePropertyAccessor();
+    private final ReflectivePropertyAccessor reflectiveAccessor = new ReflectivePropertyAccessor();
+
+    private final PropertyAccessorRegistry registry = new PropertyAccessorRegistry(
+        Arrays.asList(headersAccessor, structAccessor, mapAccessor, reflectiveAccessor)
+    );
+
+    @Test
+    public void shouldResolveSpecificAccessorsForTargetType() {
+        assertEquals(Collections.singletonList(headersAccessor), registry.specificAccessorsFor(ConnectHeaders.class));
+        assertEquals(Collections.singletonList(structAccessor), registry.specificAccessorsFor(TypedStruct.class));
+        assertTrue(registry.specificAccessorsFor(Object.class).isEmpty());
+    }
+
+    @Test
+    public void shouldResolveSpecificAccessorsForSubTypes() {
+        assertEquals(Collections.singletonList(mapAccessor), registry.specificAccessorsFor(HashMap.class));
+    }
+
+    @Test
+    public void shouldReturnSameAccessorsForSameTargetType() {
+        assertSame(registry.specificAccessorsFor(TypedStruct.class), registry.specificAccessorsFor(TypedStruct.class));
+    }
+
+    @Test
+    public void shouldKeepGenericAccessorsInRegistrationOrder() {
+        assertEquals(Collections.singletonList(reflectiveAccessor), registry.genericAccessors());
+    }
+}
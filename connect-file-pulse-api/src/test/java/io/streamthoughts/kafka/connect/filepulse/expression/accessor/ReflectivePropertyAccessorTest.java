@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.expression.accessor;
+
+import io.streamthoughts.kafka.connect.filepulse.expression.StandardEvaluationContext;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+public class ReflectivePropertyAccessorTest {
+
+    private static final StandardEvaluationContext CONTEXT = new StandardEvaluationContext(new Object());
+
+    private final ReflectivePropertyAccessor accessor = new ReflectivePropertyAccessor();
+
+    @Test
+    public void shouldReadAndWritePropertyUsingGetterAndSetter() {
+        final Bean bean = new Bean();
+        accessor.write(CONTEXT, bean, "name", "foo");
+        assertEquals("foo", accessor.read(CONTEXT, bean, "name"));
+
+        accessor.write(CONTEXT, bean, "name", "bar");
+        assertEquals("bar", accessor.read(CONTEXT, bean, "name"));
+    }
+
+    @Test
+    public void shouldReadPropertyUsingAccessMethod() {
+        final Bean bean = new Bean();
+        bean.setSize(42);
+        assertEquals(42, accessor.read(CONTEXT, bean, "size"));
+    }
+
+    @Test
+    public void shouldReadPropertyUsingStaticMethodGivenClassTarget() {
+        assertEquals("static", accessor.read(CONTEXT, Bean.class, "kind"));
+    }
+
+    @Test(expected = AccessException.class)
+    public void shouldThrowExceptionGivenUnknownProperty() {
+        accessor.read(CONTEXT, new Bean(), "unknown");
+    }
+
+    @Test(expected = AccessException.class)
+    public void shouldThrowExceptionGivenInvalidValueType() {
+        accessor.write(CONTEXT, new Bean(), "size", "foo");
+    }
+
+    public static class Bean {
+
+        private String name;
+        private int size;
+
+        public static String kind() {
+            return "static";
+        }
+
+        public String ofName() {
+            return name;
+        }
+
+        public void setName(final String name) {
+            this.name = name;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public void setSize(final int size) {
+            this.size = size;
+        }
+    }
+}
@@ -18,18 +18,56 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.expression.parser;
 
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.expression.Expression;
 import io.streamthoughts.kafka.connect.filepulse.expression.FunctionExpression;
 import io.streamthoughts.kafka.connect.filepulse.expression.PropertyExpression;
+import io.streamthoughts.kafka.connect.filepulse.expression.StandardEvaluationContext;
 import io.streamthoughts.kafka.connect.filepulse.expression.ValueExpression;
 import io.streamthoughts.kafka.connect.filepulse.expression.parser.regex.RegexExpressionParser;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.HashMap;
+import java.util.Map;
+
 public class RegexExpressionParserTest {
 
     private static final String DEFAULT_ROOT_OBJECT = "defaultRoot";
 
+    @Test
+    public void shouldReturnCachedExpressionGivenSameExpressionWithoutSubstitution() {
+        final RegexExpressionParser parser = new RegexExpressionParser();
+        Expression e1 = parser.parseExpression("$value.field", DEFAULT_ROOT_OBJECT, false);
+        Expression e2 = parser.parseExpression("$value.field", DEFAULT_ROOT_OBJECT, false);
+        Expression e3 = parser.parseExpression("$value.field", "other", false);
+
+        Assert.assertSame(e1, e2);
+        Assert.assertNotSame(e1, e3);
+    }
+
+    @Test
+    public void shouldNotShareCachedExpressionGivenNullAndEmptyRootObject() {
+        final RegexExpressionParser parser = new RegexExpressionParser();
+        Expression e1 = parser.parseExpression("$value.field", null, false);
+        Expression e2 = parser.parseExpression("$value.field", "", false);
+
+        Assert.assertNotSame(e1, e2);
+    }
+
+    @Test
+    public void shouldReadNestedFieldGivenDotPropertyAccessPath() {
+        final TypedStruct struct = TypedStruct.create()
+            .put("first", TypedStruct.create().put("second", "value"));
+        Expression expression = new RegexExpressionParser().parseExpression("$value.first.second", false);
+
+        final Map<String, Object> root = new HashMap<>();
+        root.put("value", struct);
+        final StandardEvaluationContext context = new StandardEvaluationContext(root);
+
+        Assert.assertEquals("value", expression.readValue(context, String.class));
+    }
+
     @Test
     public void testGivenExpressionWithStaticValue() {
         String originalExpression = "my-simple-value";
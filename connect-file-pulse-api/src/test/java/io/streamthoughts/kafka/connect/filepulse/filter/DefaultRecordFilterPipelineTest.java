@@ -26,12 +26,14 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.connect.source.SourceRecord;
 import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
@@ -215,6 +217,116 @@ public class DefaultRecordFilterPipelineTest {
         assertEquals(record, records.collect().get(0));
     }
 
+    @Test
+    public void shouldNotLeakContextChangesBetweenRecords() {
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.invalid(), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.invalid(), "value2");
+
+        final TestFilter filter1 = new TestFilter()
+            .setFunction((context, record, hasNext) -> {
+                if (record.getString("message").equals("value1")) {
+                    ((InternalFilterContext) context).setTopic("topic1");
+                    context.variables().put("var", "value1");
+                }
+                return RecordsIterable.of(record, TypedStruct.create().put("message", "split"));
+            });
+
+        final TestFilter filter2 = new TestFilter()
+            .setFunction((context, record, hasNext) -> {
+                if (record.getString("message").equals("split")) {
+                    ((InternalFilterContext) context).setKey(String.valueOf(context.variables().get("var")));
+                }
+                return RecordsIterable.of(record);
+            });
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Arrays.asList(filter1, filter2));
+        pipeline.init(context);
+
+        List<FileRecord<TypedStruct>> records = pipeline
+            .apply(new RecordsIterable<>(record1, record2), false)
+            .collect();
+
+        assertEquals(4, records.size());
+        SourceRecord r1 = toSourceRecord(records.get(0));
+        SourceRecord r2 = toSourceRecord(records.get(1));
+        SourceRecord r3 = toSourceRecord(records.get(2));
+        SourceRecord r4 = toSourceRecord(records.get(3));
+        assertEquals("topic1", r1.topic());
+        assertEquals("topic1", r2.topic());
+        assertEquals("value1", r2.key());
+        assertEquals("default", r3.topic());
+        assertEquals("default", r4.topic());
+    }
+
+    @Test
+    public void shouldApplyFusedStatelessFiltersInOrder() {
+        final FileRecord<TypedStruct> record1 = createWithOffsetAndValue(FileRecordOffset.invalid(), "value1");
+        final FileRecord<TypedStruct> record2 = createWithOffsetAndValue(FileRecordOffset.invalid(), "drop");
+
+        final TestStatelessFilter filter1 = new TestStatelessFilter(
+            (context, record) -> record.put("message", record.getString("message") + "-1"));
+        final TestStatelessFilter filter2 = new TestStatelessFilter(
+            (context, record) -> record.getString("message").startsWith("drop") ? null : record);
+        final TestStatelessFilter filter3 = new TestStatelessFilter(
+            (context, record) -> record.put("message", record.getString("message") + "-3"));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(
+            Arrays.asList(filter1, filter2, filter3));
+        pipeline.init(context);
+
+        RecordsIterable<FileRecord<TypedStruct>> records = pipeline
+            .apply(new RecordsIterable<>(record1, record2), false);
+
+        assertEquals(1, records.size());
+        assertEquals("value1-1-3", records.last().value().getString("message"));
+    }
+
+    @Test
+    public void shouldSkipFusedFilterGivenFailingFilterIgnoringFailure() {
+        final FileRecord<TypedStruct> record = createWithOffsetAndValue(FileRecordOffset.invalid(), "value");
+
+        final TestStatelessFilter filter1 = new TestStatelessFilter((context, r) -> {
+            throw new RuntimeException("test error");
+        });
+        filter1.ignoreFailure = true;
+        final TestStatelessFilter filter2 = new TestStatelessFilter(
+            (context, r) -> r.put("message", r.getString("message") + "-2"));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(Arrays.asList(filter1, filter2));
+        pipeline.init(context);
+
+        RecordsIterable<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record), false);
+
+        assertEquals(1, records.size());
+        assertEquals("value-2", records.last().value().getString("message"));
+    }
+
+    @Test
+    public void shouldForwardRecordsFromFusedFiltersToStatefulFilter() {
+        final FileRecord<TypedStruct> record = createWithOffsetAndValue(FileRecordOffset.invalid(), "value");
+
+        final TestStatelessFilter filter1 = new TestStatelessFilter(
+            (context, r) -> r.put("message", r.getString("message") + "-1"));
+        final TestFilter filter2 = new TestFilter()
+            .setFunction((context, r, hasNext) -> RecordsIterable.of(r, TypedStruct.create().put("message", "new")));
+        final TestStatelessFilter filter3 = new TestStatelessFilter(
+            (context, r) -> r.put("message", r.getString("message") + "-3"));
+
+        DefaultRecordFilterPipeline pipeline = new DefaultRecordFilterPipeline(
+            Arrays.asList(filter1, filter2, filter3));
+        pipeline.init(context);
+
+        List<FileRecord<TypedStruct>> records = pipeline.apply(new RecordsIterable<>(record), false).collect();
+
+        assertEquals(2, records.size());
+        assertEquals("value-1-3", records.get(0).value().getString("message"));
+        assertEquals("new-3", records.get(1).value().getString("message"));
+    }
+
+    private SourceRecord toSourceRecord(final FileRecord<TypedStruct> record) {
+        return record.toSourceRecord(Collections.emptyMap(), Collections.emptyMap(), metadata, "default", null);
+    }
+
     private static FileRecord<TypedStruct> createWithOffsetAndValue(final FileRecordOffset offset, final String value) {
         return new TypedFileRecord(offset, TypedStruct.create().put("message", value));
     }
@@ -300,6 +412,44 @@ public class DefaultRecordFilterPipelineTest {
         }
     }
 
+    static class TestStatelessFilter implements StatelessRecordFilter {
+
+        private final BiFunction<FilterContext, TypedStruct, TypedStruct> function;
+
+        private boolean ignoreFailure = false;
+
+        TestStatelessFilter(final BiFunction<FilterContext, TypedStruct, TypedStruct> function) {
+            this.function = function;
+        }
+
+        @Override
+        public TypedStruct filter(final FilterContext context, final TypedStruct record) {
+            return function.apply(context, record);
+        }
+
+        @Override
+        public RecordsIterable<TypedStruct> apply(final FilterContext context,
+                                                  final TypedStruct record,
+                                                  final boolean hasNext) {
+            throw new UnsupportedOperationException("stateless filters are expected to be fused");
+        }
+
+        @Override
+        public void configure(final Map<String, ?> configs) {
+
+        }
+
+        @Override
+        public ConfigDef configDef() {
+            return null;
+        }
+
+        @Override
+        public boolean ignoreFailure() {
+            return ignoreFailure;
+        }
+    }
+
     @FunctionalInterface
     interface FilterFunction extends RecordFilter {
 
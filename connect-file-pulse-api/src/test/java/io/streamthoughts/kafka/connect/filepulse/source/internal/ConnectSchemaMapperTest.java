@@ -19,11 +19,13 @@
 package io.streamthoughts.kafka.connect.filepulse.source.internal;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import org.apache.kafka.connect.data.Schema;
 import org.apache.kafka.connect.data.SchemaAndValue;
 import org.apache.kafka.connect.data.Struct;
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
@@ -124,4 +126,97 @@ public class ConnectSchemaMapperTest {
         Assert.assertEquals("value", field1.get("field2").getString("field3"));
     }
 
-}
\ No newline at end of file
+    @Test
+    public void shouldReturnSameConnectSchemaGivenStructsWithSameShape() {
+        TypedStruct s1 = TypedStruct.create()
+                .put("field1", "value1")
+                .put("field2", TypedStruct.create().put("field3", 1L));
+        TypedStruct s2 = TypedStruct.create()
+                .put("field1", "value2")
+                .put("field2", TypedStruct.create().put("field3", 2L));
+
+        SchemaAndValue sv1 = s1.schema().map(ConnectSchemaMapper.INSTANCE, s1);
+        SchemaAndValue sv2 = s2.schema().map(ConnectSchemaMapper.INSTANCE, s2);
+
+        Assert.assertSame(sv1.schema(), sv2.schema());
+        Assert.assertEquals("value2", ((Struct)sv2.value()).get("field1"));
+    }
+
+    @Test
+    public void shouldReturnDifferentConnectSchemaGivenStructsWithDifferentShape() {
+        TypedStruct s1 = TypedStruct.create().put("field1", "value1");
+        TypedStruct s2 = TypedStruct.create().put("field1", 1L);
+
+        Schema schema1 = s1.schema().map(ConnectSchemaMapper.INSTANCE);
+        Schema schema2 = s2.schema().map(ConnectSchemaMapper.INSTANCE);
+
+        Assert.assertNotEquals(schema1, schema2);
+        Assert.assertEquals(Schema.Type.INT64, schema2.field("field1").schema().type());
+    }
+
+    @Test
+    public void shouldEvictSchemasWhenCacheIsFull() {
+        ConnectSchemaMapper mapper = new ConnectSchemaMapper(1);
+        TypedStruct s1 = TypedStruct.create().put("field1", "value1");
+        TypedStruct s2 = TypedStruct.create().put("field2", "value2");
+        TypedStruct s3 = TypedStruct.create().put("field1", "value3");
+
+        Schema schema1 = s1.schema().map(mapper);
+        s2.schema().map(mapper);
+
+        Assert.assertNotSame(schema1, s3.schema().map(mapper));
+        Assert.assertEquals(schema1, s3.schema().map(mapper));
+    }
+
+    @Test
+    public void shouldReuseConnectSchemaAttachedToSchemaGivenEvictedSchema() {
+        ConnectSchemaMapper mapper = new ConnectSchemaMapper(1);
+        TypedStruct s1 = TypedStruct.create().put("field1", "value1");
+        TypedStruct s2 = TypedStruct.create().put("field2", "value2");
+
+        Schema schema1 = s1.schema().map(mapper);
+        s2.schema().map(mapper);
+
+        Assert.assertSame(schema1, s1.schema().map(mapper));
+    }
+
+    @Test
+    public void shouldMapModifiedSchemaGivenStructAlreadyMapped() {
+        TypedStruct nested = TypedStruct.create().put("field2", "value2");
+        TypedStruct struct = TypedStruct.create().put("field1", nested);
+
+        Schema schema = struct.schema().map(ConnectSchemaMapper.INSTANCE, struct).schema();
+        Assert.assertNull(schema.field("field1").schema().field("field3"));
+
+        nested.put("field3", "value3");
+        SchemaAndValue schemaAndValue = struct.schema().map(ConnectSchemaMapper.INSTANCE, struct);
+
+        Assert.assertNotNull(schemaAndValue.schema().field("field1").schema().field("field3"));
+        Struct field1 = (Struct)((Struct)schemaAndValue.value()).get("field1");
+        Assert.assertEquals("value3", field1.getString("field3"));
+
+        struct.schema().name("renamed");
+        Assert.assertEquals("renamed", struct.schema().map(ConnectSchemaMapper.INSTANCE).name());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void shouldMapGivenArrayOfStructsWithDifferentFieldOrder() {
+        TypedStruct struct = TypedStruct.create()
+                .put("field1", Arrays.asList(
+                    TypedStruct.create().put("field2", "v1").put("field3", "v2"),
+                    TypedStruct.create().put("field3", "v3").put("field2", "v4"),
+                    TypedStruct.create().put("field3", "v5")
+                ));
+
+        SchemaAndValue schemaAndValue = struct.schema().map(ConnectSchemaMapper.INSTANCE, struct);
+
+        List<Struct> field1 = (List<Struct>)((Struct)schemaAndValue.value()).get("field1");
+        Assert.assertEquals(3, field1.size());
+        Assert.assertEquals("v2", field1.get(0).getString("field3"));
+        Assert.assertEquals("v4", field1.get(1).getString("field2"));
+        Assert.assertEquals("v3", field1.get(1).getString("field3"));
+        Assert.assertNull(field1.get(2).getString("field2"));
+        Assert.assertEquals("v5", field1.get(2).getString("field3"));
+    }
+}
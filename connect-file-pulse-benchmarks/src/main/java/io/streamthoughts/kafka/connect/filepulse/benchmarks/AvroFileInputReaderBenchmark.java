@@ -0,0 +1,96 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.AvroFileInputReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.FileInputIterator;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to read and convert a whole Avro container file using the {@link AvroFileInputReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class AvroFileInputReaderBenchmark {
+
+    @Param({"100000"})
+    public int records;
+
+    private Path dir;
+
+    private FileContext context;
+
+    private AvroFileInputReader reader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dir = BenchmarkFixtures.createTempDirectory();
+        final File file = BenchmarkFixtures.writeAvroFile(dir, "input.avro", records);
+        context = new FileContext(SourceMetadata.fromFile(file));
+        reader = new AvroFileInputReader();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        reader.close();
+        BenchmarkFixtures.deleteDirectory(dir);
+    }
+
+    @Benchmark
+    public int readAll(final Blackhole blackhole) {
+        int count = 0;
+        final FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        try {
+            while (iterator.hasNext()) {
+                final RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
+                count += next.size();
+                blackhole.consume(next);
+            }
+        } finally {
+            iterator.close();
+        }
+        return count;
+    }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import org.apache.avro.Schema;
+import org.apache.avro.SchemaBuilder;
+import org.apache.avro.file.DataFileWriter;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumWriter;
+import org.apache.avro.generic.GenericRecord;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * Generates the input fixtures used by the benchmarks.
+ *
+ * Fixtures are generated from a fixed seed so that every run, on every machine, reads exactly the same data.
+ */
+public final class BenchmarkFixtures {
+
+    private static final long SEED = 42L;
+
+    private static final String[] LEVELS = {"TRACE", "DEBUG", "INFO", "WARN", "ERROR"};
+
+    private static final String[] WORDS = {
+        "connector", "task", "file", "offset", "record", "partition", "topic", "schema", "filter", "reader"
+    };
+
+    public static final String LOG_PATTERN = "%{TIMESTAMP_ISO8601:timestamp} %{LOGLEVEL:level} %{GREEDYDATA:message}";
+
+    public static final String LOG_DATE_FORMAT = "yyyy-MM-dd HH:mm:ss,SSS";
+
+    public static final String CSV_COLUMNS = "id:INTEGER;name:STRING;level:STRING;count:LONG;ratio:DOUBLE";
+
+    public static final Schema AVRO_SCHEMA = SchemaBuilder.record("Event")
+        .namespace("io.streamthoughts.kafka.connect.filepulse.benchmarks")
+        .fields()
+            .requiredInt("id")
+            .requiredString("name")
+            .requiredString("level")
+            .requiredLong("timestamp")
+            .requiredDouble("ratio")
+            .name("tags").type().array().items().stringType().noDefault()
+        .endRecord();
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * Generates log lines of the form "{@code yyyy-MM-dd HH:mm:ss,SSS LEVEL message}".
+     *
+     * @param count the number of lines.
+     * @return the generated lines.
+     */
+    public static List<String> logLines(final int count) {
+        final Random random = new Random(SEED);
+        final List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(String.format("2020-06-%02d %02d:%02d:%02d,%03d %s %s",
+                1 + random.nextInt(28),
+                random.nextInt(24),
+                random.nextInt(60),
+                random.nextInt(60),
+                random.nextInt(1000),
+                LEVELS[random.nextInt(LEVELS.length)],
+                sentence(random, 5 + random.nextInt(15))));
+        }
+        return lines;
+    }
+
+    /**
+     * Generates delimited rows matching the {@link #CSV_COLUMNS} definition.
+     *
+     * @param count the number of lines.
+     * @return the generated lines.
+     */
+    public static List<String> csvLines(final int count) {
+        final Random random = new Random(SEED);
+        final List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add(i
+                + ";" + WORDS[random.nextInt(WORDS.length)]
+                + ";" + LEVELS[random.nextInt(LEVELS.length)]
+                + ";" + random.nextInt(Integer.MAX_VALUE)
+                + ";" + random.nextDouble());
+        }
+        return lines;
+    }
+
+    /**
+     * Generates JSON documents with nested objects and arrays.
+     *
+     * @param count the number of lines.
+     * @return the generated lines.
+     */
+    public static List<String> jsonLines(final int count) {
+        final Random random = new Random(SEED);
+        final List<String> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            lines.add("{"
+                + "\"id\":" + i + ","
+                + "\"name\":\"" + WORDS[random.nextInt(WORDS.length)] + "\","
+                + "\"level\":\"" + LEVELS[random.nextInt(LEVELS.length)] + "\","
+                + "\"ratio\":" + random.nextDouble() + ","
+                + "\"source\":{"
+                + "\"host\":\"host-" + random.nextInt(16) + "\","
+                + "\"port\":" + (8000 + random.nextInt(100))
+                + "},"
+                + "\"tags\":[\"" + WORDS[random.nextInt(WORDS.length)] + "\",\"" + WORDS[i % WORDS.length] + "\"]"
+                + "}");
+        }
+        return lines;
+    }
+
+    /**
+     * Writes the specified lines into a new file.
+     *
+     * @param dir   the target directory.
+     * @param name  the file name.
+     * @param lines the lines to write.
+     * @return the written {@link File}.
+     */
+    public static File writeLines(final Path dir, final String name, final List<String> lines) {
+        final Path path = dir.resolve(name);
+        try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (String line : lines) {
+                writer.write(line);
+                writer.write('\n');
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return path.toFile();
+    }
+
+    /**
+     * Writes an Avro container file of records matching the {@link #AVRO_SCHEMA}.
+     *
+     * @param dir   the target directory.
+     * @param name  the file name.
+     * @param count the number of records.
+     * @return the written {@link File}.
+     */
+    public static File writeAvroFile(final Path dir, final String name, final int count) {
+        final File file = dir.resolve(name).toFile();
+        final Random random = new Random(SEED);
+        try (DataFileWriter<GenericRecord> writer = new DataFileWriter<>(new GenericDatumWriter<>(AVRO_SCHEMA))) {
+            writer.create(AVRO_SCHEMA, file);
+            for (int i = 0; i < count; i++) {
+                final GenericRecord record = new GenericData.Record(AVRO_SCHEMA);
+                record.put("id", i);
+                record.put("name", WORDS[random.nextInt(WORDS.length)]);
+                record.put("level", LEVELS[random.nextInt(LEVELS.length)]);
+                record.put("timestamp", 1590969600000L + random.nextInt(Integer.MAX_VALUE));
+                record.put("ratio", random.nextDouble());
+                record.put("tags", Arrays.asList(WORDS[random.nextInt(WORDS.length)], WORDS[i % WORDS.length]));
+                writer.append(record);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return file;
+    }
+
+    /**
+     * Creates a new temporary directory to write fixtures into.
+     *
+     * @return the directory {@link Path}.
+     */
+    public static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("connect-file-pulse-benchmarks");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deletes the specified directory and all its content.
+     *
+     * @param dir the directory to delete.
+     */
+    public static void deleteDirectory(final Path dir) {
+        if (dir == null) return;
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).map(Path::toFile).forEach(File::delete);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String sentence(final Random random, final int words) {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(WORDS[random.nextInt(WORDS.length)]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.source.internal.ConnectSchemaMapper;
+import org.apache.kafka.connect.data.SchemaAndValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the conversion of {@link TypedStruct}s into Connect structs by the {@link ConnectSchemaMapper}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ConnectSchemaMapperBenchmark {
+
+    private ConnectSchemaMapper mapper;
+
+    private TypedStruct struct;
+
+    private int sequence;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        mapper = new ConnectSchemaMapper();
+        struct = newStruct(0);
+    }
+
+    /**
+     * Maps the same record over and over: the schema is resolved from the mapper cache.
+     */
+    @Benchmark
+    public SchemaAndValue mapSameRecord() {
+        return mapper.map(struct.schema(), struct);
+    }
+
+    /**
+     * Maps a new record with the same shape for each invocation, as the connector does for each line of a file.
+     */
+    @Benchmark
+    public SchemaAndValue mapNewRecord() {
+        final TypedStruct record = newStruct(sequence++);
+        return mapper.map(record.schema(), record);
+    }
+
+    private static TypedStruct newStruct(final int id) {
+        return TypedStruct.create()
+            .put("id", id)
+            .put("name", "connector")
+            .put("level", "INFO")
+            .put("timestamp", 1590969600000L + id)
+            .put("ratio", 0.5D)
+            .put("tags", Arrays.asList("file", "pulse"))
+            .put("source", TypedStruct.create()
+                .put("host", "localhost")
+                .put("port", 8083));
+    }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.expression.Expression;
+import io.streamthoughts.kafka.connect.filepulse.expression.StandardEvaluationContext;
+import io.streamthoughts.kafka.connect.filepulse.expression.parser.regex.RegexExpressionParser;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the parsing of expressions by the {@link RegexExpressionParser} and their evaluation
+ * against a record.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExpressionBenchmark {
+
+    private static final String DEFAULT_ROOT_OBJECT = "value";
+
+    @Param({
+        "{{ $value.level }}",
+        "{{ $value.source.host }}",
+        "{{ $metadata.name }}",
+        "{{ uppercase($value.level) }}",
+        "{{ $value.name }}-{{ $value.level }}"
+    })
+    public String expression;
+
+    private RegexExpressionParser cachingParser;
+
+    private RegexExpressionParser nonCachingParser;
+
+    private Expression parsed;
+
+    private StandardEvaluationContext context;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        cachingParser = new RegexExpressionParser();
+        nonCachingParser = new RegexExpressionParser(0);
+        parsed = cachingParser.parseExpression(expression, DEFAULT_ROOT_OBJECT);
+
+        final TypedStruct value = TypedStruct.create()
+            .put("name", "connector")
+            .put("level", "INFO")
+            .put("source", TypedStruct.create().put("host", "localhost").put("port", 8083));
+
+        final Map<String, Object> root = new HashMap<>();
+        root.put("value", value);
+        root.put("metadata", new SourceMetadata("input.log", "/tmp", 0L, 0L, 0L, -1L));
+        context = new StandardEvaluationContext(root);
+    }
+
+    @Benchmark
+    public Expression parse() {
+        return nonCachingParser.parseExpression(expression, DEFAULT_ROOT_OBJECT);
+    }
+
+    @Benchmark
+    public Expression parseCached() {
+        return cachingParser.parseExpression(expression, DEFAULT_ROOT_OBJECT);
+    }
+
+    @Benchmark
+    public Object evaluate() {
+        return parsed.readValue(context);
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.NonBlockingBufferReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.TextBlock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to read a whole text file line by line using the {@link NonBlockingBufferReader}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NonBlockingBufferReaderBenchmark {
+
+    @Param({"100000"})
+    public int lines;
+
+    @Param({"4096", "65536"})
+    public int initialCapacity;
+
+    @Param({"1", "1000"})
+    public int minRecords;
+
+    private Path dir;
+
+    private File file;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dir = BenchmarkFixtures.createTempDirectory();
+        file = BenchmarkFixtures.writeLines(dir, "input.log", BenchmarkFixtures.logLines(lines));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        BenchmarkFixtures.deleteDirectory(dir);
+    }
+
+    @Benchmark
+    public int readLines(final Blackhole blackhole) throws IOException {
+        int count = 0;
+        try (NonBlockingBufferReader reader = new NonBlockingBufferReader(
+                file, initialCapacity, StandardCharsets.UTF_8)) {
+            while (reader.hasNext()) {
+                final List<TextBlock> blocks = reader.readLines(minRecords);
+                count += blocks.size();
+                blackhole.consume(blocks);
+            }
+        }
+        return count;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.benchmarks;
+
+import io.streamthoughts.kafka.connect.filepulse.config.ConvertFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.config.DateFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.config.DelimitedRowFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.config.GrokFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.config.RenameFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.filter.ConvertFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.DateFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.filter.DelimitedRowFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.GrokFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.JSONFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.RecordFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.RenameFilter;
+import io.streamthoughts.kafka.connect.filepulse.filter.config.CommonFilterConfig;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the time to push a batch of records through a {@link DefaultRecordFilterPipeline}
+ * configured with a realistic chain of filters.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class RecordFilterPipelineBenchmark {
+
+    @Param({"grok", "csv", "json"})
+    public String chain;
+
+    @Param({"1000"})
+    public int batchSize;
+
+    private DefaultRecordFilterPipeline pipeline;
+
+    private List<String> lines;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final List<RecordFilter> filters;
+        switch (chain) {
+            case "grok":
+                filters = grokChain();
+                lines = BenchmarkFixtures.logLines(batchSize);
+                break;
+            case "csv":
+                filters = csvChain();
+                lines = BenchmarkFixtures.csvLines(batchSize);
+                break;
+            case "json":
+                filters = jsonChain();
+                lines = BenchmarkFixtures.jsonLines(batchSize);
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown filter chain: " + chain);
+        }
+        pipeline = new DefaultRecordFilterPipeline(filters);
+        pipeline.init(new FileContext(new SourceMetadata("input", "", 0L, 0L, 0L, -1L)));
+    }
+
+    /**
+     * Records are created for each invocation because filters are allowed to update their input in place.
+     */
+    @Benchmark
+    public RecordsIterable<FileRecord<TypedStruct>> apply() {
+        final List<FileRecord<TypedStruct>> records = new ArrayList<>(lines.size());
+        for (String line : lines) {
+            final TypedStruct struct = TypedStruct.create().put(TypedFileRecord.DEFAULT_MESSAGE_FIELD, line);
+            records.add(new TypedFileRecord(FileRecordOffset.invalid(), struct));
+        }
+        return pipeline.apply(new RecordsIterable<>(records), false);
+    }
+
+    private static List<RecordFilter> grokChain() {
+        final Map<String, Object> grok = new HashMap<>();
+        grok.put(GrokFilterConfig.GROK_ROW_PATTERN_CONFIG, BenchmarkFixtures.LOG_PATTERN);
+        grok.put(CommonFilterConfig.FILTER_OVERWRITE_CONFIG, "message");
+
+        final Map<String, Object> date = new HashMap<>();
+        date.put(DateFilterConfig.DATE_FIELD_CONFIG, "timestamp");
+        date.put(DateFilterConfig.DATE_TARGET_CONFIG, "epoch");
+        date.put(DateFilterConfig.DATE_FORMATS_CONFIG, Collections.singletonList(BenchmarkFixtures.LOG_DATE_FORMAT));
+
+        return Arrays.asList(
+            configure(new GrokFilter(), grok),
+            configure(new DateFilter(), date),
+            configure(new RenameFilter(), rename("level", "severity"))
+        );
+    }
+
+    private static List<RecordFilter> csvChain() {
+        final Map<String, Object> delimited = new HashMap<>();
+        delimited.put(DelimitedRowFilterConfig.READER_FIELD_COLUMNS_CONFIG, BenchmarkFixtures.CSV_COLUMNS);
+        delimited.put(DelimitedRowFilterConfig.READER_FIELD_SEPARATOR_CONFIG, ";");
+
+        return Arrays.asList(
+            configure(new DelimitedRowFilter(), delimited),
+            configure(new ConvertFilter(), convert("id", "string")),
+            configure(new RenameFilter(), rename("level", "severity"))
+        );
+    }
+
+    private static List<RecordFilter> jsonChain() {
+        return Arrays.asList(
+            configure(new JSONFilter(), new HashMap<>()),
+            configure(new ConvertFilter(), convert("ratio", "string")),
+            configure(new RenameFilter(), rename("level", "severity"))
+        );
+    }
+
+    private static Map<String, Object> rename(final String field, final String target) {
+        final Map<String, Object> configs = new HashMap<>();
+        configs.put(RenameFilterConfig.RENAME_FIELD_CONFIG, field);
+        configs.put(RenameFilterConfig.RENAME_TARGET_CONFIG, target);
+        return configs;
+    }
+
+    private static Map<String, Object> convert(final String field, final String type) {
+        final Map<String, Object> configs = new HashMap<>();
+        configs.put(ConvertFilterConfig.CONVERT_FIELD_CONFIG, field);
+        configs.put(ConvertFilterConfig.CONVERT_TYPE_CONFIG, type);
+        return configs;
+    }
+
+    private static RecordFilter configure(final RecordFilter filter, final Map<String, Object> configs) {
+        filter.configure(configs);
+        return filter;
+    }
+}
@@ -45,6 +45,8 @@ public class AppendFilter extends AbstractMergeRecordFilter<AppendFilter> {
 
     private boolean mustEvaluateWriteExpression = true;
 
+    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new Object());
+
     /**
      * {@inheritDoc}
      */
@@ -84,27 +86,21 @@ public class AppendFilter extends AbstractMergeRecordFilter<AppendFilter> {
         InternalFilterContext internalContext = (InternalFilterContext) context;
         internalContext.setValue(record);
 
-        StandardEvaluationContext readEvaluationContext = new StandardEvaluationContext(
-                internalContext,
-                internalContext.variables()
-        );
+        // The root object is the filter context itself: switching its value is enough to
+        // evaluate the read and the write expressions against the same evaluation context.
+        evaluationContext.reset(internalContext, internalContext.variables());
 
-        final Expression writeExpression = evaluateWriteExpression(readEvaluationContext);
+        final Expression writeExpression = evaluateWriteExpression(evaluationContext);
 
         final TypedStruct target = TypedStruct.create();
         for (final Expression expression : values) {
 
             internalContext.setValue(record);
-            final Object value = expression.readValue(readEvaluationContext);
+            final Object value = expression.readValue(evaluationContext);
 
             if (value != null) {
                 internalContext.setValue(target);
-
-                final StandardEvaluationContext writeEvaluationContext = new StandardEvaluationContext(
-                    internalContext,
-                    internalContext.variables()
-                );
-                writeExpression.writeValue(value, writeEvaluationContext);
+                writeExpression.writeValue(value, evaluationContext);
             }
         }
         return RecordsIterable.of(target);
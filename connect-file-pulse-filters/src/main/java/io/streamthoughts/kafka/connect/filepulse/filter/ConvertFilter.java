@@ -26,7 +26,7 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
-public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> {
+public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> implements StatelessRecordFilter {
 
     private ConvertFilterConfig config;
 
@@ -54,6 +54,15 @@ public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
         if (record.has(config.field())) {
             TypedValue value = record.get(config.field());
@@ -65,6 +74,6 @@ public class ConvertFilter extends AbstractRecordFilter<ConvertFilter> {
             throw new FilterException("Cannot find field with name '" + config.field() + "'");
         }
 
-        return RecordsIterable.of(record);
+        return record;
     }
 }
@@ -36,7 +36,7 @@ import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 
-public class DateFilter extends AbstractRecordFilter<DateFilter> {
+public class DateFilter extends AbstractRecordFilter<DateFilter> implements StatelessRecordFilter {
 
     private static final String DEFAULT_ROOT_OBJECT = "value";
 
@@ -52,6 +52,8 @@ public class DateFilter extends AbstractRecordFilter<DateFilter> {
 
     private boolean mustEvaluateFieldExpression = true;
 
+    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new Object());
+
     private List<DateTimeFormatter> dtf;
 
     /**
@@ -114,13 +116,19 @@ public class DateFilter extends AbstractRecordFilter<DateFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
         InternalFilterContext internalContext = (InternalFilterContext) context;
         internalContext.setValue(record);
 
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext(
-                internalContext,
-                internalContext.variables()
-        );
+        evaluationContext.reset(internalContext, internalContext.variables());
 
         final Expression field = mayEvaluateFieldExpression(evaluationContext);
         final String date = field.readValue(evaluationContext, String.class);
@@ -141,7 +149,7 @@ public class DateFilter extends AbstractRecordFilter<DateFilter> {
                 continue;
             }
             target.writeValue(epochMilli, evaluationContext);
-            return RecordsIterable.of(record);
+            return record;
         }
 
         throw new FilterException(
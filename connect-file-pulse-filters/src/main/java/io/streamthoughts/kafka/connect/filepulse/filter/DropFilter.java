@@ -23,7 +23,7 @@ import io.streamthoughts.kafka.connect.filepulse.filter.config.CommonFilterConfi
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
 import org.apache.kafka.common.config.ConfigDef;
 
-public class DropFilter extends AbstractRecordFilter<DropFilter>  {
+public class DropFilter extends AbstractRecordFilter<DropFilter> implements StatelessRecordFilter {
 
     /**
      * {@inheritDoc}
@@ -40,8 +40,18 @@ public class DropFilter extends AbstractRecordFilter<DropFilter>  {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        final TypedStruct filtered = filter(context, record);
+        return filtered == null ? RecordsIterable.empty() : RecordsIterable.of(filtered);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
-        return condition.apply(context, record) ? RecordsIterable.empty() : RecordsIterable.of(record);
+        return condition.apply(context, record) ? null : record;
     }
 
     /**
@@ -28,7 +28,7 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
-public class FailFilter extends AbstractRecordFilter<FailFilter> {
+public class FailFilter extends AbstractRecordFilter<FailFilter> implements StatelessRecordFilter {
 
     private static final String DEFAULT_ROOT_OBJECT = "value";
 
@@ -36,6 +36,8 @@ public class FailFilter extends AbstractRecordFilter<FailFilter> {
 
     private Expression expression;
 
+    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new Object());
+
     /**
      * {@inheritDoc}
      */
@@ -61,20 +63,27 @@ public class FailFilter extends AbstractRecordFilter<FailFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
         if (condition.apply(context, record)) {
 
             InternalFilterContext internalContext = (InternalFilterContext) context;
             internalContext.setValue(record);
 
-            final StandardEvaluationContext ec = new StandardEvaluationContext(
-                    internalContext,
-                    context.variables());
+            final StandardEvaluationContext ec = evaluationContext.reset(internalContext, context.variables());
 
             final String message = expression.readValue(ec, String.class);
             throw new FilterException(message);
         }
-        return RecordsIterable.of(record);
+        return record;
     }
 
     /**
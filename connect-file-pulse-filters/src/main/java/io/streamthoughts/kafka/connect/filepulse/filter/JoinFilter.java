@@ -31,7 +31,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.stream.Collectors;
 
-public class JoinFilter extends AbstractRecordFilter<JoinFilter> {
+public class JoinFilter extends AbstractRecordFilter<JoinFilter> implements StatelessRecordFilter {
 
     private static final String DEFAULT_ROOT_OBJECT = "value";
 
@@ -47,6 +47,8 @@ public class JoinFilter extends AbstractRecordFilter<JoinFilter> {
 
     private boolean mustEvaluateFieldExpression = true;
 
+    private final StandardEvaluationContext evaluationContext = new StandardEvaluationContext(new Object());
+
     /**
      * {@inheritDoc}
      */
@@ -94,14 +96,20 @@ public class JoinFilter extends AbstractRecordFilter<JoinFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
         InternalFilterContext internalContext = (InternalFilterContext) context;
         internalContext.setValue(record);
 
-        StandardEvaluationContext evaluationContext = new StandardEvaluationContext(
-                internalContext,
-                internalContext.variables()
-        );
+        evaluationContext.reset(internalContext, internalContext.variables());
 
         final Expression field = mayEvaluateFieldExpression(evaluationContext);
         final Collection<?> array = field.readValue(evaluationContext, Collection.class);
@@ -116,7 +124,7 @@ public class JoinFilter extends AbstractRecordFilter<JoinFilter> {
         final Expression target = mayEvaluateTargetExpression(evaluationContext);
         target.writeValue(joined, evaluationContext);
 
-        return RecordsIterable.of(record);
+        return record;
     }
 
     private Expression mayEvaluateTargetExpression(final StandardEvaluationContext evaluationContext) {
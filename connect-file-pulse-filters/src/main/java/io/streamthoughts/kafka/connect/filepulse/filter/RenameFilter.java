@@ -25,7 +25,7 @@ import org.apache.kafka.common.config.ConfigDef;
 
 import java.util.Map;
 
-public class RenameFilter extends AbstractRecordFilter<RenameFilter> {
+public class RenameFilter extends AbstractRecordFilter<RenameFilter> implements StatelessRecordFilter {
 
     private RenameFilterConfig configs;
 
@@ -53,15 +53,24 @@ public class RenameFilter extends AbstractRecordFilter<RenameFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
         if (record.has(configs.field())) {
             record.rename(configs.field(), configs.target());
-            return new RecordsIterable<>(record);
+            return record;
 
         } else if (!configs.ignoreMissing()) {
             throw new FilterException("Invalid field name '" + configs.field() + "'");
         }
 
-        return new RecordsIterable<>(record);
+        return record;
     }
 }
@@ -28,7 +28,7 @@ import org.apache.kafka.common.config.ConfigDef;
 import java.util.LinkedList;
 import java.util.Map;
 
-public class SplitFilter extends AbstractRecordFilter<SplitFilter> {
+public class SplitFilter extends AbstractRecordFilter<SplitFilter> implements StatelessRecordFilter {
 
     private SplitFilterConfig configs;
 
@@ -56,6 +56,15 @@ public class SplitFilter extends AbstractRecordFilter<SplitFilter> {
     public RecordsIterable<TypedStruct> apply(final FilterContext context,
                                               final TypedStruct record,
                                               final boolean hasNext) throws FilterException {
+        return RecordsIterable.of(filter(context, record));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public TypedStruct filter(final FilterContext context,
+                              final TypedStruct record) throws FilterException {
 
         for (final String key : configs.split()) {
 
@@ -75,6 +84,6 @@ public class SplitFilter extends AbstractRecordFilter<SplitFilter> {
                 record.put(key, values);
             }
         }
-        return new RecordsIterable<>(record);
+        return record;
     }
 }
@@ -71,14 +71,22 @@ public class DefaultJSONStructConverter implements JSONStructConverter {
             return null;
         }
 
+        return readJson(JsonIterator.parse(data));
+    }
+
+    /**
+     * Reads the JSON object from the specified iterator.
+     *
+     * @param it    the {@link JsonIterator} positioned on the object to read.
+     * @return      a new {@link TypedStruct} instance.
+     */
+    public TypedStruct readJson(final JsonIterator it) {
         try {
-            JsonIterator it = JsonIterator.parse(data);
             return DEFAULT_ACCESSOR.read(it).getStruct();
 
         } catch (Exception e) {
             throw new ReaderException("Error while reading json value, invalid JSON message.", e);
         }
-
     }
 
     private interface JsonFieldAccessor<T> {
@@ -40,6 +40,17 @@ public class CommonConfig extends AbstractConfig {
     public static final String FILE_READER_CLASS_CONFIG         = "task.reader.class";
     private static final String FILE_READER_CLASS_CONFIG_DOC    = "Class which is used by tasks to read an input file.";
 
+    public static final String FILE_READER_PARALLELISM_CONFIG   = "task.reader.parallelism";
+    private static final String FILE_READER_PARALLELISM_DOC     = "The maximum number of files (or file splits) to be read and filtered concurrently by each task.";
+    private static final int FILE_READER_PARALLELISM_DEFAULT    = 1;
+
+    public static final String TASKS_EMPTY_POLL_WAIT_MS_CONFIG  = "tasks.empty.poll.wait.ms";
+    private static final String TASKS_EMPTY_POLL_WAIT_MS_DOC    = "The time to wait in milliseconds before polling again the current file when no record was returned.";
+    private static final long TASKS_EMPTY_POLL_WAIT_MS_DEFAULT  = 500L;
+
+    public static final String TASKS_DYNAMIC_ASSIGNMENT_ENABLE_CONFIG = "tasks.dynamic.assignment.enable";
+    private static final String TASKS_DYNAMIC_ASSIGNMENT_ENABLE_DOC   = "Boolean indicating whether files should be handed out to tasks as they become idle through the internal state topic, instead of being statically partitioned across tasks on each task reconfiguration (default: false).";
+
     public static final String OFFSET_STRATEGY_CONFIG           = "offset.strategy";
     private static final String OFFSET_STRATEGY_DOC             = "The strategy to use for building an startPosition from an input file; must be one of [name, path, name+hash].";
     private static final String OFFSET_STRATEGY_DEFAULT         = "name+hash";
@@ -70,6 +81,15 @@ public class CommonConfig extends AbstractConfig {
                 .define(FILE_READER_CLASS_CONFIG, ConfigDef.Type.CLASS,
                         RowFileInputReader.class, ConfigDef.Importance.HIGH,  FILE_READER_CLASS_CONFIG_DOC)
 
+                .define(FILE_READER_PARALLELISM_CONFIG, ConfigDef.Type.INT, FILE_READER_PARALLELISM_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.MEDIUM, FILE_READER_PARALLELISM_DOC)
+
+                .define(TASKS_EMPTY_POLL_WAIT_MS_CONFIG, ConfigDef.Type.LONG, TASKS_EMPTY_POLL_WAIT_MS_DEFAULT,
+                        ConfigDef.Importance.LOW, TASKS_EMPTY_POLL_WAIT_MS_DOC)
+
+                .define(TASKS_DYNAMIC_ASSIGNMENT_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                        ConfigDef.Importance.MEDIUM, TASKS_DYNAMIC_ASSIGNMENT_ENABLE_DOC)
+
                 .define(OUTPUT_TOPIC_CONFIG, ConfigDef.Type.STRING,
                         ConfigDef.Importance.HIGH, OUTPUT_TOPIC_DOC)
 
@@ -90,6 +110,18 @@ public class CommonConfig extends AbstractConfig {
         return OffsetStrategy.getForLabel(getString(OFFSET_STRATEGY_CONFIG));
     }
 
+    public int readerParallelism() {
+        return this.getInt(FILE_READER_PARALLELISM_CONFIG);
+    }
+
+    public long emptyPollWaitMs() {
+        return this.getLong(TASKS_EMPTY_POLL_WAIT_MS_CONFIG);
+    }
+
+    public boolean isDynamicAssignmentEnable() {
+        return this.getBoolean(TASKS_DYNAMIC_ASSIGNMENT_ENABLE_CONFIG);
+    }
+
     public String getTaskReporterTopic() {
         return this.getString(TASKS_REPORTER_TOPIC);
     }
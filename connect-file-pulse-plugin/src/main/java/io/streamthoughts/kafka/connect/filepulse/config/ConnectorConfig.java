@@ -44,6 +44,13 @@ public class ConnectorConfig extends CommonConfig {
     private static final String FS_SCAN_INTERVAL_MS_DOC       = "Time interval in milliseconds at wish the input directory is scanned.";
     private static final long FS_SCAN_INTERVAL_MS_DEFAULT     = 10000L;
 
+    public static final String FS_SCAN_WATCH_ENABLE_CONFIG    = "fs.scan.watch.enable";
+    private static final String FS_SCAN_WATCH_ENABLE_DOC      = "Boolean indicating whether the input directory should be watched for new files, so that they are scanned as soon as they are created instead of waiting for the next scan interval (default: false).";
+
+    public static final String FS_SCAN_WATCH_QUIET_PERIOD_MS_CONFIG = "fs.scan.watch.quiet.period.ms";
+    private static final String FS_SCAN_WATCH_QUIET_PERIOD_MS_DOC    = "The time in milliseconds during which a file created into the watched input directory must not be modified before being scheduled, so that files which are still being written are not read (default: 5000).";
+    private static final long FS_SCAN_WATCH_QUIET_PERIOD_MS_DEFAULT  = 5000L;
+
     public static final String FS_SCAN_FILTERS_CONFIG         = "fs.scan.filters";
     private static final String FS_SCAN_FILTERS_DOC           = "Filters classes which are used to apply list input files.";
 
@@ -76,6 +83,13 @@ public class ConnectorConfig extends CommonConfig {
                 .define(FS_SCAN_INTERVAL_MS_CONFIG, ConfigDef.Type.LONG, FS_SCAN_INTERVAL_MS_DEFAULT,
                         ConfigDef.Importance.HIGH, FS_SCAN_INTERVAL_MS_DOC)
 
+                .define(FS_SCAN_WATCH_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN, false,
+                        ConfigDef.Importance.MEDIUM, FS_SCAN_WATCH_ENABLE_DOC)
+
+                .define(FS_SCAN_WATCH_QUIET_PERIOD_MS_CONFIG, ConfigDef.Type.LONG,
+                        FS_SCAN_WATCH_QUIET_PERIOD_MS_DEFAULT, ConfigDef.Range.atLeast(0),
+                        ConfigDef.Importance.MEDIUM, FS_SCAN_WATCH_QUIET_PERIOD_MS_DOC)
+
                 .define(FILE_CLEANER_CLASS_CONFIG,
                         ConfigDef.Type.CLASS, ConfigDef.Importance.HIGH, FILE_CLEANER_CLASS_DOC)
 
@@ -100,6 +114,14 @@ public class ConnectorConfig extends CommonConfig {
         return this.getLong(FS_SCAN_INTERVAL_MS_CONFIG);
     }
 
+    public boolean isScanWatchEnable() {
+        return this.getBoolean(FS_SCAN_WATCH_ENABLE_CONFIG);
+    }
+
+    public long scanWatchQuietPeriodMs() {
+        return this.getLong(FS_SCAN_WATCH_QUIET_PERIOD_MS_CONFIG);
+    }
+
     public String scanDirectoryPath() {
         return this.getString(FS_SCAN_DIRECTORY_PATH_CONFIG);
     }
@@ -44,12 +44,17 @@ public class TaskConfig extends CommonConfig {
     public static final String INTERNAL_REPORTER_GROUP_ID       = "internal.kafka.reporter.id";
     private static final String INTERNAL_REPORTER_GROUP_ID_DOC  = "Reporter identifier to be used by tasks and connector to report and monitor file progression";
 
+    public static final String INTERNAL_TASK_ID_CONFIG          = "internal.task.id";
+    private static final String INTERNAL_TASK_ID_DOC            = "The index of the task, used to identify the files assigned to the task when dynamic assignment is enable.";
+
     private final EnrichedConnectorConfig enrichedConfig;
 
     static ConfigDef getConf() {
         return CommonConfig.getConf()
                 .define(INTERNAL_REPORTER_GROUP_ID, ConfigDef.Type.STRING, null,
                         ConfigDef.Importance.MEDIUM, INTERNAL_REPORTER_GROUP_ID_DOC)
+                .define(INTERNAL_TASK_ID_CONFIG, ConfigDef.Type.INT, null,
+                        ConfigDef.Importance.LOW, INTERNAL_TASK_ID_DOC)
                 .define(FILE_INPUT_PATHS_CONFIG, ConfigDef.Type.LIST,
                         ConfigDef.Importance.HIGH, FILE_INPUT_PATHS_DOC)
                 .define(OMIT_READ_COMMITTED_FILE_CONFIG, ConfigDef.Type.BOOLEAN, false,
@@ -123,6 +128,10 @@ public class TaskConfig extends CommonConfig {
         return this.getString(INTERNAL_REPORTER_GROUP_ID);
     }
 
+    public Integer taskId() {
+        return this.getInt(INTERNAL_TASK_ID_CONFIG);
+    }
+
     public List<String> files() {
         return this.getList(FILE_INPUT_PATHS_CONFIG);
     }
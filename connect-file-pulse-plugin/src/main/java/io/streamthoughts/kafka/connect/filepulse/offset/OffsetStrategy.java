@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 
 import java.util.Collections;
@@ -55,6 +56,7 @@ public enum OffsetStrategy {
     private static final String FILEPATH_FIELD = "path";
     private static final String FILENAME_FIELD = "name";
     private static final String CRC32_FIELD    = "hash";
+    private static final String SPLIT_FIELD    = "split";
 
     private final String label;
 
@@ -68,6 +70,16 @@ public enum OffsetStrategy {
 
     abstract Map<String, Object> toPartitionMap(final SourceMetadata metadata);
 
+    Map<String, Object> toPartitionMap(final SourceMetadata metadata, final FileSplit split) {
+        return split == null ? toPartitionMap(metadata) : toPartitionMap(metadata, split.id());
+    }
+
+    Map<String, Object> toPartitionMap(final SourceMetadata metadata, final String splitId) {
+        final Map<String, Object> splitPartition = new HashMap<>(toPartitionMap(metadata));
+        splitPartition.put(SPLIT_FIELD, splitId);
+        return splitPartition;
+    }
+
     public String label() {
         return this.label;
     }
@@ -19,6 +19,7 @@
 package io.streamthoughts.kafka.connect.filepulse.offset;
 
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import org.apache.kafka.connect.source.SourceTaskContext;
@@ -33,6 +34,7 @@ public class SimpleOffsetManager implements OffsetManager {
     private final static String POSITION_OFFSET_FIELD      = "position";
     private final static String POSITION_ROWS_FIELD        = "rows";
     private final static String POSITION_TIMESTAMP_FIELD   = "timestamp";
+    private final static String POSITION_SPLIT_END_FIELD   = "splitEnd";
 
     private final OffsetStrategy strategy;
 
@@ -51,9 +53,10 @@ public class SimpleOffsetManager implements OffsetManager {
      */
     @Override
     public Optional<SourceOffset> getOffsetFor(final SourceTaskContext context,
-                                               final SourceMetadata metadata) {
+                                               final SourceMetadata metadata,
+                                               final FileSplit split) {
 
-        final Map<String, Object> partition = toPartitionMap(metadata);
+        final Map<String, Object> partition = toPartitionMap(metadata, split);
 
         final Map<String, Object> offset = context.offsetStorageReader().offset(partition);
 
@@ -72,6 +75,31 @@ public class SimpleOffsetManager implements OffsetManager {
         return Optional.of(new SourceOffset((Long) offsetBytes, (Long) rows, (Long) timestamp));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Optional<FileSplit> getSplitFor(final SourceTaskContext context,
+                                           final SourceMetadata metadata,
+                                           final long startPosition) {
+
+        final Map<String, Object> partition = strategy.toPartitionMap(metadata, FileSplit.idOf(startPosition));
+
+        final Map<String, Object> offset = context.offsetStorageReader().offset(partition);
+
+        Object endPosition = (offset != null) ? offset.get(POSITION_SPLIT_END_FIELD) : null;
+
+        if (endPosition == null) {
+            return Optional.empty();
+        }
+
+        if (!(endPosition instanceof Long)) {
+            throw new ConnectFilePulseException("Incorrect type for split end position");
+        }
+
+        return Optional.of(new FileSplit(startPosition, (Long) endPosition));
+    }
+
     private void checkTimestampIsValid(final Object timestamp) {
         if (!(timestamp instanceof Long)) {
             throw new ConnectFilePulseException("Incorrect type for the last active timestamp");
@@ -102,12 +130,23 @@ public class SimpleOffsetManager implements OffsetManager {
      * {@inheritDoc}
      */
     @Override
-    public Map<String, ?> toOffsetMap(final SourceOffset offset) {
+    public Map<String, Object> toPartitionMap(final SourceMetadata metadata, final FileSplit split) {
+        return strategy.toPartitionMap(metadata, split);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Map<String, ?> toOffsetMap(final SourceOffset offset, final FileSplit split) {
         Objects.requireNonNull(offset, "position can't be null");
         Map<String, Long> map = new HashMap<>();
         map.put(POSITION_OFFSET_FIELD, offset.position());
         map.put(POSITION_ROWS_FIELD, offset.rows());
         map.put(POSITION_TIMESTAMP_FIELD, offset.timestamp());
+        if (split != null) {
+            map.put(POSITION_SPLIT_END_FIELD, split.endPosition());
+        }
         return map;
     }
 }
@@ -33,14 +33,14 @@ import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.GenericRecord;
 import org.apache.kafka.common.utils.Time;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
-import java.util.function.BiFunction;
 
 import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.bool;
 import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.float32;
@@ -82,6 +82,16 @@ public class AvroFileInputReader extends AbstractFileInputReader {
 
         private DataFileReader<GenericRecord> dataFileReader;
 
+        /**
+         * The converter compiled for the writer schema of the file.
+         */
+        private final TypedStructConverter converter;
+
+        /**
+         * The record instance re-used for reading each datum.
+         */
+        private GenericRecord reuse;
+
         /**
          * Creates a new {@link AvroFileIterator} instance.
          *
@@ -93,6 +103,7 @@ public class AvroFileInputReader extends AbstractFileInputReader {
             reader = new GenericDatumReader();
             dataFileReader = unchecked(() ->
                     new DataFileReader<GenericRecord>(context.file(), reader), ReaderException::new);
+            converter = TypedStructConverter.forSchema(dataFileReader.getSchema());
         }
 
         /**
@@ -132,21 +143,27 @@ public class AvroFileInputReader extends AbstractFileInputReader {
         }
 
         /**
+         * Reads all the remaining records of the current Avro block.
+         *
          * {@inheritDoc}
          */
         @Override
         public RecordsIterable<FileRecord<TypedStruct>> next() {
             try {
-                final GenericRecord record = nextRecord();
-                final TypedStruct struct = TypedStructConverter.fromGenericRecord(record);
-
-                AvroRecordOffset offset = new AvroRecordOffset(
-                        lastSync,
-                        position(),
-                        recordsReadSinceLastSync
-                );
-
-                return RecordsIterable.of(new TypedFileRecord(offset, struct));
+                final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+                do {
+                    final GenericRecord record = nextRecord();
+                    final TypedStruct struct = converter.convert(record);
+
+                    AvroRecordOffset offset = new AvroRecordOffset(
+                            lastSync,
+                            position(),
+                            recordsReadSinceLastSync
+                    );
+                    records.add(new TypedFileRecord(offset, struct));
+                } while (!isBlockFinished() && dataFileReader.hasNext());
+
+                return new RecordsIterable<>(records);
             } finally {
                 updateContext();
             }
@@ -159,14 +176,25 @@ public class AvroFileInputReader extends AbstractFileInputReader {
          */
         private GenericRecord nextRecord() {
             // start to read a new block.
-            if (dataFileReader.previousSync() != lastSync) {
+            if (isBlockFinished()) {
                 lastSync = dataFileReader.previousSync();
                 recordsReadSinceLastSync = 0;
             }
 
-            final GenericRecord record = dataFileReader.next();
+            reuse = unchecked(() -> dataFileReader.next(reuse), ReaderException::new);
             recordsReadSinceLastSync++;
-            return record;
+            return reuse;
+        }
+
+        /**
+         * Checks whether all records of the block starting at {@link #lastSync} have been read.
+         * The {@link DataFileReader} moves its previous sync position to the next block
+         * as soon as the last record of the current block is read.
+         *
+         * @return {@code true} if the current block is finished.
+         */
+        private boolean isBlockFinished() {
+            return dataFileReader.previousSync() != lastSync;
         }
 
         private long position() {
@@ -193,31 +221,37 @@ public class AvroFileInputReader extends AbstractFileInputReader {
         }
     }
 
+    /**
+     * Converts Avro {@link GenericRecord}s into {@link TypedStruct}s.
+     *
+     * A converter is compiled once for a given record {@link Schema} : the field converters are resolved
+     * up-front and stored by field position so that no schema lookup is performed per record.
+     */
     @VisibleForTesting
     public static class TypedStructConverter {
 
-        private static final Map<Schema.Type, BiFunction<Schema, Object, TypedValue>> AVRO_TYPES_TO_CONVERTER;
-
-        static {
-            AVRO_TYPES_TO_CONVERTER = new HashMap<>();
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.BYTES, TypedStructConverter::convertBytes);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.ENUM, TypedStructConverter::convertEnum);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.STRING, TypedStructConverter::convertString);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.UNION, TypedStructConverter::convertUnion);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.ARRAY, TypedStructConverter::convertCollection);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.MAP, TypedStructConverter::convertMap);
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.BOOLEAN,
-                (schema, value) -> bool((Boolean)value));
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.INT,
-                (schema, value) -> int32((Integer)value));
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.LONG,
-                (schema, value) -> int64((Long)value));
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.FLOAT,
-                (schema, value) -> float32((Float) value));
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.DOUBLE,
-                (schema, value) -> float64((Double) value));
-            AVRO_TYPES_TO_CONVERTER.put(Schema.Type.RECORD,
-                (schema, value) -> struct(fromGenericRecord((GenericRecord)value)));
+        @FunctionalInterface
+        private interface ValueConverter {
+            TypedValue apply(final Object value);
+        }
+
+        private String[] fieldNames;
+
+        private int[] fieldPositions;
+
+        private ValueConverter[] fieldConverters;
+
+        private TypedStructConverter() {
+        }
+
+        /**
+         * Compiles a new {@link TypedStructConverter} for the specified record schema.
+         *
+         * @param schema    the Avro record {@link Schema}.
+         * @return          a new {@link TypedStructConverter} instance.
+         */
+        static TypedStructConverter forSchema(final Schema schema) {
+            return compile(schema, new IdentityHashMap<>());
         }
 
         /**
@@ -227,74 +261,133 @@ public class AvroFileInputReader extends AbstractFileInputReader {
          * @return          a new {@link TypedStruct} instance.
          */
         static TypedStruct fromGenericRecord(final GenericRecord record) {
-            TypedStruct struct = TypedStruct.create();
-            final Schema schema = record.getSchema();
-            for (Schema.Field field : schema.getFields()) {
-                final String name = field.name();
-                final Object value = record.get(name);
-                struct = struct.put(name, fromSchemaAndValue(field.schema(), value));
-            }
-            return struct;
+            return forSchema(record.getSchema()).convert(record);
         }
 
         /**
-         * converts the specified object into {@link TypedValue}.
+         * Converts the specified {@link GenericRecord} instance into a {@link TypedStruct}.
+         * The record must have been read using the schema this converter was compiled for.
          *
-         * @param schema    the {@link Schema} instance.
-         * @param value     the record value.
-         * @return          a new {@link TypedValue} instance.
+         * @param record    the {@link GenericRecord} instance to convert.
+         * @return          a new {@link TypedStruct} instance.
          */
-        private static TypedValue fromSchemaAndValue(final Schema schema, final Object value) {
-            final Schema.Type fieldType = schema.getType();
+        TypedStruct convert(final GenericRecord record) {
+            TypedStruct struct = TypedStruct.create();
+            for (int i = 0; i < fieldConverters.length; i++) {
+                final Object value = record.get(fieldPositions[i]);
+                struct = struct.put(fieldNames[i], fieldConverters[i].apply(value));
+            }
+            return struct;
+        }
 
-            BiFunction<Schema, Object, TypedValue> converter = AVRO_TYPES_TO_CONVERTER.get(fieldType);
-            if (converter == null) {
-                throw new ReaderException("Unsupported avro type : " + fieldType);
+        private static TypedStructConverter compile(final Schema schema,
+                                                    final Map<Schema, TypedStructConverter> compiled) {
+            TypedStructConverter converter = compiled.get(schema);
+            if (converter != null) {
+                return converter;
+            }
+            // register the converter before compiling fields to support recursive schemas.
+            converter = new TypedStructConverter();
+            compiled.put(schema, converter);
+
+            final List<Schema.Field> fields = schema.getFields();
+            converter.fieldNames = new String[fields.size()];
+            converter.fieldPositions = new int[fields.size()];
+            converter.fieldConverters = new ValueConverter[fields.size()];
+            for (int i = 0; i < fields.size(); i++) {
+                final Schema.Field field = fields.get(i);
+                converter.fieldNames[i] = field.name();
+                converter.fieldPositions[i] = field.pos();
+                converter.fieldConverters[i] = compileValue(field.schema(), compiled);
             }
-            return converter.apply(schema, value);
+            return converter;
         }
 
+        private static ValueConverter compileValue(final Schema schema,
+                                                   final Map<Schema, TypedStructConverter> compiled) {
+            switch (schema.getType()) {
+                case BOOLEAN:
+                    return value -> bool((Boolean) value);
+                case INT:
+                    return value -> int32((Integer) value);
+                case LONG:
+                    return value -> int64((Long) value);
+                case FLOAT:
+                    return value -> float32((Float) value);
+                case DOUBLE:
+                    return value -> float64((Double) value);
+                case STRING:
+                case ENUM:
+                    return TypedStructConverter::convertString;
+                case BYTES:
+                    return TypedStructConverter::convertBytes;
+                case UNION:
+                    return compileUnion(schema, compiled);
+                case ARRAY:
+                    final ValueConverter elementConverter = compileValue(schema.getElementType(), compiled);
+                    return value -> convertCollection(elementConverter, value);
+                case MAP:
+                    final ValueConverter valueConverter = compileValue(schema.getValueType(), compiled);
+                    return value -> convertMap(valueConverter, value);
+                case RECORD:
+                    final TypedStructConverter recordConverter = compile(schema, compiled);
+                    return value -> convertRecord(recordConverter, value);
+                default:
+                    return unsupported(schema.getType());
+            }
+        }
 
-        private static  TypedValue convertEnum(final Schema schema,
-                                               final Object value) {
-            final String stringValue = (value != null) ? ((Enum) value).name() : null;
-            return string(stringValue);
+        private static ValueConverter compileUnion(final Schema schema,
+                                                   final Map<Schema, TypedStructConverter> compiled) {
+            for (Schema type : schema.getTypes()) {
+                if (type.getType() != Schema.Type.NULL) {
+                    return compileValue(type, compiled);
+                }
+            }
+            return unsupported(Schema.Type.NULL);
         }
 
-        private static TypedValue convertUnion(final Schema schema,
-                                               final Object value) {
-            final List<Schema> types = schema.getTypes();
-            final Optional<Schema> nonNullSchema = types
-                    .stream()
-                    .filter(s -> s.getType() != Schema.Type.NULL)
-                    .findFirst();
-            return fromSchemaAndValue(nonNullSchema.get(), value);
+        private static ValueConverter unsupported(final Schema.Type type) {
+            return value -> {
+                throw new ReaderException("Unsupported avro type : " + type);
+            };
         }
 
-        private static TypedValue convertString(final Schema schema,
-                                                final Object value) {
-            // use org.apache.avro.util.Utf8 for string value.
+        private static TypedValue convertString(final Object value) {
+            // use org.apache.avro.util.Utf8 for string value and GenericData.EnumSymbol for enum.
             final String stringValue = (value != null) ? value.toString() : null;
             return string(stringValue);
         }
 
-        private static TypedValue convertBytes(final Schema schema,
-                                               final Object value) {
+        private static TypedValue convertBytes(final Object value) {
+            if (value == null) {
+                return TypedValue.of(null, Type.BYTES);
+            }
+            // the buffer may be re-used by the datum reader, so bytes must be copied.
+            final ByteBuffer buffer = ((ByteBuffer) value).duplicate();
+            final byte[] bytes = new byte[buffer.remaining()];
+            buffer.get(bytes);
+            return TypedValue.bytes(bytes);
+        }
+
+        private static TypedValue convertRecord(final TypedStructConverter recordConverter,
+                                                final Object value) {
             return (value != null) ?
-                TypedValue.any(value).as(Type.BYTES) :
-                TypedValue.of(null, Type.BYTES);
+                struct(recordConverter.convert((GenericRecord) value)) :
+                TypedValue.of(null, Type.STRUCT);
         }
 
         @SuppressWarnings("unchecked")
-        private static TypedValue convertMap(final Schema schema,
+        private static TypedValue convertMap(final ValueConverter valueConverter,
                                              final Object value) {
-
+            if (value == null) {
+                return TypedValue.of(null, Type.MAP);
+            }
             Map<Object, Object> map = (Map<Object, Object>)value;
-            final Schema valueSchema = schema.getValueType();
             Type mapValueType = null;
             final Map<String, Object> converted = new HashMap<>();
             for (Map.Entry<Object, Object> o : map.entrySet()) {
-                TypedValue element = fromSchemaAndValue(valueSchema, o.getValue());
+                TypedValue element = valueConverter.apply(o.getValue());
                 // use org.apache.avro.util.Utf8 for string value.
                 converted.put(o.getKey().toString(), element.value());
                 mapValueType = element.type();
@@ -305,14 +398,16 @@ public class AvroFileInputReader extends AbstractFileInputReader {
         }
 
         @SuppressWarnings("unchecked")
-        private static TypedValue convertCollection(final Schema schema,
+        private static TypedValue convertCollection(final ValueConverter elementConverter,
                                                     final Object value) {
+            if (value == null) {
+                return TypedValue.of(null, Type.ARRAY);
+            }
             final Collection<Object> array = (Collection<Object>)value;
-            final Schema elementSchema = schema.getElementType();
             Type arrayType = null;
             final Collection<Object> converted = new ArrayList<>(array.size());
             for (Object o : array) {
-                TypedValue element = fromSchemaAndValue(elementSchema, o);
+                TypedValue element = elementConverter.apply(o);
                 converted.add(element.value());
                 arrayType = element.type();
             }
@@ -321,4 +416,4 @@ public class AvroFileInputReader extends AbstractFileInputReader {
                 TypedValue.of(converted, Type.ARRAY);
         }
     }
-}
\ No newline at end of file
+}
@@ -19,6 +19,7 @@
 package io.streamthoughts.kafka.connect.filepulse.reader;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.DirectByteBufferPool;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
@@ -29,13 +30,17 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.NoSuchElementException;
 
 /**
- * Reads all bytes from an input files.
+ * Reads all bytes from an input files, either as a single record or as a sequence of chunks.
  */
 public class BytesArrayInputReader extends AbstractFileInputReader {
 
+    private BytesArrayInputReaderConfig configs = new BytesArrayInputReaderConfig(Collections.emptyMap());
+
     /**
      * Creates a new {@link BytesArrayInputReader} instance.
      */
@@ -43,12 +48,30 @@ public class BytesArrayInputReader extends AbstractFileInputReader {
         super();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        this.configs = new BytesArrayInputReaderConfig(configs);
+        // eagerly validate the delimiter.
+        this.configs.chunkDelimiter();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     protected FileInputIterator<FileRecord<TypedStruct>> newIterator(final FileContext context,
                                                                      final IteratorManager iteratorManager) {
+        if (configs.isChunkEnabled()) {
+            return new BytesChunkInputIterator(
+                configs,
+                DirectByteBufferPool.getInstance(),
+                iteratorManager,
+                context
+            );
+        }
         return new BytesArrayInputIterator(
                 context,
                 iteratorManager
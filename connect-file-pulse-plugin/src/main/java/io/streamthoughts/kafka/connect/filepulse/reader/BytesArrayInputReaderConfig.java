@@ -0,0 +1,111 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+import org.apache.kafka.common.config.ConfigException;
+
+import java.util.Map;
+
+/**
+ * Configuration class for {@link BytesArrayInputReader}.
+ */
+class BytesArrayInputReaderConfig extends AbstractConfig {
+
+    public static final String READER_CHUNK_BYTES_SIZE_CONFIG  = "read.chunk.bytes.size";
+    private static final String READER_CHUNK_BYTES_SIZE_DOC    = "The maximum number of bytes of each record. "
+            + "When greater than 0, input files are read as a sequence of fixed-size chunks (the last one may be shorter). "
+            + "Use 0 to read each file as a single record, unless a delimiter is configured. When a delimiter is "
+            + "configured, this is the maximum size of a record (1048576 bytes if 0), longer records are split.";
+    public static final int READER_CHUNK_BYTES_SIZE_DEFAULT    = 0;
+
+    /**
+     * The maximum size of a delimited chunk when no chunk size is configured,
+     * so that a file without any delimiter is never loaded in memory at once.
+     */
+    static final int DELIMITED_CHUNK_MAX_BYTES_SIZE = 1024 * 1024;
+
+    public static final String READER_CHUNK_DELIMITER_CONFIG   = "read.chunk.delimiter.hex";
+    private static final String READER_CHUNK_DELIMITER_DOC     = "The hexadecimal representation of the bytes separating "
+            + "records (e.g. '0a' or '0d0a'). Delimiters are not part of the records. Empty to disable.";
+    public static final String READER_CHUNK_DELIMITER_DEFAULT  = "";
+
+    public static final String READER_BUFFER_BYTES_SIZE_CONFIG = "read.buffer.bytes.size";
+    private static final String READER_BUFFER_BYTES_SIZE_DOC   = "The size of the direct buffers used to read chunks from "
+            + "input files. This is also the number of bytes after which the records read are returned to the task.";
+    public static final int READER_BUFFER_BYTES_SIZE_DEFAULT   = 64 * 1024;
+
+    /**
+     * Creates a new {@link BytesArrayInputReaderConfig} instance.
+     * @param originals the reader configuration.
+     */
+    BytesArrayInputReaderConfig(final Map<String, ?> originals) {
+        super(configDef(), originals);
+    }
+
+    int chunkBytesSize() {
+        return getInt(READER_CHUNK_BYTES_SIZE_CONFIG);
+    }
+
+    int maxChunkBytesSize() {
+        final int chunkBytesSize = chunkBytesSize();
+        if (chunkBytesSize > 0) {
+            return chunkBytesSize;
+        }
+        return chunkDelimiter().length > 0 ? DELIMITED_CHUNK_MAX_BYTES_SIZE : Integer.MAX_VALUE - 8;
+    }
+
+    byte[] chunkDelimiter() {
+        final String hex = getString(READER_CHUNK_DELIMITER_CONFIG).trim();
+        if (hex.length() % 2 != 0) {
+            throw new ConfigException(READER_CHUNK_DELIMITER_CONFIG, hex, "must have an even number of digits");
+        }
+        final byte[] delimiter = new byte[hex.length() / 2];
+        for (int i = 0; i < delimiter.length; i++) {
+            final int high = Character.digit(hex.charAt(2 * i), 16);
+            final int low = Character.digit(hex.charAt(2 * i + 1), 16);
+            if (high < 0 || low < 0) {
+                throw new ConfigException(READER_CHUNK_DELIMITER_CONFIG, hex, "must be an hexadecimal string");
+            }
+            delimiter[i] = (byte) ((high << 4) + low);
+        }
+        return delimiter;
+    }
+
+    int bufferBytesSize() {
+        return getInt(READER_BUFFER_BYTES_SIZE_CONFIG);
+    }
+
+    boolean isChunkEnabled() {
+        return chunkBytesSize() > 0 || !getString(READER_CHUNK_DELIMITER_CONFIG).trim().isEmpty();
+    }
+
+    private static ConfigDef configDef() {
+        return new ConfigDef()
+                .define(READER_CHUNK_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, READER_CHUNK_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Range.atLeast(0), ConfigDef.Importance.MEDIUM, READER_CHUNK_BYTES_SIZE_DOC)
+
+                .define(READER_CHUNK_DELIMITER_CONFIG, ConfigDef.Type.STRING, READER_CHUNK_DELIMITER_DEFAULT,
+                        ConfigDef.Importance.MEDIUM, READER_CHUNK_DELIMITER_DOC)
+
+                .define(READER_BUFFER_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, READER_BUFFER_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, READER_BUFFER_BYTES_SIZE_DOC);
+    }
+}
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.DirectByteBufferPool;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.apache.kafka.common.utils.Time;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * An iterator which reads input files as a sequence of byte chunks.
+ *
+ * Chunks are either of a fixed size, or separated by a delimiter. Bytes are read through a {@link FileChannel}
+ * into a pooled direct buffer, so the memory used does not depend on the size of the file.
+ */
+class BytesChunkInputIterator extends AbstractFileInputIterator<TypedStruct> {
+
+    private static final int MAX_CHUNK_SIZE = Integer.MAX_VALUE - 8;
+
+    private final DirectByteBufferPool pool;
+
+    private final FileChannel channel;
+
+    private final ByteBuffer buffer;
+
+    private final int maxChunkSize;
+
+    private final byte[] delimiter;
+
+    /**
+     * The bytes of the chunk being read.
+     */
+    private byte[] chunk;
+
+    /**
+     * The number of bytes at the beginning of the chunk which were already read but belong to the next chunk,
+     * i.e. the bytes read after a chunk cut at the maximum size while looking for a delimiter.
+     */
+    private int carried = 0;
+
+    /**
+     * The position of the first byte of the next chunk.
+     */
+    private long position = 0;
+
+    /**
+     * Creates a new {@link BytesChunkInputIterator} instance.
+     *
+     * @param configs           the reader configuration.
+     * @param pool              the pool used to get the read buffer.
+     * @param iteratorManager   the iterator manager.
+     * @param context           the file context.
+     */
+    BytesChunkInputIterator(final BytesArrayInputReaderConfig configs,
+                            final DirectByteBufferPool pool,
+                            final IteratorManager iteratorManager,
+                            final FileContext context) {
+        super(iteratorManager, context);
+        this.pool = pool;
+        this.maxChunkSize = configs.maxChunkBytesSize();
+        this.delimiter = configs.chunkDelimiter();
+        try {
+            this.channel = FileChannel.open(context.file().toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while opening source file '" + context + "'", e);
+        }
+        this.buffer = pool.acquire(configs.bufferBytesSize());
+        this.buffer.flip();
+        this.chunk = new byte[Math.min(configs.bufferBytesSize(), maxChunkSize)];
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final SourceOffset offset) {
+        Objects.requireNonNull(offset, "offset can't be null");
+        if (offset.position() > 0) {
+            try {
+                channel.position(offset.position());
+            } catch (IOException e) {
+                throw new ReaderException("Error happened while seeking source file '" + context + "'", e);
+            }
+            position = offset.position();
+            carried = 0;
+            buffer.clear().flip();
+        }
+    }
+
+    /**
+     * Reads chunks until at least the capacity of the read buffer has been consumed.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public RecordsIterable<FileRecord<TypedStruct>> next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+            final long startPosition = position;
+            do {
+                final long chunkStartPosition = position;
+                final byte[] bytes = delimiter.length > 0 ? readDelimitedChunk() : readFixedSizeChunk();
+                if (bytes == null) {
+                    break;
+                }
+                TypedStruct struct = TypedStruct.create();
+                struct.put(TypedFileRecord.DEFAULT_MESSAGE_FIELD, bytes);
+                records.add(new TypedFileRecord(BytesRecordOffset.with(chunkStartPosition, position), struct));
+            } while (position - startPosition < buffer.capacity() && hasNext());
+
+            return new RecordsIterable<>(records);
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        } finally {
+            context = context.withOffset(new SourceOffset(position, -1, Time.SYSTEM.milliseconds()));
+        }
+    }
+
+    private byte[] readFixedSizeChunk() throws IOException {
+        int length = 0;
+        while (length < maxChunkSize && (buffer.hasRemaining() || fill())) {
+            final int n = Math.min(buffer.remaining(), maxChunkSize - length);
+            ensureChunkCapacity(length + n);
+            buffer.get(chunk, length, n);
+            length += n;
+        }
+        return nextChunk(length, length);
+    }
+
+    private byte[] readDelimitedChunk() throws IOException {
+        final byte last = delimiter[delimiter.length - 1];
+        // A delimiter may start in the last bytes of a chunk of the maximum size.
+        final int readLimit = (int) Math.min(MAX_CHUNK_SIZE, (long) maxChunkSize + delimiter.length - 1);
+        int length = carried;
+        carried = 0;
+        while (length < readLimit && (buffer.hasRemaining() || fill())) {
+            final int limit = length + Math.min(buffer.remaining(), readLimit - length);
+            ensureChunkCapacity(limit);
+            while (length < limit) {
+                final byte b = buffer.get();
+                chunk[length++] = b;
+                if (b == last && endsWithDelimiter(length)) {
+                    return nextChunk(length, length - delimiter.length);
+                }
+            }
+        }
+        if (length <= maxChunkSize) {
+            return nextChunk(length, length);
+        }
+        // The chunk is cut at the maximum size, the bytes read after it are kept for the next chunk.
+        final byte[] bytes = nextChunk(maxChunkSize, maxChunkSize);
+        carried = length - maxChunkSize;
+        System.arraycopy(chunk, maxChunkSize, chunk, 0, carried);
+        return bytes;
+    }
+
+    private boolean endsWithDelimiter(final int length) {
+        if (length < delimiter.length) {
+            return false;
+        }
+        final int offset = length - delimiter.length;
+        for (int i = 0; i < delimiter.length - 1; i++) {
+            if (chunk[offset + i] != delimiter[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets a copy of the current chunk and moves the position after it.
+     *
+     * @param consumed  the number of bytes consumed from the file.
+     * @param length    the number of bytes of the record.
+     * @return          the record bytes, or {@code null} if no bytes were consumed.
+     */
+    private byte[] nextChunk(final int consumed, final int length) {
+        if (consumed == 0) {
+            return null;
+        }
+        position += consumed;
+        return Arrays.copyOf(chunk, length);
+    }
+
+    private void ensureChunkCapacity(final int capacity) {
+        if (chunk.length < capacity) {
+            final int newCapacity = (int) Math.min(MAX_CHUNK_SIZE, Math.max(capacity, 2L * chunk.length));
+            chunk = Arrays.copyOf(chunk, newCapacity);
+        }
+    }
+
+    private boolean fill() throws IOException {
+        buffer.clear();
+        final int read = channel.read(buffer);
+        buffer.flip();
+        return read > 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (isClose()) {
+            return false;
+        }
+        try {
+            return carried > 0 || buffer.hasRemaining() || channel.position() < channel.size();
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!isClose()) {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+                // ignore
+            } finally {
+                pool.release(buffer);
+                super.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import com.jsoniter.JsonIterator;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.json.DefaultJSONStructConverter;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.JSONObjectSplitter;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.apache.kafka.common.utils.Time;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An iterator which streams the JSON objects of a file.
+ *
+ * Bytes are read into a buffer which only has to hold the object being read. The boundaries of each object are
+ * found using a {@link JSONObjectSplitter}, then the object is parsed in place using a re-used {@link JsonIterator}.
+ */
+class JSONFileInputIterator extends AbstractFileInputIterator<TypedStruct> {
+
+    private final DefaultJSONStructConverter converter;
+
+    private final JSONObjectSplitter splitter = new JSONObjectSplitter();
+
+    private final JsonIterator jsonIterator = JsonIterator.parse(new byte[0]);
+
+    private final FileChannel channel;
+
+    private final int maxRecords;
+
+    private byte[] buffer;
+
+    /**
+     * The file position of the first byte of the buffer.
+     */
+    private long bufferPosition = 0L;
+
+    /**
+     * The index of the first byte not yet consumed.
+     */
+    private int head = 0;
+
+    /**
+     * The index after the last byte read into the buffer.
+     */
+    private int tail = 0;
+
+    /**
+     * The number of JSON objects read.
+     */
+    private long rows = 0L;
+
+    private boolean endOfFile = false;
+
+    private boolean byteOrderMarkChecked = false;
+
+    /**
+     * Creates a new {@link JSONFileInputIterator} instance.
+     *
+     * @param configs           the reader configuration.
+     * @param converter         the converter used to read JSON objects.
+     * @param iteratorManager   the iterator manager.
+     * @param context           the file context.
+     */
+    JSONFileInputIterator(final JSONFileInputReaderConfig configs,
+                          final DefaultJSONStructConverter converter,
+                          final IteratorManager iteratorManager,
+                          final FileContext context) {
+        super(iteratorManager, context);
+        this.converter = Objects.requireNonNull(converter, "converter can't be null");
+        this.maxRecords = configs.maxRecords();
+        this.buffer = new byte[configs.bufferInitialBytesSize()];
+        try {
+            this.channel = FileChannel.open(context.file().toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while opening source file '" + context + "'", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final SourceOffset offset) {
+        Objects.requireNonNull(offset, "offset can't be null");
+        if (offset.position() > 0) {
+            try {
+                channel.position(offset.position());
+            } catch (IOException e) {
+                throw new ReaderException("Error happened while seeking source file '" + context + "'", e);
+            }
+            bufferPosition = offset.position();
+            head = tail = 0;
+            rows = Math.max(0, offset.rows());
+            endOfFile = false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RecordsIterable<FileRecord<TypedStruct>> next() {
+        try {
+            final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+            while (records.size() < maxRecords && findNextObjectStart()) {
+                final long startPosition = bufferPosition + head;
+                final int end = findObjectEnd();
+                jsonIterator.reset(buffer, head, end);
+                final TypedStruct struct = converter.readJson(jsonIterator);
+                head = end;
+                rows++;
+                final RowFileRecordOffset offset = RowFileRecordOffset
+                    .with(startPosition, bufferPosition + end)
+                    .withRowNumber(rows);
+                records.add(new TypedFileRecord(offset, struct));
+            }
+            return new RecordsIterable<>(records);
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        } finally {
+            context = context.withOffset(new SourceOffset(bufferPosition + head, rows, Time.SYSTEM.milliseconds()));
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        if (isClose()) {
+            return false;
+        }
+        try {
+            return findNextObjectStart();
+        } catch (IOException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        }
+    }
+
+    /**
+     * Moves the head of the buffer to the opening brace of the next object, reading more bytes if necessary.
+     *
+     * @return {@code true} if an object was found, {@code false} if the end of file was reached.
+     */
+    private boolean findNextObjectStart() throws IOException {
+        if (!byteOrderMarkChecked) {
+            skipByteOrderMark();
+        }
+        int start;
+        while ((start = splitter.nextObjectStart(buffer, head, tail)) == JSONObjectSplitter.NEED_MORE_BYTES) {
+            head = tail;
+            if (!fill()) {
+                return false;
+            }
+        }
+        head = start;
+        return true;
+    }
+
+    /**
+     * Skips the UTF-8 byte-order-mark if the file is read from its first byte.
+     */
+    private void skipByteOrderMark() throws IOException {
+        byteOrderMarkChecked = true;
+        if (bufferPosition + head != 0) {
+            return;
+        }
+        while (tail < 3 && fill()) {
+            // read until the byte-order-mark can be detected.
+        }
+        head = JSONObjectSplitter.skipByteOrderMark(buffer, head, tail);
+    }
+
+    /**
+     * Finds the end of the object starting at the head of the buffer, reading more bytes if necessary.
+     *
+     * @return the index after the closing brace of the object.
+     */
+    private int findObjectEnd() throws IOException {
+        int scanned = head;
+        int end;
+        while ((end = splitter.objectEnd(buffer, scanned, tail)) == JSONObjectSplitter.NEED_MORE_BYTES) {
+            // fill() may move the unconsumed bytes at the beginning of the buffer.
+            final int shift = head;
+            final int scannedUpTo = tail;
+            if (!fill()) {
+                throw new ReaderException("Error while reading JSON, unexpected end of file '" + context + "'");
+            }
+            scanned = scannedUpTo - shift;
+        }
+        return end;
+    }
+
+    /**
+     * Reads more bytes into the buffer. Unconsumed bytes are first moved at the beginning of the buffer,
+     * which is grown if it is already full.
+     *
+     * @return {@code true} if some bytes were read.
+     */
+    private boolean fill() throws IOException {
+        if (endOfFile) {
+            return false;
+        }
+        if (head > 0) {
+            System.arraycopy(buffer, head, buffer, 0, tail - head);
+            bufferPosition += head;
+            tail -= head;
+            head = 0;
+        }
+        if (tail == buffer.length) {
+            buffer = Arrays.copyOf(buffer, buffer.length * 2);
+        }
+        final int read = channel.read(ByteBuffer.wrap(buffer, tail, buffer.length - tail));
+        if (read <= 0) {
+            endOfFile = true;
+            return false;
+        }
+        tail += read;
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!isClose()) {
+            try {
+                channel.close();
+            } catch (IOException ignore) {
+                // ignore
+            } finally {
+                super.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.json.DefaultJSONStructConverter;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Read JSON files containing either newline-delimited JSON objects or top-level arrays of JSON objects.
+ *
+ * Each JSON object is converted into a record value, without first being read as a string message.
+ */
+public class JSONFileInputReader extends AbstractFileInputReader {
+
+    private JSONFileInputReaderConfig configs = new JSONFileInputReaderConfig(Collections.emptyMap());
+
+    /**
+     * Creates a new {@link JSONFileInputReader} instance.
+     */
+    public JSONFileInputReader() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        this.configs = new JSONFileInputReaderConfig(configs);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FileInputIterator<FileRecord<TypedStruct>> newIterator(final FileContext context,
+                                                                     final IteratorManager iteratorManager) {
+        return new JSONFileInputIterator(configs, new DefaultJSONStructConverter(), iteratorManager, context);
+    }
+}
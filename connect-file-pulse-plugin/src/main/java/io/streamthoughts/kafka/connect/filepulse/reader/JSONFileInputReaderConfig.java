@@ -0,0 +1,64 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.Map;
+
+/**
+ * Configuration class for {@link JSONFileInputReader}.
+ */
+class JSONFileInputReaderConfig extends AbstractConfig {
+
+    public static final String BUFFER_INIT_BYTES_SIZE_CONFIG   = "buffer.initial.bytes.size";
+    private static final String BUFFER_INIT_BYTES_SIZE_DOC     = "The initial buffer size used to read input files. "
+            + "The buffer grows to hold the largest JSON object of the file.";
+    public static final int BUFFER_INIT_BYTES_SIZE_DEFAULT     = 64 * 1024;
+
+    public static final String READER_MAX_RECORDS_CONFIG       = "read.max.records";
+    private static final String READER_MAX_RECORDS_DOC         = "The maximum number of JSON objects to read from file before returning to task.";
+    public static final int READER_MAX_RECORDS_DEFAULT         = 1000;
+
+    /**
+     * Creates a new {@link JSONFileInputReaderConfig} instance.
+     * @param originals the reader configuration.
+     */
+    JSONFileInputReaderConfig(final Map<String, ?> originals) {
+        super(configDef(), originals);
+    }
+
+    int bufferInitialBytesSize() {
+        return getInt(BUFFER_INIT_BYTES_SIZE_CONFIG);
+    }
+
+    int maxRecords() {
+        return getInt(READER_MAX_RECORDS_CONFIG);
+    }
+
+    private static ConfigDef configDef() {
+        return new ConfigDef()
+                .define(BUFFER_INIT_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, BUFFER_INIT_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, BUFFER_INIT_BYTES_SIZE_DOC)
+
+                .define(READER_MAX_RECORDS_CONFIG, ConfigDef.Type.INT, READER_MAX_RECORDS_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, READER_MAX_RECORDS_DOC);
+    }
+}
@@ -0,0 +1,535 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.annotation.VisibleForTesting;
+import io.streamthoughts.kafka.connect.filepulse.data.Type;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.internal.Silent;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.LocalInputFile;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.apache.kafka.common.utils.Time;
+import org.apache.parquet.column.page.PageReadStore;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.convert.GroupRecordConverter;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.io.ColumnIOFactory;
+import org.apache.parquet.io.MessageColumnIO;
+import org.apache.parquet.io.RecordReader;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.bool;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.float32;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.float64;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.int32;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.int64;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.string;
+import static io.streamthoughts.kafka.connect.filepulse.data.TypedValue.struct;
+import static io.streamthoughts.kafka.connect.filepulse.internal.Silent.unchecked;
+
+/**
+ * Read Parquet files.
+ *
+ * Files are read one row group at a time, and only the column chunks of the configured columns are read.
+ */
+public class ParquetFileInputReader extends AbstractFileInputReader {
+
+    private ParquetFileInputReaderConfig configs = new ParquetFileInputReaderConfig(Collections.emptyMap());
+
+    /**
+     * Creates a new {@link ParquetFileInputReader} instance.
+     */
+    public ParquetFileInputReader() {
+        super();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void configure(final Map<String, ?> configs) {
+        this.configs = new ParquetFileInputReaderConfig(configs);
+    }
+
+    /**
+     * Cuts the file into splits of consecutive row groups.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FileSplit> splits(final SourceMetadata metadata) {
+        final long splitBytesSize = configs.splitBytesSize();
+        if (splitBytesSize <= 0 || metadata.size() <= splitBytesSize) {
+            return Collections.emptyList();
+        }
+        final List<BlockMetaData> rowGroups;
+        final File file = new File(metadata.absolutePath());
+        try (ParquetFileReader reader = ParquetFileReader.open(new LocalInputFile(file))) {
+            rowGroups = reader.getRowGroups();
+        } catch (IOException e) {
+            throw new ReaderException("Error while computing splits for file " + metadata.absolutePath(), e);
+        }
+        final List<FileSplit> splits = new ArrayList<>();
+        long splitStart = 0L;
+        long splitBytes = 0L;
+        for (BlockMetaData rowGroup : rowGroups) {
+            if (splitBytes >= splitBytesSize) {
+                splits.add(new FileSplit(splitStart, rowGroup.getStartingPos()));
+                splitStart = rowGroup.getStartingPos();
+                splitBytes = 0L;
+            }
+            splitBytes += rowGroup.getCompressedSize();
+        }
+        if (splits.isEmpty()) {
+            return Collections.emptyList();
+        }
+        splits.add(new FileSplit(splitStart, FileSplit.UNBOUNDED));
+        return splits;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected FileInputIterator<FileRecord<TypedStruct>> newIterator(final FileContext context,
+                                                                     final IteratorManager iteratorManager) {
+        return new ParquetFileIterator(configs, iteratorManager, context);
+    }
+
+    /**
+     * Gets the projection of the specified schema on the specified top-level columns.
+     *
+     * @param schema    the file schema.
+     * @param columns   the columns to read, or an empty list to read all columns.
+     * @return          the requested schema.
+     */
+    @VisibleForTesting
+    static MessageType project(final MessageType schema, final List<String> columns) {
+        if (columns.isEmpty()) {
+            return schema;
+        }
+        final List<org.apache.parquet.schema.Type> fields = new ArrayList<>(columns.size());
+        for (String column : columns) {
+            if (!schema.containsField(column)) {
+                throw new ReaderException("Cannot find column '" + column + "' in parquet schema: " + schema);
+            }
+            fields.add(schema.getType(column));
+        }
+        return new MessageType(schema.getName(), fields);
+    }
+
+    public static class ParquetFileIterator extends AbstractFileInputIterator<TypedStruct> {
+
+        private final ParquetFileReader fileReader;
+
+        private final MessageType requestedSchema;
+
+        private final MessageColumnIO columnIO;
+
+        private final TypedStructConverter converter;
+
+        private final int maxRecords;
+
+        /**
+         * The row groups of the file, in the order they are read.
+         */
+        private final List<BlockMetaData> rowGroups;
+
+        /**
+         * The index of the next row group to be read.
+         */
+        private int nextRowGroup = 0;
+
+        /**
+         * The index of the first row group belonging to the split being read.
+         */
+        private final int firstRowGroup;
+
+        /**
+         * The index of the last row group belonging to the split being read.
+         */
+        private final int lastRowGroup;
+
+        private RecordReader<Group> recordReader;
+
+        private long rowGroupStart = -1L;
+
+        private long rowGroupRows = 0L;
+
+        private long rowsReadInRowGroup = 0L;
+
+        /**
+         * Creates a new {@link ParquetFileIterator} instance.
+         *
+         * @param configs         the reader configuration.
+         * @param iteratorManager the {@link IteratorManager} instance.
+         * @param context         the {@link FileContext} instance.
+         */
+        ParquetFileIterator(final ParquetFileInputReaderConfig configs,
+                            final IteratorManager iteratorManager,
+                            final FileContext context) {
+            super(iteratorManager, context);
+            fileReader = unchecked(() ->
+                ParquetFileReader.open(new LocalInputFile(context.file())), ReaderException::new);
+            final MessageType fileSchema = fileReader.getFooter().getFileMetaData().getSchema();
+            requestedSchema = project(fileSchema, configs.columns());
+            fileReader.setRequestedSchema(requestedSchema);
+            columnIO = new ColumnIOFactory().getColumnIO(requestedSchema, fileSchema);
+            converter = TypedStructConverter.forSchema(requestedSchema);
+            maxRecords = configs.maxRecords();
+            rowGroups = fileReader.getRowGroups();
+            final FileSplit split = context.split();
+            int first = 0;
+            int last = rowGroups.size() - 1;
+            if (split != null) {
+                // a row group belongs to the split in which it starts.
+                while (first <= last && rowGroups.get(first).getStartingPos() < split.startPosition()) {
+                    first++;
+                }
+                while (last >= first && split.isAfterEnd(rowGroups.get(last).getStartingPos())) {
+                    last--;
+                }
+            }
+            firstRowGroup = first;
+            lastRowGroup = last;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void seekTo(final SourceOffset offset) {
+            Objects.requireNonNull(offset, "offset can't be null");
+            if (offset.position() == -1) {
+                return;
+            }
+            while (nextRowGroup <= lastRowGroup && rowGroups.get(nextRowGroup).getStartingPos() < offset.position()) {
+                skipNextRowGroup();
+            }
+            if (nextRowGroup > lastRowGroup || rowGroups.get(nextRowGroup).getStartingPos() != offset.position()) {
+                throw new ReaderException(
+                    "Cannot find row group starting at position " + offset.position() + " in file " + context);
+            }
+            readNextRowGroup();
+            while (rowsReadInRowGroup < offset.rows() && rowsReadInRowGroup < rowGroupRows) {
+                recordReader.read();
+                rowsReadInRowGroup++;
+            }
+            updateContext();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public RecordsIterable<FileRecord<TypedStruct>> next() {
+            try {
+                final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+                while (records.size() < maxRecords && hasNext()) {
+                    if (rowsReadInRowGroup == rowGroupRows) {
+                        readNextRowGroupInSplit();
+                    }
+                    final Group group = recordReader.read();
+                    rowsReadInRowGroup++;
+                    final ParquetRecordOffset offset = new ParquetRecordOffset(rowGroupStart, rowsReadInRowGroup);
+                    records.add(new TypedFileRecord(offset, converter.convert(group)));
+                }
+                return new RecordsIterable<>(records);
+            } finally {
+                updateContext();
+            }
+        }
+
+        private void readNextRowGroupInSplit() {
+            while (nextRowGroup < firstRowGroup) {
+                skipNextRowGroup();
+            }
+            readNextRowGroup();
+        }
+
+        private void readNextRowGroup() {
+            final BlockMetaData rowGroup = rowGroups.get(nextRowGroup++);
+            final PageReadStore pages = unchecked(fileReader::readNextRowGroup, ReaderException::new);
+            recordReader = columnIO.getRecordReader(pages, new GroupRecordConverter(requestedSchema));
+            rowGroupStart = rowGroup.getStartingPos();
+            rowGroupRows = pages.getRowCount();
+            rowsReadInRowGroup = 0L;
+        }
+
+        private void skipNextRowGroup() {
+            nextRowGroup++;
+            unchecked(fileReader::skipNextRowGroup, ReaderException::new);
+        }
+
+        /**
+         * Updates the current {@link #context}.
+         */
+        private void updateContext() {
+            final SourceOffset offset = new SourceOffset(
+                rowGroupStart,
+                rowsReadInRowGroup,
+                Time.SYSTEM.milliseconds());
+            context = context.withOffset(offset);
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public boolean hasNext() {
+            if (isClose()) {
+                return false;
+            }
+            return rowsReadInRowGroup < rowGroupRows || Math.max(nextRowGroup, firstRowGroup) <= lastRowGroup;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public void close() {
+            if (!isClose()) {
+                Silent.unchecked(fileReader::close, ReaderException::new);
+                super.close();
+            }
+        }
+    }
+
+    /**
+     * Converts Parquet {@link Group}s into {@link TypedStruct}s.
+     *
+     * A converter is compiled once for a given {@link GroupType} : the value converters of
+     * all fields are resolved up-front and stored by field index.
+     */
+    @VisibleForTesting
+    public static class TypedStructConverter {
+
+        @FunctionalInterface
+        private interface ValueConverter {
+            TypedValue apply(final Group group, final int field, final int index);
+        }
+
+        private final String[] fieldNames;
+
+        private final Type[] fieldTypes;
+
+        private final boolean[] repeated;
+
+        private final ValueConverter[] fieldConverters;
+
+        private TypedStructConverter(final GroupType schema) {
+            final int count = schema.getFieldCount();
+            fieldNames = new String[count];
+            fieldTypes = new Type[count];
+            repeated = new boolean[count];
+            fieldConverters = new ValueConverter[count];
+            for (int i = 0; i < count; i++) {
+                final org.apache.parquet.schema.Type field = schema.getType(i);
+                fieldNames[i] = field.getName();
+                fieldTypes[i] = typeOf(field);
+                repeated[i] = field.isRepetition(org.apache.parquet.schema.Type.Repetition.REPEATED);
+                fieldConverters[i] = compileValue(field);
+            }
+        }
+
+        /**
+         * Compiles a new {@link TypedStructConverter} for the specified group schema.
+         *
+         * @param schema    the Parquet {@link GroupType}.
+         * @return          a new {@link TypedStructConverter} instance.
+         */
+        static TypedStructConverter forSchema(final GroupType schema) {
+            return new TypedStructConverter(schema);
+        }
+
+        /**
+         * Converts the specified {@link Group} instance into a {@link TypedStruct}.
+         *
+         * @param group     the {@link Group} instance to convert.
+         * @return          a new {@link TypedStruct} instance.
+         */
+        TypedStruct convert(final Group group) {
+            TypedStruct struct = TypedStruct.create();
+            for (int i = 0; i < fieldConverters.length; i++) {
+                struct = struct.put(fieldNames[i], convertField(group, i));
+            }
+            return struct;
+        }
+
+        private TypedValue convertField(final Group group, final int field) {
+            final int count = group.getFieldRepetitionCount(field);
+            if (repeated[field]) {
+                return convertRepeated(group, field, count, fieldConverters[field]);
+            }
+            return count == 0 ? TypedValue.of(null, fieldTypes[field]) : fieldConverters[field].apply(group, field, 0);
+        }
+
+        private static ValueConverter compileValue(final org.apache.parquet.schema.Type type) {
+            if (type.isPrimitive()) {
+                return compilePrimitive(type.asPrimitiveType());
+            }
+            final GroupType groupType = type.asGroupType();
+            final OriginalType originalType = groupType.getOriginalType();
+            if (originalType == OriginalType.LIST) {
+                return compileList(groupType);
+            }
+            if (originalType == OriginalType.MAP || originalType == OriginalType.MAP_KEY_VALUE) {
+                return compileMap(groupType);
+            }
+            final TypedStructConverter converter = new TypedStructConverter(groupType);
+            return (group, field, index) -> struct(converter.convert(group.getGroup(field, index)));
+        }
+
+        private static ValueConverter compilePrimitive(final PrimitiveType type) {
+            switch (type.getPrimitiveTypeName()) {
+                case BOOLEAN:
+                    return (group, field, index) -> bool(group.getBoolean(field, index));
+                case INT32:
+                    return (group, field, index) -> int32(group.getInteger(field, index));
+                case INT64:
+                    return (group, field, index) -> int64(group.getLong(field, index));
+                case FLOAT:
+                    return (group, field, index) -> float32(group.getFloat(field, index));
+                case DOUBLE:
+                    return (group, field, index) -> float64(group.getDouble(field, index));
+                default:
+                    if (isString(type)) {
+                        return (group, field, index) -> string(group.getBinary(field, index).toStringUsingUTF8());
+                    }
+                    return (group, field, index) -> TypedValue.bytes(group.getBinary(field, index).getBytes());
+            }
+        }
+
+        /**
+         * Compiles a LIST annotated group, either using the standard 3-level structure
+         * ({@code repeated group list { element }}) or the legacy 2-level structure ({@code repeated element}).
+         */
+        private static ValueConverter compileList(final GroupType listType) {
+            final org.apache.parquet.schema.Type repeatedType = listType.getType(0);
+            final boolean threeLevels = !repeatedType.isPrimitive() && repeatedType.asGroupType().getFieldCount() == 1;
+            if (threeLevels) {
+                final ValueConverter element = compileValue(repeatedType.asGroupType().getType(0));
+                final Type elementType = typeOf(repeatedType.asGroupType().getType(0));
+                final ValueConverter wrapper = (group, field, index) -> {
+                    final Group elementGroup = group.getGroup(field, index);
+                    return elementGroup.getFieldRepetitionCount(0) == 0 ?
+                        TypedValue.of(null, elementType) :
+                        element.apply(elementGroup, 0, 0);
+                };
+                return (group, field, index) -> {
+                    final Group list = group.getGroup(field, index);
+                    return convertRepeated(list, 0, list.getFieldRepetitionCount(0), wrapper);
+                };
+            }
+            final ValueConverter element = compileValue(repeatedType);
+            return (group, field, index) -> {
+                final Group list = group.getGroup(field, index);
+                return convertRepeated(list, 0, list.getFieldRepetitionCount(0), element);
+            };
+        }
+
+        /**
+         * Compiles a MAP annotated group ({@code repeated group key_value { key; value }}).
+         */
+        private static ValueConverter compileMap(final GroupType mapType) {
+            final GroupType keyValueType = mapType.getType(0).asGroupType();
+            final ValueConverter key = compileValue(keyValueType.getType(0));
+            final ValueConverter value = keyValueType.getFieldCount() > 1 ?
+                compileValue(keyValueType.getType(1)) :
+                (group, field, index) -> TypedValue.of(null, Type.STRING);
+            return (group, field, index) -> {
+                final Group map = group.getGroup(field, index);
+                final int size = map.getFieldRepetitionCount(0);
+                final Map<String, Object> converted = new HashMap<>();
+                Type mapValueType = null;
+                for (int i = 0; i < size; i++) {
+                    final Group entry = map.getGroup(0, i);
+                    final TypedValue element = entry.getFieldRepetitionCount(1) > 0 ? value.apply(entry, 1, 0) : null;
+                    final String name = String.valueOf(key.apply(entry, 0, 0).value());
+                    converted.put(name, element != null ? element.value() : null);
+                    mapValueType = element != null ? element.type() : mapValueType;
+                }
+                return (mapValueType != null) ?
+                    TypedValue.map(converted, mapValueType) :
+                    TypedValue.of(converted, Type.MAP);
+            };
+        }
+
+        private static TypedValue convertRepeated(final Group group,
+                                                  final int field,
+                                                  final int count,
+                                                  final ValueConverter converter) {
+            final List<Object> converted = new ArrayList<>(count);
+            TypedValue element = null;
+            for (int i = 0; i < count; i++) {
+                element = converter.apply(group, field, i);
+                converted.add(element.value());
+            }
+            return (element != null && element.value() != null) ?
+                TypedValue.array(converted, element.schema()) :
+                TypedValue.of(converted, Type.ARRAY);
+        }
+
+        private static boolean isString(final PrimitiveType type) {
+            final OriginalType originalType = type.getOriginalType();
+            return originalType == OriginalType.UTF8
+                || originalType == OriginalType.ENUM
+                || originalType == OriginalType.JSON;
+        }
+
+        private static Type typeOf(final org.apache.parquet.schema.Type type) {
+            if (type.isRepetition(org.apache.parquet.schema.Type.Repetition.REPEATED)) {
+                return Type.ARRAY;
+            }
+            if (!type.isPrimitive()) {
+                final OriginalType originalType = type.getOriginalType();
+                if (originalType == OriginalType.LIST) return Type.ARRAY;
+                if (originalType == OriginalType.MAP || originalType == OriginalType.MAP_KEY_VALUE) return Type.MAP;
+                return Type.STRUCT;
+            }
+            switch (type.asPrimitiveType().getPrimitiveTypeName()) {
+                case BOOLEAN: return Type.BOOLEAN;
+                case INT32: return Type.INTEGER;
+                case INT64: return Type.LONG;
+                case FLOAT: return Type.FLOAT;
+                case DOUBLE: return Type.DOUBLE;
+                default: return isString(type.asPrimitiveType()) ? Type.STRING : Type.BYTES;
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import org.apache.kafka.common.config.AbstractConfig;
+import org.apache.kafka.common.config.ConfigDef;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Configuration class for {@link ParquetFileInputReader}.
+ */
+class ParquetFileInputReaderConfig extends AbstractConfig {
+
+    public static final String READER_COLUMNS_CONFIG           = "read.columns";
+    private static final String READER_COLUMNS_DOC             = "The list of top-level columns to read from input files. "
+            + "Only the column chunks of these columns are read. Empty to read all columns.";
+
+    public static final String READER_MAX_RECORDS_CONFIG       = "read.max.records";
+    private static final String READER_MAX_RECORDS_DOC         = "The maximum number of rows to read from file before returning to task.";
+    public static final int READER_MAX_RECORDS_DEFAULT         = 1000;
+
+    public static final String READER_SPLIT_BYTES_SIZE_CONFIG  = "read.split.bytes.size";
+    private static final String READER_SPLIT_BYTES_SIZE_DOC    = "The approximate number of compressed bytes of each split when a large file "
+            + "is cut into splits of consecutive row groups that are read concurrently (requires 'task.reader.parallelism' > 1). "
+            + "Use 0 to disable splitting.";
+    public static final long READER_SPLIT_BYTES_SIZE_DEFAULT   = 0L;
+
+    /**
+     * Creates a new {@link ParquetFileInputReaderConfig} instance.
+     * @param originals the reader configuration.
+     */
+    ParquetFileInputReaderConfig(final Map<String, ?> originals) {
+        super(configDef(), originals);
+    }
+
+    List<String> columns() {
+        return getList(READER_COLUMNS_CONFIG);
+    }
+
+    int maxRecords() {
+        return getInt(READER_MAX_RECORDS_CONFIG);
+    }
+
+    long splitBytesSize() {
+        return getLong(READER_SPLIT_BYTES_SIZE_CONFIG);
+    }
+
+    private static ConfigDef configDef() {
+        return new ConfigDef()
+                .define(READER_COLUMNS_CONFIG, ConfigDef.Type.LIST, "",
+                        ConfigDef.Importance.HIGH, READER_COLUMNS_DOC)
+
+                .define(READER_MAX_RECORDS_CONFIG, ConfigDef.Type.INT, READER_MAX_RECORDS_DEFAULT,
+                        ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, READER_MAX_RECORDS_DOC)
+
+                .define(READER_SPLIT_BYTES_SIZE_CONFIG, ConfigDef.Type.LONG, READER_SPLIT_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, READER_SPLIT_BYTES_SIZE_DOC);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.TimestampedRecordOffset;
+import org.apache.kafka.common.utils.Time;
+
+import java.util.Objects;
+
+public class ParquetRecordOffset extends TimestampedRecordOffset {
+
+    /**
+     * The starting position of the current row group.
+     */
+    private final long rowGroupStart;
+
+    /**
+     * The number of rows read into the current row group.
+     */
+    private final long rows;
+
+    /**
+     * Creates a new {@link ParquetRecordOffset} instance.
+     *
+     * @param rowGroupStart the starting position of the current row group.
+     * @param rows          the number of rows read into the current row group.
+     */
+    ParquetRecordOffset(final long rowGroupStart,
+                        final long rows) {
+        this(rowGroupStart, rows, Time.SYSTEM.milliseconds());
+    }
+
+    /**
+     * Creates a new {@link ParquetRecordOffset} instance.
+     *
+     * @param rowGroupStart the starting position of the current row group.
+     * @param rows          the number of rows read into the current row group.
+     * @param timestamp     the current timestamp.
+     */
+    private ParquetRecordOffset(final long rowGroupStart,
+                                final long rows,
+                                final long timestamp) {
+        super(timestamp);
+        this.rowGroupStart = rowGroupStart;
+        this.rows = rows;
+    }
+
+    public long rowGroupStart() {
+        return rowGroupStart;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SourceOffset toSourceOffset() {
+        return new SourceOffset(rowGroupStart, rows, timestamp());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ParquetRecordOffset)) return false;
+        if (!super.equals(o)) return false;
+        ParquetRecordOffset that = (ParquetRecordOffset) o;
+        return rowGroupStart == that.rowGroupStart &&
+                rows == that.rows;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), rowGroupStart, rows);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" +
+                "rowGroupStart=" + rowGroupStart +
+                ", rows=" + rows +
+                ", timestamp=" + timestamp() +
+                "]";
+    }
+}
@@ -21,10 +21,14 @@ package io.streamthoughts.kafka.connect.filepulse.reader;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecordOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.FileModificationWatcher;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.MappedByteBufferReader;
 import io.streamthoughts.kafka.connect.filepulse.reader.internal.NonBlockingBufferReader;
 import io.streamthoughts.kafka.connect.filepulse.reader.internal.TextBlock;
 import io.streamthoughts.kafka.connect.filepulse.reader.internal.ReversedInputFileReader;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.TextBlockReader;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.apache.kafka.common.utils.Time;
@@ -52,7 +56,7 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
     /**
      * The buffer reader.
      */
-    private final NonBlockingBufferReader reader;
+    private final TextBlockReader reader;
 
     /**
      * The minimum number of lines to read before returning records.
@@ -79,8 +83,18 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
 
     private final Charset charset;
 
+    /**
+     * The split of the file to read, or {@code null} to read the whole file.
+     */
+    private final FileSplit split;
+
     private long maxWaitMs = 0L;
 
+    /**
+     * The watcher used to wait for file modifications, or {@code null} to poll for new bytes.
+     */
+    private FileModificationWatcher watcher;
+
     private AtomicBoolean initialized = new AtomicBoolean(false);
 
     /**
@@ -92,7 +106,7 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
      * @param iteratorManager   the iterator manager.
      */
     private RowFileInputIterator(final FileContext context,
-                                 final NonBlockingBufferReader reader,
+                                 final TextBlockReader reader,
                                  final IteratorManager iteratorManager,
                                  final Charset charset) {
         super(iteratorManager, context);
@@ -101,6 +115,7 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
         Objects.requireNonNull(charset, "charset can't be null");
         this.reader = reader;
         this.charset = charset;
+        this.split = context.split();
     }
 
     private void setMinNumReadRecords(final int minNumReadRecords) {
@@ -119,6 +134,10 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
         this.maxWaitMs = maxWaitMs;
     }
 
+    private void setWatcher(final FileModificationWatcher watcher) {
+        this.watcher = watcher;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -128,6 +147,8 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
         if (offset.position() != -1) {
             offsetLines = offset.rows();
             reader.seekTo(offset.position());
+        } else if (split != null) {
+            reader.seekTo(split.startPosition());
         }
         updateContext();
     }
@@ -143,6 +164,10 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
             List<TextBlock> lines = reader.readLines(minNumReadRecords);
             if (lines != null) {
                 for (TextBlock line : lines) {
+                    if (isLineAfterSplit(line)) {
+                        // Following lines belong to the next split.
+                        break;
+                    }
                     offsetLines++;
                     if (isNotLineFooter(line) && isNotLineHeader(line)) {
                         records.add(createOutputRecord(line));
@@ -200,15 +225,14 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
      */
     @Override
     public boolean hasNext() {
+        if (split != null && split.isAfterEnd(reader.position())) {
+            return false;
+        }
         boolean hasNext = reader.hasNext();
         if (hasNext) return true;
 
         LOG.debug("Waiting for more bytes from file {} (timeout={}ms)", context.metadata(), maxWaitMs);
-        long timeout = Time.SYSTEM.milliseconds() + maxWaitMs;
-        do {
-            Time.SYSTEM.sleep(Math.min(100, Math.abs(timeout - Time.SYSTEM.milliseconds())));
-            hasNext = reader.hasNext();
-        } while (!hasNext && Time.SYSTEM.milliseconds() < timeout );
+        hasNext = watcher != null ? waitForModification() : pollForMoreBytes();
 
         if (!hasNext) {
             LOG.info(
@@ -224,6 +248,25 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
         return hasNext;
     }
 
+    private boolean pollForMoreBytes() {
+        boolean hasNext;
+        long timeout = Time.SYSTEM.milliseconds() + maxWaitMs;
+        do {
+            Time.SYSTEM.sleep(Math.min(100, Math.abs(timeout - Time.SYSTEM.milliseconds())));
+            hasNext = reader.hasNext();
+        } while (!hasNext && Time.SYSTEM.milliseconds() < timeout );
+        return hasNext;
+    }
+
+    private boolean waitForModification() {
+        try {
+            return watcher.await(reader::hasNext, maxWaitMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reader.hasNext();
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -233,6 +276,9 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
             if (this.reader != null) {
                 this.reader.close();
             }
+            if (this.watcher != null) {
+                this.watcher.close();
+            }
             super.close();
         }
     }
@@ -290,6 +336,10 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
                source.startOffset() > headers.get(skipHeaders - 1).startOffset();
     }
 
+    private boolean isLineAfterSplit(final TextBlock source) {
+        return split != null && split.isAfterEnd(source.startOffset());
+    }
+
     private boolean isNotLineFooter(final TextBlock source) {
         return skipFooters <= 0 ||
                source.startOffset() < footers.get(0).startOffset();
@@ -307,6 +357,10 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
         private int skipHeaders;
         private int skipFooters;
         private long waitMaxMs;
+        private RowFileInputReaderConfig.ReadMode readMode;
+        private RowFileInputReaderConfig.WaitMode waitMode;
+        private long waitBackoffMinMs;
+        private long waitBackoffMaxMs;
         private IteratorManager iteratorManager;
 
         /**
@@ -316,6 +370,10 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
             this.charset = StandardCharsets.UTF_8;
             this.minNumReadRecords = 1;
             this.initialBufferSize = NonBlockingBufferReader.DEFAULT_INITIAL_CAPACITY;
+            this.readMode = RowFileInputReaderConfig.ReadMode.BUFFERED;
+            this.waitMode = RowFileInputReaderConfig.WaitMode.POLL;
+            this.waitBackoffMinMs = RowFileInputReaderConfig.READER_WAIT_BACKOFF_MIN_MS_DEFAULT;
+            this.waitBackoffMaxMs = RowFileInputReaderConfig.READER_WAIT_BACKOFF_MAX_MS_DEFAULT;
         }
 
         Builder withContext(final FileContext context) {
@@ -348,6 +406,22 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
             return this;
         }
 
+        Builder withReadMode(final RowFileInputReaderConfig.ReadMode readMode) {
+            this.readMode = readMode;
+            return this;
+        }
+
+        Builder withWaitMode(final RowFileInputReaderConfig.WaitMode waitMode) {
+            this.waitMode = waitMode;
+            return this;
+        }
+
+        Builder withWaitBackoff(final long minMs, final long maxMs) {
+            this.waitBackoffMinMs = minMs;
+            this.waitBackoffMaxMs = maxMs;
+            return this;
+        }
+
         Builder withCharset(final Charset charset) {
             this.charset = charset;
             return this;
@@ -360,16 +434,31 @@ public class RowFileInputIterator extends AbstractFileInputIterator<TypedStruct>
 
         RowFileInputIterator build() {
             validateNotNull(context, "context");
-            NonBlockingBufferReader reader = new NonBlockingBufferReader(context.file(), initialBufferSize, charset);
+            final TextBlockReader reader = newReader();
             reader.disableAutoFlush();
             RowFileInputIterator iterator = new RowFileInputIterator(context, reader, iteratorManager, charset);
             iterator.setSkipFooters(skipFooters);
             iterator.setSkipHeaders(skipHeaders);
             iterator.setMinNumReadRecords(minNumReadRecords);
             iterator.setMaxWaitMs(waitMaxMs);
+            if (waitMode == RowFileInputReaderConfig.WaitMode.WATCH && waitMaxMs > 0) {
+                iterator.setWatcher(new FileModificationWatcher(context.file(), waitBackoffMinMs, waitBackoffMaxMs));
+            }
             return iterator;
         }
 
+        private TextBlockReader newReader() {
+            if (readMode == RowFileInputReaderConfig.ReadMode.MMAP) {
+                return new MappedByteBufferReader(
+                    context.file(),
+                    initialBufferSize,
+                    MappedByteBufferReader.DEFAULT_MAPPED_REGION_SIZE,
+                    charset
+                );
+            }
+            return new NonBlockingBufferReader(context.file(), initialBufferSize, charset);
+        }
+
         private void validateNotNull(final Object o, final String property) {
             if (o == null) {
                 throw new IllegalStateException(
@@ -19,9 +19,16 @@
 package io.streamthoughts.kafka.connect.filepulse.reader;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.LineAlignedFileSplitter;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -50,6 +57,23 @@ public class RowFileInputReader extends AbstractFileInputReader  {
         return configs;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<FileSplit> splits(final SourceMetadata metadata) {
+        final long splitBytesSize = configs.splitBytesSize();
+        if (splitBytesSize <= 0 || metadata.size() <= splitBytesSize) {
+            return Collections.emptyList();
+        }
+        try {
+            final LineAlignedFileSplitter splitter = new LineAlignedFileSplitter(configs.charset());
+            return splitter.split(new File(metadata.absolutePath()), splitBytesSize);
+        } catch (IOException e) {
+            throw new ReaderException("Error while computing splits for file " + metadata.absolutePath(), e);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -64,6 +88,9 @@ public class RowFileInputReader extends AbstractFileInputReader  {
                 .withSkipHeaders(configs.skipHeaders())
                 .withSkipFooters(configs.skipFooters())
                 .withMaxWaitMs(configs.maxWaitMs())
+                .withReadMode(configs.readMode())
+                .withWaitMode(configs.waitMode())
+                .withWaitBackoff(configs.waitBackoffMinMs(), configs.waitBackoffMaxMs())
                 .withIteratorManager(iteratorManager)
                 .build();
     }
@@ -53,6 +53,48 @@ class RowFileInputReaderConfig extends AbstractConfig {
     private static final String READER_WAIT_MAX_MS_DOC         = "Maximum time to wait in milliseconds for more bytes after hitting end of file.";
     public static final long READER_WAIT_MAX_MS__DEFAULT       = 0L;
 
+    public static final String READER_MODE_CONFIG              = "read.mode";
+    private static final String READER_MODE_DOC                = "The mode used for reading input files. Must be one of: "
+            + "'BUFFERED' (lines are decoded through a character buffer), "
+            + "'MMAP' (lines are split directly on a memory-mapped region of the file).";
+    public static final String READER_MODE_DEFAULT             = ReadMode.BUFFERED.name();
+
+    public static final String READER_WAIT_MODE_CONFIG         = "read.wait.mode";
+    private static final String READER_WAIT_MODE_DOC           = "The strategy used to wait for more bytes after hitting end of file. "
+            + "Must be one of: 'POLL' (periodically checks for new bytes), "
+            + "'WATCH' (parks until the file is modified using a file system watch service).";
+    public static final String READER_WAIT_MODE_DEFAULT        = WaitMode.POLL.name();
+
+    public static final String READER_WAIT_BACKOFF_MIN_MS_CONFIG   = "read.wait.backoff.min.ms";
+    private static final String READER_WAIT_BACKOFF_MIN_MS_DOC     = "The initial time to wait in milliseconds before "
+            + "checking for new bytes when no file modification is notified (only used with 'WATCH' mode).";
+    public static final long READER_WAIT_BACKOFF_MIN_MS_DEFAULT    = 10L;
+
+    public static final String READER_WAIT_BACKOFF_MAX_MS_CONFIG   = "read.wait.backoff.max.ms";
+    private static final String READER_WAIT_BACKOFF_MAX_MS_DOC     = "The maximum time to wait in milliseconds before "
+            + "checking for new bytes when no file modification is notified (only used with 'WATCH' mode).";
+    public static final long READER_WAIT_BACKOFF_MAX_MS_DEFAULT    = 1000L;
+
+    public static final String READER_SPLIT_BYTES_SIZE_CONFIG  = "read.split.bytes.size";
+    private static final String READER_SPLIT_BYTES_SIZE_DOC    = "The approximate number of bytes of each split when a large file "
+            + "is cut into line-aligned splits that are read concurrently (requires 'task.reader.parallelism' > 1). "
+            + "Files which are not larger than this size are read as a whole. Use 0 to disable splitting.";
+    public static final long READER_SPLIT_BYTES_SIZE_DEFAULT   = 0L;
+
+    /**
+     * The supported read modes.
+     */
+    public enum ReadMode {
+        BUFFERED, MMAP
+    }
+
+    /**
+     * The supported strategies for waiting for more bytes.
+     */
+    public enum WaitMode {
+        POLL, WATCH
+    }
+
     /**
      * Creates a new {@link RowFileInputReaderConfig} instance.
      * @param originals the reader configuration.
@@ -81,6 +123,26 @@ class RowFileInputReaderConfig extends AbstractConfig {
 
     long maxWaitMs() { return getLong(READER_WAIT_MAX_MS_CONFIG); }
 
+    ReadMode readMode() {
+        return ReadMode.valueOf(getString(READER_MODE_CONFIG).toUpperCase());
+    }
+
+    WaitMode waitMode() {
+        return WaitMode.valueOf(getString(READER_WAIT_MODE_CONFIG).toUpperCase());
+    }
+
+    long waitBackoffMinMs() {
+        return getLong(READER_WAIT_BACKOFF_MIN_MS_CONFIG);
+    }
+
+    long waitBackoffMaxMs() {
+        return getLong(READER_WAIT_BACKOFF_MAX_MS_CONFIG);
+    }
+
+    long splitBytesSize() {
+        return getLong(READER_SPLIT_BYTES_SIZE_CONFIG);
+    }
+
     private static ConfigDef configDef() {
         return new ConfigDef()
                 .define(BUFFER_INIT_BYTES_SIZE_CONFIG, ConfigDef.Type.INT, BUFFER_INIT_BYTES_SIZE_DEFAULT,
@@ -99,6 +161,21 @@ class RowFileInputReaderConfig extends AbstractConfig {
                         ConfigDef.Importance.LOW, READER_WAIT_MAX_MS_DOC)
 
                 .define(READER_FIELD_FOOTER_CONFIG, ConfigDef.Type.INT, READER_FIELD_FOOTER_DEFAULT,
-                        ConfigDef.Importance.HIGH, READER_FIELD_FOOTER_DOC);
+                        ConfigDef.Importance.HIGH, READER_FIELD_FOOTER_DOC)
+
+                .define(READER_MODE_CONFIG, ConfigDef.Type.STRING, READER_MODE_DEFAULT,
+                        ConfigDef.Importance.LOW, READER_MODE_DOC)
+
+                .define(READER_WAIT_MODE_CONFIG, ConfigDef.Type.STRING, READER_WAIT_MODE_DEFAULT,
+                        ConfigDef.Importance.LOW, READER_WAIT_MODE_DOC)
+
+                .define(READER_WAIT_BACKOFF_MIN_MS_CONFIG, ConfigDef.Type.LONG, READER_WAIT_BACKOFF_MIN_MS_DEFAULT,
+                        ConfigDef.Importance.LOW, READER_WAIT_BACKOFF_MIN_MS_DOC)
+
+                .define(READER_WAIT_BACKOFF_MAX_MS_CONFIG, ConfigDef.Type.LONG, READER_WAIT_BACKOFF_MAX_MS_DEFAULT,
+                        ConfigDef.Importance.LOW, READER_WAIT_BACKOFF_MAX_MS_DOC)
+
+                .define(READER_SPLIT_BYTES_SIZE_CONFIG, ConfigDef.Type.LONG, READER_SPLIT_BYTES_SIZE_DEFAULT,
+                        ConfigDef.Range.atLeast(0), ConfigDef.Importance.LOW, READER_SPLIT_BYTES_SIZE_DOC);
     }
 }
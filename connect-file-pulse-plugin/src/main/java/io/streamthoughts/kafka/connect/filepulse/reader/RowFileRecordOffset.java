@@ -60,7 +60,7 @@ public class RowFileRecordOffset extends BytesRecordOffset {
                                long rows,
                                long timestamp,
                                long size) {
-        super(timestamp, startPosition, endPosition);
+        super(startPosition, endPosition, timestamp);
         this.rows = rows;
         this.size = size;
     }
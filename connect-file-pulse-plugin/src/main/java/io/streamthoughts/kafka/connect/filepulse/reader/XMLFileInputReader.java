@@ -23,6 +23,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.Type;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedField;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.StreamingXPathExpression;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
@@ -58,12 +59,23 @@ public class XMLFileInputReader extends AbstractFileInputReader {
 
     private XMLFileInputReaderConfig configs;
 
+    /**
+     * The expression used to stream XML files, or {@code null} if files must be read using DOM.
+     */
+    private StreamingXPathExpression streamingExpression;
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void configure(final Map<String, ?> configs) {
         this.configs = new XMLFileInputReaderConfig(configs);
+        final String xpathQuery = this.configs.xpathQuery();
+        if (this.configs.isStreamingEnabled() && StreamingXPathExpression.isSupported(xpathQuery)) {
+            streamingExpression = StreamingXPathExpression.compile(xpathQuery);
+        } else {
+            streamingExpression = null;
+        }
     }
 
     /**
@@ -72,6 +84,9 @@ public class XMLFileInputReader extends AbstractFileInputReader {
     @Override
     protected FileInputIterator<FileRecord<TypedStruct>> newIterator(final FileContext context,
                                                                      final IteratorManager iteratorManager) {
+        if (streamingExpression != null) {
+            return new XMLStreamFileInputIterator(streamingExpression, iteratorManager, context);
+        }
         return new XMLFileInputIterator(configs, iteratorManager, context);
     }
 
@@ -149,7 +164,7 @@ public class XMLFileInputReader extends AbstractFileInputReader {
         }
     }
 
-    private static class Node2StructConverter {
+    static class Node2StructConverter {
 
         private static TypedStruct convertNodeObjectTree(final Node node) throws DOMException {
             Objects.requireNonNull(node, "node cannot be null");
@@ -168,9 +183,9 @@ public class XMLFileInputReader extends AbstractFileInputReader {
             return container;
         }
 
-        private static TypedStruct enrichStructWithObject(final TypedStruct container,
-                                                          final String nodeName,
-                                                          final Object nodeValue) {
+        static TypedStruct enrichStructWithObject(final TypedStruct container,
+                                                  final String nodeName,
+                                                  final Object nodeValue) {
             TypedValue value;
             if (container.has(nodeName)) {
                 final TypedField field = container.field(nodeName);
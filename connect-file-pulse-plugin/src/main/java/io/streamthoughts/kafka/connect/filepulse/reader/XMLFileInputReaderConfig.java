@@ -31,6 +31,14 @@ public class XMLFileInputReaderConfig extends AbstractConfig {
     public static final String XPATH_QUERY_CONFIG  = "xpath.expression";
     public static final String XPATH_QUERY_DOC     = "The XPath expression used to split the XML into a list of nodes";
 
+    public static final String XPATH_STREAMING_ENABLED_CONFIG  = "xpath.streaming.enabled";
+    public static final String XPATH_STREAMING_ENABLED_DOC     = "Read XML files as a stream (StAX) instead of building a DOM, "
+            + "when the XPath expression is an absolute path of element names (e.g. '/root/items/item' or '//item'). "
+            + "Other expressions are always evaluated on a DOM. Unlike the DOM evaluation, elements nested inside "
+            + "a selected element are not selected again (e.g. with '//item') and namespace declarations (xmlns) "
+            + "are not converted into fields.";
+    public static final boolean XPATH_STREAMING_ENABLED_DEFAULT = false;
+
     /**
      * Creates a new {@link XMLFileInputReaderConfig} instance.
      *
@@ -44,9 +52,16 @@ public class XMLFileInputReaderConfig extends AbstractConfig {
         return getString(XPATH_QUERY_CONFIG);
     }
 
+    boolean isStreamingEnabled() {
+        return getBoolean(XPATH_STREAMING_ENABLED_CONFIG);
+    }
+
     private static ConfigDef configDef() {
         return new ConfigDef()
                 .define(XPATH_QUERY_CONFIG, ConfigDef.Type.STRING,
-                        ConfigDef.Importance.HIGH, XPATH_QUERY_DOC);
+                        ConfigDef.Importance.HIGH, XPATH_QUERY_DOC)
+
+                .define(XPATH_STREAMING_ENABLED_CONFIG, ConfigDef.Type.BOOLEAN, XPATH_STREAMING_ENABLED_DEFAULT,
+                        ConfigDef.Importance.LOW, XPATH_STREAMING_ENABLED_DOC);
     }
 }
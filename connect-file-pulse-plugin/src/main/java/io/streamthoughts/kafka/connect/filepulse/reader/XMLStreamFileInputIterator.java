@@ -0,0 +1,307 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.reader.internal.StreamingXPathExpression;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * An iterator which reads XML files using a StAX parser.
+ *
+ * Only the element being converted is held in memory. Elements are selected using a {@link StreamingXPathExpression}.
+ * Because a selected element is consumed entirely, elements nested into a selected element are never selected.
+ */
+class XMLStreamFileInputIterator extends AbstractFileInputIterator<TypedStruct> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(XMLStreamFileInputIterator.class);
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = newXMLInputFactory();
+
+    private final StreamingXPathExpression expression;
+
+    private final InputStream stream;
+
+    private final XMLStreamReader reader;
+
+    /**
+     * The names of the current element and all its ancestors.
+     */
+    private final List<String> path = new ArrayList<>();
+
+    /**
+     * The number of records already read.
+     */
+    private long position = 0;
+
+    /**
+     * The number of matching elements to be skipped before returning records.
+     */
+    private long recordsToSkip = 0;
+
+    /**
+     * Flag to indicate that the reader is positioned on a matching element.
+     */
+    private boolean matched = false;
+
+    /**
+     * Creates a new {@link XMLStreamFileInputIterator} instance.
+     *
+     * @param expression        the expression used to select the elements to read.
+     * @param iteratorManager   the iterator manager.
+     * @param context           the file context.
+     */
+    XMLStreamFileInputIterator(final StreamingXPathExpression expression,
+                               final IteratorManager iteratorManager,
+                               final FileContext context) {
+        super(iteratorManager, context);
+        Objects.requireNonNull(expression, "expression can't be null");
+        this.expression = expression;
+        try {
+            this.stream = new BufferedInputStream(new FileInputStream(context.file()));
+            this.reader = XML_INPUT_FACTORY.createXMLStreamReader(stream);
+        } catch (IOException | XMLStreamException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        }
+    }
+
+    private static XMLInputFactory newXMLInputFactory() {
+        final XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final SourceOffset offset) {
+        Objects.requireNonNull(offset, "offset can't be null");
+        if (offset.position() != -1) {
+            recordsToSkip = Math.max(0, offset.position() - position);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RecordsIterable<FileRecord<TypedStruct>> next() {
+        try {
+            if (!skipRecordsAndFindNextMatch()) {
+                return RecordsIterable.empty();
+            }
+            final TypedStruct struct = (TypedStruct) readElement(true);
+            position++;
+            return RecordsIterable.of(new TypedFileRecord(new XMLRecordOffset(position), struct));
+        } catch (XMLStreamException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            return skipRecordsAndFindNextMatch();
+        } catch (XMLStreamException e) {
+            throw new ReaderException("Error happened while reading source file '" + context + "'", e);
+        }
+    }
+
+    private boolean skipRecordsAndFindNextMatch() throws XMLStreamException {
+        if (recordsToSkip > 0) {
+            LOG.info("Skipping {} XML elements already read from file {}", recordsToSkip, context.metadata());
+        }
+        while (recordsToSkip > 0 && findNextMatch()) {
+            skipElement();
+            position++;
+            recordsToSkip--;
+        }
+        return findNextMatch();
+    }
+
+    /**
+     * Moves the reader to the next element selected by the XPath expression.
+     *
+     * @return {@code true} if the reader is positioned on a matching element, {@code false} if end of document.
+     */
+    private boolean findNextMatch() throws XMLStreamException {
+        if (matched) {
+            return true;
+        }
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                path.add(qualifiedName());
+                if (expression.matches(path)) {
+                    matched = true;
+                    return true;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                path.remove(path.size() - 1);
+            }
+        }
+        return false;
+    }
+
+    private void skipElement() throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        endOfMatchedElement();
+    }
+
+    private void endOfMatchedElement() {
+        path.remove(path.size() - 1);
+        matched = false;
+    }
+
+    /**
+     * Reads the element on which the reader is positioned until its end tag.
+     * The conversion rules are the same as for the DOM-based iterator.
+     *
+     * @param root  {@code true} if the element is the selected element (i.e. always converted into a struct).
+     * @return      a {@link TypedStruct} or a {@link String} for elements containing only text.
+     */
+    private Object readElement(final boolean root) throws XMLStreamException {
+        final String name = qualifiedName();
+        final List<String> attributes = readAttributes();
+        final List<String> childNames = new ArrayList<>();
+        final List<Object> childValues = new ArrayList<>();
+
+        StringBuilder text = null;
+        int event;
+        while ((event = reader.next()) != XMLStreamConstants.END_ELEMENT) {
+            if (isTextEvent(event)) {
+                text = text == null ? new StringBuilder() : text;
+                text.append(reader.getText());
+            } else if (event == XMLStreamConstants.START_ELEMENT) {
+                text = flushText(text, childNames, childValues);
+                childNames.add(qualifiedName());
+                childValues.add(readElement(false));
+            }
+        }
+        flushText(text, childNames, childValues);
+        if (root) {
+            endOfMatchedElement();
+        }
+
+        if (!root && childValues.size() == 1 && childNames.get(0) == null) {
+            // Element with a single text node.
+            return childValues.get(0);
+        }
+
+        TypedStruct struct = TypedStruct.create(name);
+        for (int i = 0; i < attributes.size(); i += 2) {
+            struct.put(attributes.get(i), attributes.get(i + 1));
+        }
+        for (int i = 0; i < childValues.size(); i++) {
+            final String childName = childNames.get(i);
+            final Object childValue = childValues.get(i);
+            if (childName != null) {
+                struct = XMLFileInputReader.Node2StructConverter.enrichStructWithObject(struct, childName, childValue);
+            } else if (!((String) childValue).trim().isEmpty()) {
+                struct = XMLFileInputReader.Node2StructConverter.enrichStructWithObject(struct, name, childValue);
+            }
+        }
+        return struct;
+    }
+
+    private static StringBuilder flushText(final StringBuilder text,
+                                           final List<String> childNames,
+                                           final List<Object> childValues) {
+        if (text != null) {
+            // Text nodes are identified with a null name.
+            childNames.add(null);
+            childValues.add(text.toString());
+        }
+        return null;
+    }
+
+    private List<String> readAttributes() {
+        final int count = reader.getAttributeCount();
+        final List<String> attributes = new ArrayList<>(count * 2);
+        for (int i = 0; i < count; i++) {
+            final String prefix = reader.getAttributePrefix(i);
+            final String localName = reader.getAttributeLocalName(i);
+            attributes.add(isNullOrEmpty(prefix) ? localName : prefix + ":" + localName);
+            attributes.add(reader.getAttributeValue(i));
+        }
+        return attributes;
+    }
+
+    private String qualifiedName() {
+        final String prefix = reader.getPrefix();
+        return isNullOrEmpty(prefix) ? reader.getLocalName() : prefix + ":" + reader.getLocalName();
+    }
+
+    private static boolean isNullOrEmpty(final String s) {
+        return s == null || s.isEmpty();
+    }
+
+    private static boolean isTextEvent(final int event) {
+        return event == XMLStreamConstants.CHARACTERS
+            || event == XMLStreamConstants.CDATA
+            || event == XMLStreamConstants.SPACE
+            || event == XMLStreamConstants.ENTITY_REFERENCE;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (!isClose()) {
+            try {
+                reader.close();
+                stream.close();
+            } catch (XMLStreamException | IOException e) {
+                LOG.debug("Error while closing file '{}'", context.metadata(), e);
+            }
+            super.close();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CodingErrorAction;
+
+/**
+ * Class which is used to split lines directly on encoded bytes.
+ *
+ * Line terminators ('\n', '\r' or "\r\n") are searched as encoded code units so that only the bytes
+ * of each line have to be decoded. This works for all charsets in which the line terminators are encoded as a
+ * single fixed-width code unit that cannot appear inside another character (e.g. UTF-8, ISO-8859-*, UTF-16).
+ */
+public class ByteLineSplitter {
+
+    /**
+     * The returned value when a terminator cannot be determined without reading more bytes.
+     */
+    public static final int NEED_MORE_BYTES = -1;
+
+    private final Charset charset;
+
+    private final CharsetDecoder decoder;
+
+    // The width in bytes of a single code unit.
+    private final int width;
+
+    private final byte[] lf;
+
+    private final byte[] cr;
+
+    /**
+     * Creates a new {@link ByteLineSplitter} instance.
+     *
+     * @param charset   the charset of the bytes to split.
+     */
+    public ByteLineSplitter(final Charset charset) {
+        this.charset = charset;
+        this.decoder = charset.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        // Encoding two terminators allows us to strip any byte-order-mark written by the encoder.
+        final byte[] single = "\n".getBytes(charset);
+        this.width = "\n\n".getBytes(charset).length - single.length;
+        this.lf = codeUnit("\n");
+        this.cr = codeUnit("\r");
+    }
+
+    private byte[] codeUnit(final String terminator) {
+        final byte[] encoded = terminator.getBytes(charset);
+        final byte[] unit = new byte[width];
+        System.arraycopy(encoded, encoded.length - width, unit, 0, width);
+        return unit;
+    }
+
+    public Charset charset() {
+        return charset;
+    }
+
+    /**
+     * @return the width in bytes of a line terminator code unit.
+     */
+    public int width() {
+        return width;
+    }
+
+    /**
+     * Searches for the next line terminator in the specified buffer.
+     *
+     * @param buffer    the buffer to scan.
+     * @param from      the index to start from (must be aligned on a code unit).
+     * @param to        the index to stop at (exclusive).
+     * @return          the index of the first byte of the terminator, or {@code -1} if no terminator was found.
+     */
+    public int indexOfTerminator(final ByteBuffer buffer, final int from, final int to) {
+        if (width == 1) {
+            final byte lf = this.lf[0];
+            final byte cr = this.cr[0];
+            for (int i = from; i < to; i++) {
+                final byte b = buffer.get(i);
+                if (b == lf || b == cr) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        for (int i = from; i + width <= to; i += width) {
+            if (matches(buffer, i, lf) || matches(buffer, i, cr)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Gets the length of the terminator starting at the specified index.
+     *
+     * @param buffer    the buffer to scan.
+     * @param index     the index of the terminator as returned by {@link #indexOfTerminator(ByteBuffer, int, int)}.
+     * @param to        the index to stop at (exclusive).
+     * @return          the number of bytes of the terminator, or {@link #NEED_MORE_BYTES} if the terminator is a
+     *                  '\r' located at the end of the buffer (we can't yet know if it is followed by a '\n').
+     */
+    public int terminatorLength(final ByteBuffer buffer, final int index, final int to) {
+        if (matches(buffer, index, lf)) {
+            return width;
+        }
+        final int next = index + width;
+        if (next + width > to) {
+            return NEED_MORE_BYTES;
+        }
+        return matches(buffer, next, lf) ? 2 * width : width;
+    }
+
+    private static boolean matches(final ByteBuffer buffer, final int index, final byte[] unit) {
+        for (int i = 0; i < unit.length; i++) {
+            if (buffer.get(index + i) != unit[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Decodes the specified range of bytes.
+     *
+     * @param buffer    the buffer to read.
+     * @param from      the index of the first byte.
+     * @param length    the number of bytes to decode.
+     * @return          the decoded string.
+     */
+    public String decode(final ByteBuffer buffer, final int from, final int length) {
+        if (length == 0) {
+            return "";
+        }
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), buffer.arrayOffset() + from, length, charset);
+        }
+        final ByteBuffer slice = buffer.duplicate();
+        slice.limit(from + length);
+        slice.position(from);
+        try {
+            final CharBuffer chars = decoder.decode(slice);
+            return chars.toString();
+        } catch (CharacterCodingException e) {
+            // This should never happen as malformed and unmappable inputs are replaced.
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A simple pool of direct {@link ByteBuffer}s, grouped by capacity.
+ *
+ * Direct buffers are expensive to allocate and are only released by the garbage collector,
+ * so buffers are returned to the pool when an iterator is closed and re-used by the next one.
+ */
+public class DirectByteBufferPool {
+
+    private static final int DEFAULT_MAX_POOLED_BUFFERS_PER_CAPACITY = 16;
+
+    private static final DirectByteBufferPool INSTANCE =
+        new DirectByteBufferPool(DEFAULT_MAX_POOLED_BUFFERS_PER_CAPACITY);
+
+    /**
+     * Gets the pool shared by all readers.
+     *
+     * @return the {@link DirectByteBufferPool} instance.
+     */
+    public static DirectByteBufferPool getInstance() {
+        return INSTANCE;
+    }
+
+    private final int maxPooledBuffersPerCapacity;
+
+    private final ConcurrentMap<Integer, BlockingQueue<ByteBuffer>> buffers = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a new {@link DirectByteBufferPool} instance.
+     *
+     * @param maxPooledBuffersPerCapacity the maximum number of buffers kept for each capacity.
+     */
+    public DirectByteBufferPool(final int maxPooledBuffersPerCapacity) {
+        if (maxPooledBuffersPerCapacity <= 0) {
+            throw new IllegalArgumentException("maxPooledBuffersPerCapacity must be greater than 0");
+        }
+        this.maxPooledBuffersPerCapacity = maxPooledBuffersPerCapacity;
+    }
+
+    /**
+     * Gets a cleared buffer of the specified capacity, either from the pool or newly allocated.
+     *
+     * @param capacity  the buffer capacity.
+     * @return          a direct {@link ByteBuffer}.
+     */
+    public ByteBuffer acquire(final int capacity) {
+        final BlockingQueue<ByteBuffer> pooled = buffers.get(capacity);
+        ByteBuffer buffer = pooled != null ? pooled.poll() : null;
+        if (buffer == null) {
+            buffer = ByteBuffer.allocateDirect(capacity);
+        }
+        buffer.clear();
+        return buffer;
+    }
+
+    /**
+     * Gives back the specified buffer to the pool. The buffer must not be used after this call.
+     *
+     * @param buffer    the buffer to release.
+     */
+    public void release(final ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "buffer can't be null");
+        if (!buffer.isDirect()) {
+            return;
+        }
+        buffers.computeIfAbsent(buffer.capacity(), c -> new ArrayBlockingQueue<>(maxPooledBuffersPerCapacity))
+               .offer(buffer);
+    }
+
+    /**
+     * Gets the number of buffers currently pooled for the specified capacity.
+     *
+     * @param capacity  the buffer capacity.
+     * @return          the number of available buffers.
+     */
+    int available(final int capacity) {
+        final BlockingQueue<ByteBuffer> pooled = buffers.get(capacity);
+        return pooled != null ? pooled.size() : 0;
+    }
+}
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A single {@link WatchService} shared by all the {@link FileModificationWatcher}s.
+ *
+ * Each {@link WatchService} consumes an inotify instance on Linux, which are limited per user
+ * (i.e. fs.inotify.max_user_instances, 128 by default). The parent directory of each watched file is registered
+ * once and the modification events are dispatched to the listeners of the modified files from a single thread.
+ */
+public class FileModificationDispatcher {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileModificationDispatcher.class);
+
+    private static final FileModificationDispatcher INSTANCE = new FileModificationDispatcher();
+
+    /**
+     * Gets the dispatcher shared by all watchers.
+     *
+     * @return the {@link FileModificationDispatcher} instance.
+     */
+    public static FileModificationDispatcher getInstance() {
+        return INSTANCE;
+    }
+
+    // The watch service, created on first registration and closed when no more file is watched.
+    private WatchService watchService;
+
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+
+    // Listeners by absolute file path.
+    private final Map<Path, List<Runnable>> listeners = new HashMap<>();
+
+    /**
+     * Registers a listener to be invoked when the specified file is modified.
+     *
+     * @param file      the file to watch.
+     * @param listener  the listener to invoke, from the dispatching thread.
+     * @throws IOException if the watch service cannot be created or the directory cannot be watched.
+     */
+    public synchronized void register(final Path file, final Runnable listener) throws IOException {
+        Objects.requireNonNull(listener, "listener can't be null");
+        final Path path = file.toAbsolutePath();
+        final Path directory = path.getParent();
+        if (watchService == null) {
+            watchService = newWatchService(directory);
+        }
+        if (!keys.containsKey(directory)) {
+            final WatchKey key;
+            try {
+                key = directory.register(watchService, StandardWatchEventKinds.ENTRY_MODIFY);
+            } catch (IOException | RuntimeException e) {
+                if (keys.isEmpty()) {
+                    closeWatchService();
+                }
+                throw e;
+            }
+            keys.put(directory, key);
+            directories.put(key, directory);
+            LOG.debug("Registered watch service for file modifications on directory {}", directory);
+        }
+        listeners.computeIfAbsent(path, p -> new ArrayList<>()).add(listener);
+    }
+
+    /**
+     * Unregisters a listener previously registered for the specified file.
+     *
+     * @param file      the watched file.
+     * @param listener  the listener to remove.
+     */
+    public synchronized void unregister(final Path file, final Runnable listener) {
+        final Path path = file.toAbsolutePath();
+        final List<Runnable> registered = listeners.get(path);
+        if (registered == null || !registered.remove(listener)) {
+            return;
+        }
+        if (registered.isEmpty()) {
+            listeners.remove(path);
+        }
+        final Path directory = path.getParent();
+        if (listeners.keySet().stream().noneMatch(p -> directory.equals(p.getParent()))) {
+            final WatchKey key = keys.remove(directory);
+            if (key != null) {
+                key.cancel();
+                directories.remove(key);
+            }
+        }
+        if (keys.isEmpty()) {
+            closeWatchService();
+        }
+    }
+
+    private WatchService newWatchService(final Path directory) throws IOException {
+        final WatchService service = directory.getFileSystem().newWatchService();
+        final Thread thread = new Thread(() -> dispatch(service), FileModificationDispatcher.class.getSimpleName());
+        thread.setDaemon(true);
+        thread.start();
+        return service;
+    }
+
+    private void dispatch(final WatchService service) {
+        try {
+            while (true) {
+                final WatchKey key = service.take();
+                final List<Runnable> modified = new ArrayList<>();
+                synchronized (this) {
+                    final Path directory = directories.get(key);
+                    if (directory != null) {
+                        for (WatchEvent<?> event : key.pollEvents()) {
+                            collectListeners(directory, event, modified);
+                        }
+                    }
+                    if (!key.reset() && directory != null) {
+                        // the directory is no longer accessible.
+                        keys.remove(directory);
+                        directories.remove(key);
+                    }
+                }
+                modified.forEach(Runnable::run);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // the watch service is closed as no more file is watched.
+        }
+    }
+
+    private void collectListeners(final Path directory, final WatchEvent<?> event, final List<Runnable> modified) {
+        if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+            // events have been lost : any file of the directory may have been modified.
+            listeners.forEach((path, registered) -> {
+                if (directory.equals(path.getParent())) {
+                    modified.addAll(registered);
+                }
+            });
+        } else {
+            final List<Runnable> registered = listeners.get(directory.resolve((Path) event.context()));
+            if (registered != null) {
+                modified.addAll(registered);
+            }
+        }
+    }
+
+    private void closeWatchService() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                LOG.debug("Failed to close watch service", e);
+            }
+            watchService = null;
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchService;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Class which is used to park a reader until a file is modified.
+ *
+ * The watcher relies on a {@link WatchService} registered for {@link StandardWatchEventKinds#ENTRY_MODIFY} events on
+ * the parent directory of the file. The service is shared by all watchers through the
+ * {@link FileModificationDispatcher}. Because some file systems (e.g. NFS) never emit any event, the awaited condition
+ * is also re-checked after each backoff period; the backoff grows exponentially while no modification is detected.
+ */
+public class FileModificationWatcher implements AutoCloseable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileModificationWatcher.class);
+
+    // Used to log the fallback to polling only once, not for each tailed file.
+    private static final AtomicBoolean FALLBACK_LOGGED = new AtomicBoolean(false);
+
+    private final File file;
+
+    private final long minBackoffMs;
+
+    private final long maxBackoffMs;
+
+    private final FileModificationDispatcher dispatcher;
+
+    private final Runnable listener = this::onModified;
+
+    private boolean registered = false;
+
+    private boolean watching = false;
+
+    // Set by the dispatching thread when a modification event is received for the file.
+    private boolean modified = false;
+
+    /**
+     * Creates a new {@link FileModificationWatcher} instance.
+     *
+     * @param file          the file to watch.
+     * @param minBackoffMs  the initial time to wait in milliseconds before re-checking the condition.
+     * @param maxBackoffMs  the maximum time to wait in milliseconds before re-checking the condition.
+     */
+    public FileModificationWatcher(final File file,
+                                   final long minBackoffMs,
+                                   final long maxBackoffMs) {
+        this(file, minBackoffMs, maxBackoffMs, FileModificationDispatcher.getInstance());
+    }
+
+    /**
+     * Creates a new {@link FileModificationWatcher} instance.
+     *
+     * @param file          the file to watch.
+     * @param minBackoffMs  the initial time to wait in milliseconds before re-checking the condition.
+     * @param maxBackoffMs  the maximum time to wait in milliseconds before re-checking the condition.
+     * @param dispatcher    the dispatcher used to be notified of the file modifications.
+     */
+    FileModificationWatcher(final File file,
+                            final long minBackoffMs,
+                            final long maxBackoffMs,
+                            final FileModificationDispatcher dispatcher) {
+        Objects.requireNonNull(file, "file can't be null");
+        Objects.requireNonNull(dispatcher, "dispatcher can't be null");
+        if (minBackoffMs <= 0 || maxBackoffMs < minBackoffMs) {
+            throw new IllegalArgumentException(
+                "Invalid backoff, expecting 0 < min <= max (min=" + minBackoffMs + ", max=" + maxBackoffMs + ")");
+        }
+        this.file = file;
+        this.minBackoffMs = minBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.dispatcher = dispatcher;
+    }
+
+    /**
+     * Waits until the given condition is satisfied or the timeout expires.
+     *
+     * @param condition the condition to wait for (e.g. more bytes available).
+     * @param timeoutMs the maximum time to wait in milliseconds.
+     * @return          {@code true} if the condition is satisfied, {@code false} if the timeout expired.
+     */
+    public boolean await(final BooleanSupplier condition, final long timeoutMs) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        long backoff = minBackoffMs;
+        while (!condition.getAsBoolean()) {
+            final long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            if (waitForModification(Math.min(backoff, remaining))) {
+                backoff = minBackoffMs;
+            } else {
+                backoff = Math.min(backoff * 2, maxBackoffMs);
+            }
+        }
+        return true;
+    }
+
+    private boolean waitForModification(final long waitMs) throws InterruptedException {
+        if (!registerIfNeeded()) {
+            TimeUnit.MILLISECONDS.sleep(waitMs);
+            return false;
+        }
+        synchronized (this) {
+            final long deadline = System.currentTimeMillis() + waitMs;
+            long remaining = waitMs;
+            while (!modified && remaining > 0) {
+                wait(remaining);
+                remaining = deadline - System.currentTimeMillis();
+            }
+            final boolean result = modified;
+            modified = false;
+            return result;
+        }
+    }
+
+    private synchronized void onModified() {
+        modified = true;
+        notifyAll();
+    }
+
+    private boolean registerIfNeeded() {
+        if (!registered) {
+            registered = true;
+            try {
+                dispatcher.register(file.toPath(), listener);
+                watching = true;
+            } catch (IOException | UnsupportedOperationException e) {
+                if (FALLBACK_LOGGED.compareAndSet(false, true)) {
+                    LOG.warn(
+                        "Failed to watch file modifications on directory {}, fallback to polling files with a "
+                        + "backoff of up to {} ms. If the limit of inotify watches is reached, consider increasing "
+                        + "fs.inotify.max_user_watches : {}",
+                        file.getAbsoluteFile().getParent(),
+                        maxBackoffMs,
+                        e.getMessage());
+                } else {
+                    LOG.debug("Failed to watch file modifications on directory {}, fallback to polling files: {}",
+                        file.getAbsoluteFile().getParent(),
+                        e.getMessage());
+                }
+            }
+        }
+        return watching;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (watching) {
+            dispatcher.unregister(file.toPath(), listener);
+            watching = false;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+
+/**
+ * Class which is used to find the boundaries of the top-level JSON objects directly on UTF-8 encoded bytes.
+ *
+ * Objects can either be separated by whitespaces (e.g. newline-delimited JSON) or be the elements of
+ * top-level JSON arrays. Top-level commas and square brackets are thus treated as separators, which also
+ * allows to resume scanning in the middle of an array.
+ *
+ * A splitter is stateful : when the end of an object cannot be found in the given bytes,
+ * scanning continues from where it stopped on the next call.
+ */
+public class JSONObjectSplitter {
+
+    /**
+     * The returned value when a boundary cannot be determined without reading more bytes.
+     */
+    public static final int NEED_MORE_BYTES = -1;
+
+    private static final byte[] UTF8_BYTE_ORDER_MARK = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private int depth = 0;
+
+    private boolean inString = false;
+
+    private boolean escaped = false;
+
+    /**
+     * Finds the first byte of the next object, skipping separators.
+     *
+     * @param buf   the bytes to scan.
+     * @param from  the index of the first byte to scan.
+     * @param to    the index after the last byte to scan.
+     * @return      the index of the opening brace, or {@link #NEED_MORE_BYTES} if only separators were found.
+     */
+    public int nextObjectStart(final byte[] buf, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final int b = buf[i] & 0xFF;
+            if (b == '{') {
+                return i;
+            }
+            if (!isSeparator(b)) {
+                throw new ReaderException(
+                    "Error while reading JSON, unexpected character '" + (char) b + "' outside of an object");
+            }
+        }
+        return NEED_MORE_BYTES;
+    }
+
+    /**
+     * Finds the end of the object being scanned.
+     *
+     * @param buf   the bytes to scan, the first call must start at the opening brace of the object.
+     * @param from  the index of the first byte to scan.
+     * @param to    the index after the last byte to scan.
+     * @return      the index after the closing brace, or {@link #NEED_MORE_BYTES} if the object is not terminated.
+     */
+    public int objectEnd(final byte[] buf, final int from, final int to) {
+        for (int i = from; i < to; i++) {
+            final byte b = buf[i];
+            if (inString) {
+                if (escaped) {
+                    escaped = false;
+                } else if (b == '\\') {
+                    escaped = true;
+                } else if (b == '"') {
+                    inString = false;
+                }
+            } else if (b == '"') {
+                inString = true;
+            } else if (b == '{' || b == '[') {
+                depth++;
+            } else if ((b == '}' || b == ']') && --depth == 0) {
+                return i + 1;
+            }
+        }
+        return NEED_MORE_BYTES;
+    }
+
+    /**
+     * Skips the UTF-8 byte-order-mark. This must only be called on the first bytes of a file,
+     * a byte-order-mark is not a separator anywhere else.
+     *
+     * @param buf   the bytes to scan.
+     * @param from  the index of the first byte of the file.
+     * @param to    the index after the last byte to scan.
+     * @return      the index after the byte-order-mark, or {@code from} if there is none.
+     */
+    public static int skipByteOrderMark(final byte[] buf, final int from, final int to) {
+        if (to - from < UTF8_BYTE_ORDER_MARK.length) {
+            return from;
+        }
+        for (int i = 0; i < UTF8_BYTE_ORDER_MARK.length; i++) {
+            if (buf[from + i] != UTF8_BYTE_ORDER_MARK[i]) {
+                return from;
+            }
+        }
+        return from + UTF8_BYTE_ORDER_MARK.length;
+    }
+
+    /**
+     * Checks whether an object is being scanned.
+     *
+     * @return {@code true} if the end of the last object was not found yet.
+     */
+    public boolean isInObject() {
+        return depth > 0;
+    }
+
+    private static boolean isSeparator(final int b) {
+        return b == ' ' || b == '\n' || b == '\r' || b == '\t' || b == ',' || b == '[' || b == ']';
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Class which is used to cut a text file into {@link FileSplit}s whose boundaries are aligned on line starts.
+ *
+ * Each boundary is computed by seeking to an approximate position and then scanning forward to the end of the
+ * current line, so only a few bytes are read for each split. The last split is left unbounded so that bytes
+ * appended after the file was split are still consumed.
+ */
+public class LineAlignedFileSplitter {
+
+    private static final int DEFAULT_SCAN_BUFFER_SIZE = 8192;
+
+    private final ByteLineSplitter splitter;
+
+    private final ByteBuffer buffer;
+
+    /**
+     * Creates a new {@link LineAlignedFileSplitter} instance.
+     *
+     * @param charset   the charset of the files to split.
+     */
+    public LineAlignedFileSplitter(final Charset charset) {
+        this.splitter = new ByteLineSplitter(charset);
+        this.buffer = ByteBuffer.allocate(DEFAULT_SCAN_BUFFER_SIZE);
+    }
+
+    /**
+     * Cuts the specified file into splits of approximately the given size.
+     *
+     * @param file      the file to split.
+     * @param splitSize the expected number of bytes per split.
+     * @return          the list of splits, or an empty list if the file is not larger than a single split.
+     * @throws IOException if an error occurred while reading the file.
+     */
+    public List<FileSplit> split(final File file, final long splitSize) throws IOException {
+        if (splitSize <= 0) {
+            throw new IllegalArgumentException("splitSize must be greater than 0, was " + splitSize);
+        }
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            final long size = channel.size();
+            if (size <= splitSize) {
+                return Collections.emptyList();
+            }
+
+            final List<FileSplit> splits = new ArrayList<>();
+            long start = 0;
+            while (true) {
+                final long target = start + splitSize;
+                final long boundary = target < size ? nextLineStart(channel, start, target, size) : size;
+                if (boundary >= size) {
+                    splits.add(new FileSplit(start, FileSplit.UNBOUNDED));
+                    break;
+                }
+                splits.add(new FileSplit(start, boundary));
+                start = boundary;
+            }
+            return splits.size() > 1 ? splits : Collections.emptyList();
+        }
+    }
+
+    /**
+     * Gets the position of the first line starting after the specified position and strictly after the split start.
+     */
+    private long nextLineStart(final FileChannel channel,
+                               final long start,
+                               final long from,
+                               final long size) throws IOException {
+        final int width = splitter.width();
+        // Align on a code unit and start on the previous one, in case a line starts exactly at the target position.
+        long position = Math.max(start, from - (from % width) - width);
+        while (position < size) {
+            buffer.clear();
+            final int read = channel.read(buffer, position);
+            if (read <= 0) {
+                break;
+            }
+            final int limit = read - (read % width);
+            if (limit == 0) {
+                break;
+            }
+            final int index = splitter.indexOfTerminator(buffer, 0, limit);
+            if (index == -1) {
+                position += limit;
+                continue;
+            }
+            final int length = splitter.terminatorLength(buffer, index, limit);
+            if (length != ByteLineSplitter.NEED_MORE_BYTES) {
+                return position + index + length;
+            }
+            if (position + index + width >= size) {
+                // The file ends with a '\r'.
+                return size;
+            }
+            // Read again from the '\r' to check whether it is followed by a '\n'.
+            position += Math.max(index, width);
+        }
+        return size;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.apache.parquet.io.DelegatingSeekableInputStream;
+import org.apache.parquet.io.InputFile;
+import org.apache.parquet.io.SeekableInputStream;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * An {@link InputFile} reading a local file through a {@link FileChannel}.
+ *
+ * This avoids going through the Hadoop {@code FileSystem} layer (and its checksum files) for local files.
+ */
+public class LocalInputFile implements InputFile {
+
+    private final File file;
+
+    /**
+     * Creates a new {@link LocalInputFile} instance.
+     *
+     * @param file  the local file.
+     */
+    public LocalInputFile(final File file) {
+        this.file = Objects.requireNonNull(file, "file can't be null");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long getLength() {
+        return file.length();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public SeekableInputStream newStream() throws IOException {
+        final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        return new DelegatingSeekableInputStream(Channels.newInputStream(channel)) {
+            @Override
+            public long getPos() throws IOException {
+                return channel.position();
+            }
+
+            @Override
+            public void seek(final long newPos) throws IOException {
+                channel.position(newPos);
+            }
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return file.getAbsolutePath();
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link TextBlockReader} which splits lines directly on a memory-mapped region of the input file.
+ *
+ * Lines are searched at byte level using a moving cursor, so the mapped bytes are never copied or compacted,
+ * and only the bytes of each line are decoded. The mapped region is moved forward each time the cursor
+ * reaches its end.
+ */
+public class MappedByteBufferReader implements TextBlockReader {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MappedByteBufferReader.class);
+
+    public static final int DEFAULT_MAPPED_REGION_SIZE = 64 * 1024 * 1024;
+
+    public static final int DEFAULT_BATCH_BYTES_SIZE = 4096;
+
+    private final FileChannel channel;
+
+    private final ByteLineSplitter splitter;
+
+    // The minimum number of bytes to consume before returning lines.
+    private final int batchBytesSize;
+
+    // The size of the region to map.
+    private int regionSize;
+
+    private MappedByteBuffer buffer;
+
+    // The file position of the first byte of the mapped region.
+    private long regionStart = 0L;
+
+    // The index of the next line to be returned.
+    private int cursor = 0;
+
+    // The index from which to resume searching for a line terminator.
+    private int scanFrom = 0;
+
+    // Flag to indicate that all the bytes of the current region have been scanned.
+    private boolean drained = true;
+
+    private boolean autoFlush = true;
+
+    /**
+     * Creates a new {@link MappedByteBufferReader} instance.
+     *
+     * @param file         the input file pointer.
+     * @param charset      the input file charset.
+     */
+    public MappedByteBufferReader(final File file,
+                                  final Charset charset) {
+        this(file, DEFAULT_BATCH_BYTES_SIZE, DEFAULT_MAPPED_REGION_SIZE, charset);
+    }
+
+    /**
+     * Creates a new {@link MappedByteBufferReader} instance.
+     *
+     * @param file              the input file pointer.
+     * @param batchBytesSize    the minimum number of bytes to consume before returning lines.
+     * @param regionSize        the initial size of the mapped region.
+     * @param charset           the input file charset.
+     */
+    public MappedByteBufferReader(final File file,
+                                  final int batchBytesSize,
+                                  final int regionSize,
+                                  final Charset charset) {
+        Objects.requireNonNull(file, "file can't be null");
+        Objects.requireNonNull(charset, "charset can't be null");
+        this.batchBytesSize = batchBytesSize;
+        this.regionSize = regionSize;
+        this.splitter = new ByteLineSplitter(charset);
+        try {
+            LOG.debug("Opening file {}", file);
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
+            throw new ReaderException("Can't found source file : " + file);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Charset charset() {
+        return splitter.charset();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public long position() {
+        return regionStart + cursor;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void enableAutoFlush() {
+        this.autoFlush = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void disableAutoFlush() {
+        this.autoFlush = false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public List<TextBlock> readLines(final int minRecords) throws IOException {
+        final List<TextBlock> records = new ArrayList<>(Math.max(minRecords, 1));
+        final long startPosition = position();
+        boolean done = false;
+        while (!done) {
+            if (extractLines(records) &&
+                records.size() >= minRecords &&
+                position() - startPosition >= batchBytesSize) {
+                done = true;
+            } else if (drained) {
+                done = !remap();
+            }
+        }
+
+        if (!hasNext() && remaining() && autoFlush) {
+            LOG.info("End of file reached - flushing remaining bytes from reader buffer.");
+            final int limit = buffer.limit();
+            // A pending '\r' at the end of the file is still a line terminator.
+            final int index = splitter.indexOfTerminator(buffer, scanFrom, limit);
+            final int size = (index == -1 ? limit : index) - cursor;
+            final long offset = position();
+            final String line = splitter.decode(buffer, cursor, size);
+            records.add(new TextBlock(line, charset(), offset, regionStart + limit, size));
+            cursor = buffer.limit();
+            scanFrom = cursor;
+        }
+        return records;
+    }
+
+    /**
+     * Extracts the next line from the mapped region.
+     *
+     * @return {@code true} if a line was extracted, {@code false} if the region is drained.
+     */
+    private boolean extractLines(final List<TextBlock> records) {
+        if (buffer == null) {
+            drained = true;
+            return false;
+        }
+        final int limit = buffer.limit();
+        final int index = splitter.indexOfTerminator(buffer, scanFrom, limit);
+        final int terminator = index == -1 ? ByteLineSplitter.NEED_MORE_BYTES
+                                           : splitter.terminatorLength(buffer, index, limit);
+        if (terminator == ByteLineSplitter.NEED_MORE_BYTES) {
+            // Resume from the last complete code unit, or from the pending '\r'.
+            scanFrom = index != -1 ? index : limit - (limit - cursor) % splitter.width();
+            drained = true;
+            return false;
+        }
+
+        final int size = index - cursor;
+        final long offset = position();
+        final String line = splitter.decode(buffer, cursor, size);
+        records.add(new TextBlock(line, charset(), offset, offset + size + terminator, size));
+        cursor = index + terminator;
+        scanFrom = cursor;
+        return true;
+    }
+
+    /**
+     * Maps the next region of the file starting from the current position.
+     *
+     * @return {@code true} if new bytes have been mapped.
+     */
+    private boolean remap() throws IOException {
+        final long size = channel.size();
+        final long mappedEnd = mappedEnd();
+        if (size <= mappedEnd) {
+            return false;
+        }
+        final long start = position();
+        // The number of bytes of the pending line which have already been scanned.
+        final int pending = scanFrom - cursor;
+        if (pending >= regionSize / 2) {
+            regionSize = (int) Math.min(Integer.MAX_VALUE, (long) regionSize * 2);
+            LOG.debug("Increasing mapped region size to {} bytes", regionSize);
+        }
+        final long length = Math.min(size - start, regionSize);
+        buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, length);
+        regionStart = start;
+        cursor = 0;
+        scanFrom = pending;
+        drained = false;
+        return true;
+    }
+
+    private long mappedEnd() {
+        return regionStart + (buffer == null ? 0 : buffer.limit());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean remaining() {
+        return buffer != null && cursor < buffer.limit();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        try {
+            return !drained || channel.size() > mappedEnd();
+        } catch (IOException e) {
+            LOG.error("Error while checking for remaining bytes to read: {}", e.getLocalizedMessage());
+            return false;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void seekTo(final Long offset) {
+        LOG.debug("Seeking to position {}", offset);
+        regionStart = offset != null && offset > 0 ? offset : 0L;
+        buffer = null;
+        cursor = 0;
+        scanFrom = 0;
+        drained = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        try {
+            buffer = null;
+            channel.close();
+            LOG.trace("Closed file channel");
+        } catch (IOException e) {
+            LOG.error("Failed to close MappedByteBufferReader channel : ", e);
+        }
+    }
+}
@@ -18,14 +18,12 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.reader.internal;
 
-import java.io.BufferedReader;
 import java.io.File;
-import java.io.FileInputStream;
-import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.InputStreamReader;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -36,30 +34,38 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * A BufferedReader wrapper to read lines in non-blocking way.
+ * A {@link TextBlockReader} which reads bytes from a {@link FileChannel} without blocking.
+ *
+ * Lines are split on raw bytes and decoded one by one so that the reader always tracks
+ * the true byte position of each line, whatever the file charset. This allows the reader
+ * to be repositioned in constant time using {@link FileChannel#position(long)}.
  */
-public class NonBlockingBufferReader implements AutoCloseable {
+public class NonBlockingBufferReader implements TextBlockReader {
 
     private static final Logger LOG = LoggerFactory.getLogger(NonBlockingBufferReader.class);
 
     public static final int DEFAULT_INITIAL_CAPACITY = 4096;
 
-    private final InputStream stream;
+    private final FileChannel channel;
 
     private final int initialCapacity;
 
-    private final Charset charset;
-
-    private BufferedReader reader;
+    private final ByteLineSplitter splitter;
 
     // The current bytes position.
-    private Long offset = 0L;
+    private long offset = 0L;
 
     // The buffer used to read extract lines from the iterator file.
-    private char[] buffer;
+    private ByteBuffer buffer;
+
+    // The number of valid bytes in the buffer.
+    private int bufferLimit = 0;
 
-    // The current buffer positions.
-    private int bufferOffset = 0;
+    // The buffer position of the next line to be returned.
+    private int cursor = 0;
+
+    // The buffer position from which to resume searching for a line terminator.
+    private int scanFrom = 0;
 
     // Number of bytes read during last iteration.
     private int nread = -1;
@@ -89,51 +95,65 @@ public class NonBlockingBufferReader implements AutoCloseable {
                                    final Charset charset) {
         Objects.requireNonNull(file, "file can't be null");
         this.initialCapacity = initialCapacity;
-        this.buffer = new char[initialCapacity];
-        this.charset = charset;
+        this.buffer = ByteBuffer.allocate(initialCapacity);
+        this.splitter = new ByteLineSplitter(charset);
         try {
             LOG.debug("Opening file {}", file);
-            this.stream = new FileInputStream(file);
-        } catch (FileNotFoundException e) {
+            this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        } catch (IOException e) {
             throw new ReaderException("Can't found source file : " + file);
         }
-        this.reader = new BufferedReader(new InputStreamReader(stream, charset));
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public Charset charset() {
-        return charset;
+        return splitter.charset();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public long position() {
         return offset;
     }
 
     /**
-     * Enables auto-flush; The reader will automatically
-     * flush all remaining buffered bytes as a single line when EOF is reached.
+     * {@inheritDoc}
      */
+    @Override
     public void enableAutoFlush() {
         this.autoFlush = true;
     }
 
     /**
-     * Disable auto-flush; Reader will not automatically
-     * flush all remaining buffered bytes when EOF is reached.
+     * {@inheritDoc}
      */
+    @Override
     public void disableAutoFlush() {
         this.autoFlush = false;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public List<TextBlock> readLines(int minRecords) throws IOException {
         // Unfortunately we can't just use readLine() because it blocks in an uninterruptible way.
         // Instead we have to manage splitting lines ourselves, using simple backoff when no new value
         // is available.
         final List<TextBlock> records = new LinkedList<>();
         nread = 0;
-        while (reader.ready() && (records.isEmpty()|| records.size() < minRecords)) {
-            nread = reader.read(buffer, bufferOffset, buffer.length - bufferOffset);
+        while (ready() && (records.isEmpty()|| records.size() < minRecords)) {
+            prepareBufferForRead();
+            buffer.limit(buffer.capacity());
+            buffer.position(bufferLimit);
+            nread = channel.read(buffer);
             if (nread > 0) {
-                bufferOffset += nread;
+                bufferLimit += nread;
                 TextBlock line;
                 do {
                     line = tryToExtractLine();
@@ -141,94 +161,107 @@ public class NonBlockingBufferReader implements AutoCloseable {
                         records.add(line);
                     }
                 } while (line != null);
-
-                if (records.isEmpty() && bufferOffset == buffer.length) {
-                    char[] newbuf = new char[buffer.length * 2];
-                    System.arraycopy(buffer, 0, newbuf, 0, buffer.length);
-                    buffer = newbuf;
-                }
             }
         }
 
         if (!hasNext() && remaining() && autoFlush) {
             LOG.info("End of file reached - flushing remaining bytes from reader buffer.");
-            final String line = new String(buffer, 0, bufferOffset);
-            records.add(new TextBlock(line, charset, offset, offset + bufferOffset, bufferOffset));
-            offset+=bufferOffset;
-            bufferOffset = 0;
+            // A pending '\r' at the end of the file is still a line terminator.
+            final int index = splitter.indexOfTerminator(buffer, scanFrom, bufferLimit);
+            final int size = (index == -1 ? bufferLimit : index) - cursor;
+            final int length = bufferLimit - cursor;
+            final String line = splitter.decode(buffer, cursor, size);
+            records.add(new TextBlock(line, charset(), offset, offset + length, size));
+            offset += length;
+            cursor = bufferLimit;
+            scanFrom = bufferLimit;
         }
         return records;
     }
 
     /**
-     * Checks whether there is still remaining bytes in the internal buffer.
-     *
-     * @return  {@code true} if there is bytes already read.
+     * Discards all the bytes already returned, or grows the buffer if it is
+     * full of bytes which do not contain any line terminator.
+     */
+    private void prepareBufferForRead() {
+        if (cursor > 0) {
+            buffer.limit(bufferLimit);
+            buffer.position(cursor);
+            buffer.compact();
+            bufferLimit -= cursor;
+            scanFrom -= cursor;
+            cursor = 0;
+        } else if (bufferLimit == buffer.capacity()) {
+            final ByteBuffer newbuf = ByteBuffer.allocate(buffer.capacity() * 2);
+            buffer.limit(bufferLimit);
+            buffer.position(0);
+            newbuf.put(buffer);
+            buffer = newbuf;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
      */
+    @Override
     public boolean remaining() {
-        return bufferOffset != 0;
+        return bufferLimit - cursor != 0;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public boolean hasNext() {
+        return (nread > 0 || nread == -1) && ready();
+    }
+
+    private boolean ready() {
         try {
-            return (nread > 0 || nread == -1) && reader.ready();
+            return channel.position() < channel.size();
         } catch (IOException e) {
             LOG.error("Error while checking for remaining bytes to read: {}", e.getLocalizedMessage());
             return false;
         }
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
     public void seekTo(final Long offset) {
-        if (offset != null && offset > 0) {
-            buffer = new char[initialCapacity];
-            LOG.debug("Trying to skip to file bufferOffset bytes {}", offset);
-            long skipLeft = offset;
-            while (skipLeft > 0) {
-                try {
-                    long skipped = reader.skip(skipLeft);
-                    skipLeft -= skipped;
-                } catch (IOException e) {
-                    LOG.error("Error while trying to seek to previous bufferOffset bytes in file: ", e);
-                    throw new ConnectException(e);
-                }
-            }
-            LOG.debug("Skipped to bufferOffset bytes {}", offset);
-            this.offset = offset;
-        } else {
-            this.offset = 0L;
+        final long position = offset != null && offset > 0 ? offset : 0L;
+        LOG.debug("Trying to seek to file position {}", position);
+        try {
+            channel.position(position);
+        } catch (IOException e) {
+            LOG.error("Error while trying to seek to previous position in file: ", e);
+            throw new ConnectException(e);
         }
+        buffer = ByteBuffer.allocate(initialCapacity);
+        bufferLimit = 0;
+        cursor = 0;
+        scanFrom = 0;
+        this.offset = position;
     }
 
     private TextBlock tryToExtractLine() {
-        int until = -1, newStart = -1;
-        for (int i = 0; i < bufferOffset; i++) {
-            if (buffer[i] == '\n') {
-                until = i;
-                newStart = i + 1;
-                break;
-            } else if (buffer[i] == '\r') {
-                // We need to check for \r\n, so we must skip this if we can't check the next char
-                if (i + 1 >= bufferOffset) {
-                    return null;
-                }
-
-                until = i;
-                newStart = (buffer[i + 1] == '\n') ? i + 2 : i + 1;
-                break;
-            }
-        }
-
-        TextBlock result = null;
-        if (until != -1) {
-            final String line = new String(buffer, 0, until);
-            result =  new TextBlock(line, charset,  offset, offset + newStart ,until);
-            System.arraycopy(buffer, newStart, buffer, 0, buffer.length - newStart);
-            bufferOffset = bufferOffset - newStart;
+        final int index = splitter.indexOfTerminator(buffer, scanFrom, bufferLimit);
+        final int terminator = index == -1 ? ByteLineSplitter.NEED_MORE_BYTES
+                                           : splitter.terminatorLength(buffer, index, bufferLimit);
+        if (terminator == ByteLineSplitter.NEED_MORE_BYTES) {
+            // Resume from the last complete code unit, or from the pending '\r'.
+            scanFrom = index != -1 ? index : bufferLimit - (bufferLimit - cursor) % splitter.width();
+            return null;
         }
 
-        if (newStart != -1) {
-            offset += newStart;
-        }
+        final int size = index - cursor;
+        final int length = size + terminator;
+        final String line = splitter.decode(buffer, cursor, size);
+        final TextBlock result = new TextBlock(line, charset(), offset, offset + length, size);
+        offset += length;
+        cursor = index + terminator;
+        scanFrom = cursor;
         return result;
     }
 
@@ -238,12 +271,10 @@ public class NonBlockingBufferReader implements AutoCloseable {
     @Override
     public void close() {
         try {
-            if (stream != null && stream != System.in) {
-                stream.close();
-                LOG.trace("Closed input stream");
-            }
+            channel.close();
+            LOG.trace("Closed file channel");
         } catch (IOException e) {
-            LOG.error("Failed to close NonBlockingBufferReader stream : ", e);
+            LOG.error("Failed to close NonBlockingBufferReader channel : ", e);
         }
     }
-}
\ No newline at end of file
+}
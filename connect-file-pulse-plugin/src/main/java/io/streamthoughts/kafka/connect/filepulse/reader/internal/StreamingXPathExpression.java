@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.regex.Pattern;
+
+/**
+ * A restricted XPath expression which can be evaluated while streaming an XML document.
+ *
+ * Only absolute location paths made of element names (or '*') separated by the child ('/')
+ * or the descendant ('//') axis are supported, e.g : '/root/items/item', '//item' or '/root/*'.
+ */
+public class StreamingXPathExpression {
+
+    private static final String ANY_NAME = "*";
+
+    private static final Pattern NAME_PATTERN = Pattern.compile("[A-Za-z_][A-Za-z0-9_.\\-]*");
+
+    private final String expression;
+
+    private final List<Step> steps;
+
+    /**
+     * Checks whether the specified XPath expression can be evaluated while streaming.
+     *
+     * @param expression    the XPath expression.
+     * @return              {@code true} if the expression is supported.
+     */
+    public static boolean isSupported(final String expression) {
+        return parse(expression) != null;
+    }
+
+    /**
+     * Compiles the specified XPath expression.
+     *
+     * @param expression    the XPath expression.
+     * @return              a new {@link StreamingXPathExpression} instance.
+     * @throws IllegalArgumentException if the expression is not supported.
+     */
+    public static StreamingXPathExpression compile(final String expression) {
+        final List<Step> steps = parse(expression);
+        if (steps == null) {
+            throw new IllegalArgumentException("Unsupported streaming XPath expression '" + expression + "'");
+        }
+        return new StreamingXPathExpression(expression, steps);
+    }
+
+    private static List<Step> parse(final String expression) {
+        if (expression == null) {
+            return null;
+        }
+        final String path = expression.trim();
+        final List<Step> steps = new ArrayList<>();
+        int i = 0;
+        while (i < path.length()) {
+            final boolean descendant = path.startsWith("//", i);
+            if (!descendant && path.charAt(i) != '/') {
+                return null;
+            }
+            i += descendant ? 2 : 1;
+            int end = path.indexOf('/', i);
+            end = end == -1 ? path.length() : end;
+            final String name = path.substring(i, end);
+            if (!name.equals(ANY_NAME) && !NAME_PATTERN.matcher(name).matches()) {
+                return null;
+            }
+            steps.add(new Step(name, descendant));
+            i = end;
+        }
+        return steps.isEmpty() ? null : steps;
+    }
+
+    private StreamingXPathExpression(final String expression, final List<Step> steps) {
+        this.expression = expression;
+        this.steps = Collections.unmodifiableList(steps);
+    }
+
+    /**
+     * Checks whether the element at the end of the specified path is selected by this expression.
+     *
+     * @param path  the names of the current element and all its ancestors, starting from the root element.
+     * @return      {@code true} if the element is selected.
+     */
+    public boolean matches(final List<String> path) {
+        return matches(path, 0, 0);
+    }
+
+    private boolean matches(final List<String> path, final int stepIndex, final int pathIndex) {
+        if (stepIndex == steps.size()) {
+            return pathIndex == path.size();
+        }
+        final Step step = steps.get(stepIndex);
+        if (!step.descendant) {
+            return pathIndex < path.size()
+                && step.matches(path.get(pathIndex))
+                && matches(path, stepIndex + 1, pathIndex + 1);
+        }
+        for (int i = pathIndex; i < path.size(); i++) {
+            if (step.matches(path.get(i)) && matches(path, stepIndex + 1, i + 1)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof StreamingXPathExpression)) return false;
+        StreamingXPathExpression that = (StreamingXPathExpression) o;
+        return Objects.equals(steps, that.steps);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(steps);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    private static final class Step {
+
+        private final String name;
+        private final boolean descendant;
+
+        Step(final String name, final boolean descendant) {
+            this.name = name;
+            this.descendant = descendant;
+        }
+
+        boolean matches(final String elementName) {
+            return name.equals(ANY_NAME) || name.equals(elementName);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Step)) return false;
+            Step that = (Step) o;
+            return descendant == that.descendant && name.equals(that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, descendant);
+        }
+    }
+}
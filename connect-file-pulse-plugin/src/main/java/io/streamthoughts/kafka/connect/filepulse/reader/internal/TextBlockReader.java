@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.util.List;
+
+/**
+ * Default interface for reading a text file line by line.
+ */
+public interface TextBlockReader extends AutoCloseable {
+
+    /**
+     * @return the charset used to decode lines.
+     */
+    Charset charset();
+
+    /**
+     * @return the byte position of the next line to be returned.
+     */
+    long position();
+
+    /**
+     * Enables auto-flush; The reader will automatically
+     * flush all remaining buffered bytes as a single line when EOF is reached.
+     */
+    void enableAutoFlush();
+
+    /**
+     * Disable auto-flush; Reader will not automatically
+     * flush all remaining buffered bytes when EOF is reached.
+     */
+    void disableAutoFlush();
+
+    /**
+     * Reads the next available lines without blocking.
+     *
+     * @param minRecords    the minimum number of lines to read if available.
+     * @return              the list of {@link TextBlock}.
+     * @throws IOException  if an error occurred while reading the file.
+     */
+    List<TextBlock> readLines(final int minRecords) throws IOException;
+
+    /**
+     * Checks whether there is still remaining bytes in the internal buffer.
+     *
+     * @return  {@code true} if there is bytes already read.
+     */
+    boolean remaining();
+
+    /**
+     * Checks whether there is more bytes to be read from the file.
+     *
+     * @return  {@code true} if more bytes are available.
+     */
+    boolean hasNext();
+
+    /**
+     * Seeks the reader to the specified byte position.
+     *
+     * @param offset    the position to seek.
+     */
+    void seekTo(final Long offset);
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    void close();
+}
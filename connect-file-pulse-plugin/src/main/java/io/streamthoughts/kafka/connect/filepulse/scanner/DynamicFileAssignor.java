@@ -0,0 +1,180 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileAssignments;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceFile;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceStatus;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Assigns scheduled files to tasks as they become idle, instead of statically partitioning files across
+ * tasks on each task reconfiguration.
+ *
+ * A file is assigned by writing a {@link SourceStatus#SCHEDULED} state for a task into the state topic,
+ * and the task slot is released as soon as a completed state is received for that file.
+ *
+ * @see FileAssignments
+ */
+final class DynamicFileAssignor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DynamicFileAssignor.class);
+
+    private static final Comparator<SourceMetadata> BY_LAST_MODIFIED =
+        Comparator.comparingLong(SourceMetadata::lastModified);
+
+    private final StateBackingStore<SourceFile> store;
+
+    private final int maxFilesPerTask;
+
+    // Index of the task each in progress file is assigned to.
+    private final Map<String, Integer> assignments = new HashMap<>();
+
+    // Files completed but not yet cleaned up, which must not be assigned again.
+    private final Set<String> released = new HashSet<>();
+
+    private int numTasks = 0;
+
+    /**
+     * Creates a new {@link DynamicFileAssignor} instance.
+     *
+     * @param store             the state store used to assign files.
+     * @param maxFilesPerTask   the maximum number of files assigned to a task at the same time.
+     */
+    DynamicFileAssignor(final StateBackingStore<SourceFile> store, final int maxFilesPerTask) {
+        this.store = Objects.requireNonNull(store, "store can't be null");
+        if (maxFilesPerTask < 1) {
+            throw new IllegalArgumentException("maxFilesPerTask must be greater than 0, was " + maxFilesPerTask);
+        }
+        this.maxFilesPerTask = maxFilesPerTask;
+    }
+
+    /**
+     * Recovers the files which were assigned to tasks during a previous execution.
+     *
+     * @param snapshot  the states snapshot.
+     */
+    synchronized void recover(final StateSnapshot<SourceFile> snapshot) {
+        snapshot.states().forEach((partition, state) -> {
+            final Integer taskId = FileAssignments.taskIdOf(state);
+            if (taskId != null && state.status().isOneOf(SourceStatus.started())) {
+                assignments.put(partition, taskId);
+            }
+        });
+        LOG.info("Recovered '{}' files assigned to tasks from a previous execution", assignments.size());
+    }
+
+    /**
+     * Sets the number of tasks files can be assigned to.
+     * Files assigned to tasks that no longer exist will be assigned again.
+     *
+     * @param numTasks  the number of tasks.
+     */
+    synchronized void setNumTasks(final int numTasks) {
+        this.numTasks = numTasks;
+        assignments.values().removeIf(taskId -> taskId >= numTasks);
+    }
+
+    /**
+     * Releases the task slot used by the specified file which is now completed.
+     *
+     * @param partition the file partition.
+     */
+    synchronized void release(final String partition) {
+        assignments.remove(partition);
+        released.add(partition);
+    }
+
+    /**
+     * Forgets the specified file which is now cleaned up.
+     *
+     * @param partition the file partition.
+     */
+    synchronized void remove(final String partition) {
+        assignments.remove(partition);
+        released.remove(partition);
+    }
+
+    /**
+     * Assigns the scheduled files which are not in progress to the least loaded tasks,
+     * as long as tasks have free slots.
+     *
+     * @param scheduled the scheduled files.
+     * @return the number of files newly assigned.
+     */
+    synchronized int assign(final Map<String, SourceMetadata> scheduled) {
+        if (numTasks == 0) {
+            return 0;
+        }
+        final int[] loads = new int[numTasks];
+        assignments.values().forEach(taskId -> loads[taskId]++);
+
+        final List<Map.Entry<String, SourceMetadata>> pending = scheduled.entrySet()
+            .stream()
+            .filter(e -> !assignments.containsKey(e.getKey()) && !released.contains(e.getKey()))
+            .sorted(Map.Entry.comparingByValue(BY_LAST_MODIFIED))
+            .collect(Collectors.toList());
+
+        int assigned = 0;
+        for (Map.Entry<String, SourceMetadata> file : pending) {
+            final int taskId = leastLoadedTask(loads);
+            if (loads[taskId] >= maxFilesPerTask) {
+                break;
+            }
+            final SourceFile state = new SourceFile(
+                file.getValue(),
+                SourceOffset.empty(),
+                SourceStatus.SCHEDULED,
+                FileAssignments.props(taskId));
+            store.putAsync(file.getKey(), state);
+            assignments.put(file.getKey(), taskId);
+            loads[taskId]++;
+            assigned++;
+        }
+        if (assigned > 0) {
+            LOG.info("Assigned '{}' files to tasks, '{}' files waiting for a free task", assigned,
+                pending.size() - assigned);
+        }
+        return assigned;
+    }
+
+    private static int leastLoadedTask(final int[] loads) {
+        int leastLoaded = 0;
+        for (int i = 1; i < loads.length; i++) {
+            if (loads[i] < loads[leastLoaded]) {
+                leastLoaded = i;
+            }
+        }
+        return leastLoaded;
+    }
+}
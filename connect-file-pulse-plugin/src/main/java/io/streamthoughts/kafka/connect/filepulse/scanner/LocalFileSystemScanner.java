@@ -25,7 +25,6 @@ import io.streamthoughts.kafka.connect.filepulse.clean.FileCleanupPolicy;
 import io.streamthoughts.kafka.connect.filepulse.clean.FileCleanupPolicyResult;
 import io.streamthoughts.kafka.connect.filepulse.clean.FileCleanupPolicyResultSet;
 import io.streamthoughts.kafka.connect.filepulse.clean.GenericFileCleanupPolicy;
-import io.streamthoughts.kafka.connect.filepulse.internal.KeyValuePair;
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.FSDirectoryWalker;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceFile;
@@ -35,7 +34,6 @@ import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
 import org.apache.kafka.common.utils.Time;
 import org.apache.kafka.connect.connector.ConnectorContext;
-import org.apache.kafka.connect.util.ConnectorUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +45,7 @@ import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
@@ -78,6 +77,15 @@ public class LocalFileSystemScanner implements FileSystemScanner {
     // List of files to be scheduled or currently being processed by tasks.
     private final Map<String, SourceMetadata> scheduled = new ConcurrentHashMap<>();
 
+    // Index of the group (i.e. task) each scheduled file was assigned to during the last task reconfiguration.
+    private final Map<String, Integer> assignments = new ConcurrentHashMap<>();
+
+    // List of scheduled files for which an event of completion has been received, until they are cleaned.
+    private final Set<String> finished = ConcurrentHashMap.newKeySet();
+
+    // The maximum number of groups (i.e. tasks) requested during the last task reconfiguration.
+    private int maxTasks = 0;
+
     // List of files for which an event of completion has been received - those files are waiting for cleanup
     private LinkedBlockingQueue<SourceFile> completed = new LinkedBlockingQueue<>();
 
@@ -85,8 +93,14 @@ public class LocalFileSystemScanner implements FileSystemScanner {
 
     private final OffsetManager offsetManager;
 
+    // Index of the files found during previous scans, used to only compute metadata for new or modified files.
+    private final SourceMetadataIndex index;
+
     private final BatchFileCleanupPolicy cleaner;
 
+    // Assignor used to hand out files to tasks through the state store, or null if files are statically partitioned.
+    private final DynamicFileAssignor assignor;
+
     private ScanStatus status;
 
     /**
@@ -103,6 +117,27 @@ public class LocalFileSystemScanner implements FileSystemScanner {
                                   final GenericFileCleanupPolicy cleaner,
                                   final OffsetManager offsetManager,
                                   final StateBackingStore<SourceFile> store) {
+        this(sourceDirectoryPath, fsWalker, cleaner, offsetManager, store, false, 1);
+    }
+
+    /**
+     * Creates a new {@link LocalFileSystemScanner} instance.
+     *
+     * @param sourceDirectoryPath the source directory path to scan.
+     * @param fsWalker            the walker used to scan FS directory.
+     * @param cleaner             the file cleaner policy.
+     * @param offsetManager       the offset manager.
+     * @param store               the state store used to track file progression.
+     * @param dynamicAssignment   flag to indicate if files should be assigned to tasks as they become idle.
+     * @param maxFilesPerTask     the maximum number of files dynamically assigned to a task at the same time.
+     */
+    public LocalFileSystemScanner(final String sourceDirectoryPath,
+                                  final FSDirectoryWalker fsWalker,
+                                  final GenericFileCleanupPolicy cleaner,
+                                  final OffsetManager offsetManager,
+                                  final StateBackingStore<SourceFile> store,
+                                  final boolean dynamicAssignment,
+                                  final int maxFilesPerTask) {
         Objects.requireNonNull(fsWalker, "fsWalker can't be null");
         Objects.requireNonNull(sourceDirectoryPath, "scanDirectoryPath can't be null");
         Objects.requireNonNull(cleaner, "cleaner can't be null");
@@ -121,7 +156,9 @@ public class LocalFileSystemScanner implements FileSystemScanner {
                     + " not " + cleaner.getClass().getName());
         }
         this.offsetManager = offsetManager;
+        this.index = new SourceMetadataIndex(offsetManager::toPartitionJson, this::isInFlight);
         this.store = store;
+        this.assignor = dynamicAssignment ? new DynamicFileAssignor(store, maxFilesPerTask) : null;
         this.status = ScanStatus.CREATED;
         LOG.info("Creating local filesystem scanner");
         // The listener is not call until the store is fully STARTED.
@@ -136,9 +173,20 @@ public class LocalFileSystemScanner implements FileSystemScanner {
                 final SourceStatus status = state.status();
                 if (status.isOneOf(SourceStatus.completed())) {
                     completed.add(state);
+                    finished.add(offsetManager.toPartitionJson(state.metadata()));
+                    if (assignor != null) {
+                        // the task is free to process a new file.
+                        assignor.release(offsetManager.toPartitionJson(state.metadata()));
+                        assignor.assign(scheduled);
+                    }
                 } else if (status.isOneOf(SourceStatus.CLEANED)) {
                     final String partition = offsetManager.toPartitionJson(state.metadata());
+                    if (assignor != null) {
+                        assignor.remove(partition);
+                    }
                     final SourceMetadata remove = scheduled.remove(partition);
+                    assignments.remove(partition);
+                    finished.remove(partition);
                     if (remove == null) {
                         LOG.warn(
                             "Received cleaned status but no file currently scheduled for partition : '{}', " +
@@ -157,6 +205,10 @@ public class LocalFileSystemScanner implements FileSystemScanner {
         }
         readStatesToEnd(READ_CONFIG_ON_START_TIMEOUT_MS);
         recoverPreviouslyCompletedSources();
+        recoverInFlightSources();
+        if (assignor != null) {
+            assignor.recover(fileState);
+        }
         this.status = ScanStatus.READY;
         LOG.info("Finished initializing local filesystem scanner");
     }
@@ -170,6 +222,27 @@ public class LocalFileSystemScanner implements FileSystemScanner {
         LOG.info("Finished recovering previously completed files : " + completed);
     }
 
+    private void recoverInFlightSources() {
+        // The metadata of the files being read are kept, even if those files were modified in the meantime.
+        fileState.states().values()
+                .stream()
+                .filter(s -> s.status().isOneOf(SourceStatus.started()))
+                .forEach(s -> index.addInFlight(s.metadata()));
+    }
+
+    /**
+     * Checks whether the file of the specified source partition is scheduled or is being read by a task.
+     */
+    private boolean isInFlight(final String partition) {
+        if (scheduled.containsKey(partition)) {
+            return true;
+        }
+        final StateSnapshot<SourceFile> snapshot = fileState;
+        return snapshot != null
+            && snapshot.contains(partition)
+            && snapshot.getForKey(partition).status().isOneOf(SourceStatus.started());
+    }
+
     private boolean readStatesToEnd(long timeoutMs) {
         try {
             store.refresh(timeoutMs, TimeUnit.MILLISECONDS);
@@ -190,12 +263,56 @@ public class LocalFileSystemScanner implements FileSystemScanner {
     @Override
     public void scan(final ConnectorContext context) {
         cleanUpCompletedFiles();
-        if (updateFiles()) {
+        updateFiles();
+        assignNewFiles(context);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void scan(final ConnectorContext context, final Collection<File> created) {
+        cleanUpCompletedFiles();
+        addCreatedFiles(created);
+        assignNewFiles(context);
+    }
+
+    private void assignNewFiles(final ConnectorContext context) {
+        if (assignor != null) {
+            // new files are handed out to idle tasks without reconfiguring them.
+            assignor.assign(scheduled);
+        } else if (mustReconfigureTasks()) {
             LOG.info("Requesting task reconfiguration");
             context.requestTaskReconfiguration();
         }
     }
 
+    /**
+     * Checks whether tasks must be reconfigured to process new files. With static assignment, a reconfiguration
+     * restarts all tasks : it is only requested when files are waiting and at least one task has no file left
+     * to process, rather than each time new files are detected.
+     *
+     * @return {@code true} if a task reconfiguration should be requested.
+     */
+    private synchronized boolean mustReconfigureTasks() {
+        // This is used to not trigger task reconfiguration before the connector is fully started.
+        if (!status.equals(ScanStatus.STARTED)) {
+            return false;
+        }
+        final boolean hasUnassignedFiles = scheduled.keySet()
+            .stream()
+            .anyMatch(partition -> !assignments.containsKey(partition));
+        if (!hasUnassignedFiles) {
+            return false;
+        }
+        final Set<Integer> busyTasks = assignments.entrySet()
+            .stream()
+            .filter(e -> scheduled.containsKey(e.getKey()) && !finished.contains(e.getKey()))
+            .map(Map.Entry::getValue)
+            .collect(Collectors.toSet());
+        return busyTasks.size() < maxTasks;
+    }
+
     private void cleanUpCompletedFiles() {
         if (!completed.isEmpty()) {
             LOG.info("Cleaning up completed files '{}'", completed.size());
@@ -216,39 +333,46 @@ public class LocalFileSystemScanner implements FileSystemScanner {
         }
     }
 
-    private synchronized boolean updateFiles() {
+    private synchronized void updateFiles() {
+        // Directory is scanned even if some files are still in progress so that new files are not blocked by them.
+        LOG.info("Scanning local file system directory '{}'", sourceDirectoryPath);
+        final Collection<File> files = fsWalker.listFiles(new File(sourceDirectoryPath));
+        LOG.info("Completed scanned, number of files detected '{}' ", files.size());
+        schedule(index.update(files));
+        LOG.info("Finished scanning directory '{}'", sourceDirectoryPath);
+    }
 
-        if (scheduled.isEmpty()) {
-            LOG.info("Scanning local file system directory '{}'", sourceDirectoryPath);
-            final Collection<File> files = fsWalker.listFiles(new File(sourceDirectoryPath));
-            LOG.info("Completed scanned, number of files detected '{}' ", files.size());
-
-            if (readStatesToEnd(TimeUnit.SECONDS.toMillis(5))) {
-                final StateSnapshot<SourceFile> snapshot = store.snapshot();
-                scheduled.putAll(toScheduled(files, snapshot));
-                LOG.info("Finished lookup for new files : '{}' files selected", scheduled.size());
-
-                notifyAll();
-                // Only return true if the status is started, i.e. if this was not the first directory scan
-                // This is used to not trigger task reconfiguration before the connector is fully started.
-                return !scheduled.isEmpty() && status.equals(ScanStatus.STARTED);
-            }
-            LOG.info("Finished scanning directory '{}'", sourceDirectoryPath);
-        } else {
+    private synchronized void addCreatedFiles(final Collection<File> created) {
+        // Only the created entries are listed, files which are not listed are kept in the index.
+        final Collection<File> files = fsWalker.listFiles(new File(sourceDirectoryPath), created);
+        LOG.info("Number of new files detected in directory '{}' : '{}'", sourceDirectoryPath, files.size());
+        if (!files.isEmpty()) {
+            schedule(index.add(files));
+        }
+    }
+
+    private synchronized void schedule(final Map<String, SourceMetadata> sources) {
+        if (readStatesToEnd(TimeUnit.SECONDS.toMillis(5))) {
+            final StateSnapshot<SourceFile> snapshot = store.snapshot();
+            final Map<String, SourceMetadata> newFiles = toScheduled(sources, snapshot);
+            scheduled.putAll(newFiles);
             LOG.info(
-                "Remaining in progress scheduled files: {}. Skip directory scan while waiting for tasks completion.",
+                "Finished lookup for new files : '{}' files selected, '{}' files scheduled or in progress",
+                newFiles.size(),
                 scheduled.size());
+
+            notifyAll();
         }
-        return false;
     }
 
-    private Map<String, SourceMetadata> toScheduled(final Collection<File> scanned,
+    private Map<String, SourceMetadata> toScheduled(final Map<String, SourceMetadata> sources,
                                                     final StateSnapshot<SourceFile> snapshot) {
-        return scanned.stream()
-                .map(SourceMetadata::fromFile)
-                .map(metadata -> KeyValuePair.of(offsetManager.toPartitionJson(metadata), metadata))
-                .filter(kv -> maybeScheduled(snapshot, kv.key))
-                .collect(Collectors.toMap(kv -> kv.key, kv -> kv.value));
+        return sources
+                .entrySet()
+                .stream()
+                .filter(e -> !scheduled.containsKey(e.getKey()))
+                .filter(e -> maybeScheduled(snapshot, e.getKey()))
+                .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
     }
 
     private boolean maybeScheduled(final StateSnapshot<SourceFile> snapshot, final String partition) {
@@ -260,7 +384,16 @@ public class LocalFileSystemScanner implements FileSystemScanner {
      */
     @Override
     public synchronized List<List<String>> partitionFilesAndGet(int maxGroups) {
+        if (assignor != null) {
+            // tasks are created without files, they will be assigned files as they become idle.
+            assignor.setNumTasks(maxGroups);
+            assignor.assign(scheduled);
+            status = ScanStatus.STARTED;
+            return Collections.nCopies(maxGroups, Collections.emptyList());
+        }
+
         LOG.info("Retrieving source files to be scheduled found during last scan");
+        maxTasks = maxGroups;
         final long timeout = 15000L; // TODO: Timeout should be user-configurable
         long started = Time.SYSTEM.milliseconds();
         long now = started;
@@ -279,21 +412,58 @@ public class LocalFileSystemScanner implements FileSystemScanner {
             LOG.warn("Directory could not be scanned quickly enough, or no file detected after connector started");
             partitions =  Collections.emptyList();
         } else {
+            partitions = assignToGroups(Math.min(scheduled.size(), maxGroups));
+        }
 
-            int numGroups = Math.min(scheduled.size(), maxGroups);
+        status = ScanStatus.STARTED;
+        return partitions;
+    }
 
-            List<SourceMetadata> sources = new ArrayList<>(scheduled.values());
-            sources.sort(BY_LAST_MODIFIED);
+    /**
+     * Assigns all scheduled files to the specified number of groups. Files which were already assigned during
+     * a previous call are kept into the same group so that a task keeps processing the files it has started,
+     * while new files are assigned to the groups having the fewest files.
+     *
+     * @param numGroups the number of groups.
+     * @return the list of files paths for each group.
+     */
+    private List<List<String>> assignToGroups(final int numGroups) {
+        final List<List<String>> groups = new ArrayList<>(numGroups);
+        for (int i = 0; i < numGroups; i++) {
+            groups.add(new ArrayList<>());
+        }
 
-            final List<String> paths = sources
-                .stream()
-                .map(SourceMetadata::absolutePath)
-                .collect(Collectors.toList());
-           partitions = ConnectorUtils.groupPartitions(paths, numGroups);
+        assignments.keySet().retainAll(scheduled.keySet());
+
+        final List<Map.Entry<String, SourceMetadata>> sources = new ArrayList<>(scheduled.entrySet());
+        sources.sort(Map.Entry.comparingByValue(BY_LAST_MODIFIED));
+
+        final List<Map.Entry<String, SourceMetadata>> unassigned = new ArrayList<>();
+        for (Map.Entry<String, SourceMetadata> source : sources) {
+            final Integer group = assignments.get(source.getKey());
+            if (group != null && group < numGroups) {
+                groups.get(group).add(source.getValue().absolutePath());
+            } else {
+                unassigned.add(source);
+            }
         }
 
-        status = ScanStatus.STARTED;
-        return partitions;
+        for (Map.Entry<String, SourceMetadata> source : unassigned) {
+            final int group = leastLoadedGroup(groups);
+            groups.get(group).add(source.getValue().absolutePath());
+            assignments.put(source.getKey(), group);
+        }
+        return groups;
+    }
+
+    private static int leastLoadedGroup(final List<List<String>> groups) {
+        int leastLoaded = 0;
+        for (int i = 1; i < groups.size(); i++) {
+            if (groups.get(i).size() < groups.get(leastLoaded).size()) {
+                leastLoaded = i;
+            }
+        }
+        return leastLoaded;
     }
 
     /**
@@ -302,5 +472,6 @@ public class LocalFileSystemScanner implements FileSystemScanner {
     @Override
     public void close() {
         this.status = ScanStatus.STOPPED;
+        fsWalker.close();
     }
 }
\ No newline at end of file
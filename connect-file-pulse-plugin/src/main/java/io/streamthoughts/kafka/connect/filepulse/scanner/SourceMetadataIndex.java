@@ -0,0 +1,198 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner;
+
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.ScannedFile;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * An in-memory index of the files found by the previous directory scans.
+ *
+ * Each file is indexed by its absolute path along with its file key (i.e. device and inode on unix systems),
+ * size and last modified time, which are all read with a single stat call, or directly taken from the
+ * {@link ScannedFile}s listed by the directory walker. The {@link SourceMetadata} of a file,
+ * which requires reading its first bytes to compute a content hash, is only computed when a file is new or when
+ * one of those attributes changed since the previous scan.
+ *
+ * The metadata of a file which is still in flight (i.e. scheduled or being read) is not computed again when the
+ * file is modified. Otherwise, a file that is still being written would get a new content hash, and thus a new
+ * source partition, and would be scheduled again.
+ *
+ * This class is not thread-safe.
+ */
+class SourceMetadataIndex {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SourceMetadataIndex.class);
+
+    private final Function<SourceMetadata, String> partitioner;
+
+    private final Predicate<String> inFlight;
+
+    private Map<String, Entry> entries = new HashMap<>();
+
+    /**
+     * Creates a new {@link SourceMetadataIndex} instance.
+     *
+     * @param partitioner the function used to compute the source partition of a file.
+     * @param inFlight    the predicate used to check whether the file of a source partition is still in flight.
+     */
+    SourceMetadataIndex(final Function<SourceMetadata, String> partitioner,
+                        final Predicate<String> inFlight) {
+        this.partitioner = Objects.requireNonNull(partitioner, "partitioner can't be null");
+        this.inFlight = Objects.requireNonNull(inFlight, "inFlight can't be null");
+    }
+
+    /**
+     * Adds the specified file which is in flight, e.g. a file which was being read before the connector restarted.
+     * Its metadata is kept until it is no longer in flight.
+     *
+     * @param metadata  the metadata of the file.
+     */
+    void addInFlight(final SourceMetadata metadata) {
+        entries.put(metadata.absolutePath(), new Entry(metadata, partitioner.apply(metadata)));
+    }
+
+    /**
+     * Updates this index with the files listed by a new directory scan. Files that are no longer listed
+     * are evicted from the index.
+     *
+     * @param files the files listed by the scan.
+     * @return      the {@link SourceMetadata} of all the listed files, by source partition.
+     */
+    Map<String, SourceMetadata> update(final Collection<File> files) {
+        final int capacity = Math.max(16, (int) (files.size() / 0.75f) + 1);
+        final Map<String, Entry> updated = new HashMap<>(capacity);
+        final Map<String, SourceMetadata> sources = index(files, updated);
+        entries = updated;
+        return sources;
+    }
+
+    /**
+     * Adds the specified files to this index, e.g. files that have just been created.
+     * Files already indexed are kept.
+     *
+     * @param files the files to add.
+     * @return      the {@link SourceMetadata} of the specified files, by source partition.
+     */
+    Map<String, SourceMetadata> add(final Collection<File> files) {
+        return index(files, entries);
+    }
+
+    private Map<String, SourceMetadata> index(final Collection<File> files, final Map<String, Entry> updated) {
+        final int capacity = Math.max(16, (int) (files.size() / 0.75f) + 1);
+        final Map<String, SourceMetadata> sources = new LinkedHashMap<>(capacity);
+        int computed = 0;
+        for (File file : files) {
+            final BasicFileAttributes attributes = readAttributesOrNull(file);
+            if (attributes == null) {
+                continue;
+            }
+            final String path = file.getAbsolutePath();
+            Entry entry = entries.get(path);
+            if (entry != null && !entry.matches(attributes) && isFrozen(entry, attributes)) {
+                LOG.debug("Keep metadata of file '{}' which is modified while in flight", path);
+            } else if (entry == null || !entry.matches(attributes)) {
+                final SourceMetadata metadata = SourceMetadata.fromFile(file);
+                entry = new Entry(attributes, metadata, partitioner.apply(metadata));
+                computed++;
+            }
+            updated.put(path, entry);
+            sources.put(entry.partition, entry.metadata);
+        }
+        LOG.debug("Updated file index, {} files indexed, metadata computed for {} new or modified files",
+            updated.size(),
+            computed);
+        return sources;
+    }
+
+    private static BasicFileAttributes readAttributesOrNull(final File file) {
+        if (file instanceof ScannedFile) {
+            return ((ScannedFile) file).attributes();
+        }
+        try {
+            return Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+        } catch (IOException e) {
+            LOG.debug("Skip file '{}' which can no longer be read : {}", file, e.getLocalizedMessage());
+            return null;
+        }
+    }
+
+    private boolean isFrozen(final Entry entry, final BasicFileAttributes attributes) {
+        return entry.isSameFile(attributes) && inFlight.test(entry.partition);
+    }
+
+    /**
+     * @return the number of files currently indexed.
+     */
+    int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+
+        private final Object fileKey;
+        private final long size;
+        private final long lastModified;
+        private final SourceMetadata metadata;
+        private final String partition;
+
+        Entry(final BasicFileAttributes attributes,
+              final SourceMetadata metadata,
+              final String partition) {
+            this.fileKey = attributes.fileKey();
+            this.size = attributes.size();
+            this.lastModified = attributes.lastModifiedTime().toMillis();
+            this.metadata = metadata;
+            this.partition = partition;
+        }
+
+        Entry(final SourceMetadata metadata,
+              final String partition) {
+            this.fileKey = null;
+            this.size = -1;
+            this.lastModified = -1;
+            this.metadata = metadata;
+            this.partition = partition;
+        }
+
+        boolean isSameFile(final BasicFileAttributes attributes) {
+            return fileKey == null || attributes.fileKey() == null || fileKey.equals(attributes.fileKey());
+        }
+
+        boolean matches(final BasicFileAttributes attributes) {
+            return size == attributes.size()
+                && lastModified == attributes.lastModifiedTime().toMillis()
+                && Objects.equals(fileKey, attributes.fileKey());
+        }
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner.local;
+
+import org.apache.kafka.common.utils.Time;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Watches a directory tree for new entries using a {@link WatchService}.
+ *
+ * The listener is notified, from the watcher thread, with the paths of the entries created so that they can
+ * be scheduled without listing the whole directory. As a file is usually still empty or partially written
+ * when it is created, an entry is only notified once it has not been modified for a quiet period, i.e. once
+ * its last modified time is older than the quiet period and no modification event was received meanwhile.
+ *
+ * Directories created under the watched root are registered as soon as they are detected. When events are lost
+ * (i.e. {@link StandardWatchEventKinds#OVERFLOW}) the listener is notified to fall back to a full scan.
+ */
+public class DirectoryWatcher implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryWatcher.class);
+
+    private final Path root;
+
+    private final Listener listener;
+
+    private final long quietPeriodMs;
+
+    private final WatchService watchService;
+
+    private final Map<WatchKey, Path> watched = new ConcurrentHashMap<>();
+
+    private final Thread thread;
+
+    // Entries created but not notified yet, with the time at which they must be checked again.
+    // Only accessed by the watcher thread.
+    private final Map<Path, Long> pending = new LinkedHashMap<>();
+
+    /**
+     * Creates a new {@link DirectoryWatcher} instance.
+     *
+     * @param root          the root directory to watch.
+     * @param quietPeriodMs the time in milliseconds during which a created entry must not be modified to be notified.
+     * @param listener      the listener invoked when new entries are created.
+     * @throws IOException if the watch service cannot be created.
+     */
+    public DirectoryWatcher(final Path root,
+                            final long quietPeriodMs,
+                            final Listener listener) throws IOException {
+        if (quietPeriodMs < 0) {
+            throw new IllegalArgumentException("quietPeriodMs cannot be inferior to 0, was " + quietPeriodMs);
+        }
+        this.root = Objects.requireNonNull(root, "root can't be null");
+        this.listener = Objects.requireNonNull(listener, "listener can't be null");
+        this.quietPeriodMs = quietPeriodMs;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, DirectoryWatcher.class.getSimpleName());
+        this.thread.setDaemon(true);
+    }
+
+    /**
+     * Registers the whole directory tree and starts watching for changes.
+     */
+    public void start() {
+        registerAll(root);
+        thread.start();
+        LOG.info("Started watching directory '{}' for changes", root);
+    }
+
+    private void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WatchKey key = pending.isEmpty() ?
+                    watchService.take() :
+                    watchService.poll(nextCheckDelayMs(), TimeUnit.MILLISECONDS);
+                if (key != null) {
+                    processEvents(key);
+                }
+                notifyQuietEntries();
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // the watcher is closing.
+        } finally {
+            LOG.info("Stopped watching directory '{}' for changes", root);
+        }
+    }
+
+    private void processEvents(final WatchKey key) {
+        final Path dir = watched.get(key);
+        final long now = Time.SYSTEM.milliseconds();
+        boolean overflow = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            final WatchEvent.Kind<?> kind = event.kind();
+            if (kind == StandardWatchEventKinds.OVERFLOW) {
+                LOG.warn("Events have been lost while watching directory '{}', fallback to full scan", root);
+                // some directories may have been created without being registered.
+                registerAll(root);
+                overflow = true;
+            } else if (dir != null && kind == StandardWatchEventKinds.ENTRY_CREATE) {
+                final Path child = dir.resolve((Path) event.context());
+                if (Files.isDirectory(child, LinkOption.NOFOLLOW_LINKS)) {
+                    // entries created before the directory is registered are listed with the directory.
+                    registerAll(child);
+                }
+                pending.put(child, now + quietPeriodMs);
+            } else if (dir != null && kind == StandardWatchEventKinds.ENTRY_MODIFY) {
+                final Path child = dir.resolve((Path) event.context());
+                // a created entry is still being written.
+                pending.computeIfPresent(child, (path, check) -> now + quietPeriodMs);
+            }
+        }
+        if (!key.reset()) {
+            watched.remove(key);
+        }
+        if (overflow) {
+            listener.onOverflow();
+        }
+    }
+
+    private long nextCheckDelayMs() {
+        final long next = pending.values().stream().mapToLong(Long::longValue).min().orElse(Long.MAX_VALUE);
+        return Math.max(0, next - Time.SYSTEM.milliseconds());
+    }
+
+    /**
+     * Notifies the listener with the created entries which have not been modified for the quiet period.
+     */
+    private void notifyQuietEntries() {
+        final long now = Time.SYSTEM.milliseconds();
+        final List<Path> quiet = new ArrayList<>();
+        final Iterator<Map.Entry<Path, Long>> iterator = pending.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<Path, Long> entry = iterator.next();
+            if (entry.getValue() > now) {
+                continue;
+            }
+            final long lastModified = lastModifiedOrNegative(entry.getKey());
+            if (lastModified < 0) {
+                // the entry has been deleted or moved.
+                iterator.remove();
+            } else if (lastModified <= now && now - lastModified < quietPeriodMs) {
+                // the entry was modified without any event being received, e.g. on a polling watch service.
+                entry.setValue(lastModified + quietPeriodMs);
+            } else {
+                quiet.add(entry.getKey());
+                iterator.remove();
+            }
+        }
+        if (!quiet.isEmpty()) {
+            listener.onCreate(quiet);
+        }
+    }
+
+    private static long lastModifiedOrNegative(final Path path) {
+        try {
+            return Files.getLastModifiedTime(path, LinkOption.NOFOLLOW_LINKS).toMillis();
+        } catch (IOException e) {
+            return -1L;
+        }
+    }
+
+    private void registerAll(final Path start) {
+        try {
+            Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+                @Override
+                public FileVisitResult preVisitDirectory(final Path dir, final BasicFileAttributes attrs)
+                        throws IOException {
+                    final WatchKey key = dir.register(
+                        watchService,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY);
+                    watched.put(key, dir);
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(final Path file, final IOException e) {
+                    LOG.warn("Cannot watch directory '{}' : {}", file, e.getLocalizedMessage());
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            LOG.warn("Error while registering directory '{}' : {}", start, e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        thread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOG.warn("Error while closing watch service : {}", e.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * The listener notified of the changes of the watched directory.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked when new entries are created under the watched directory, once they have not been modified
+         * for the quiet period.
+         *
+         * @param paths the paths of the new files or directories.
+         */
+        void onCreate(final List<Path> paths);
+
+        /**
+         * Invoked when events have been lost, i.e. the whole directory must be scanned.
+         */
+        void onOverflow();
+    }
+}
@@ -24,7 +24,7 @@ import java.io.File;
 import java.util.Collection;
 import java.util.Map;
 
-public interface FSDirectoryWalker extends Configurable {
+public interface FSDirectoryWalker extends Configurable, AutoCloseable {
 
     /**
      * Configure this class with the given key-value pairs
@@ -39,10 +39,29 @@ public interface FSDirectoryWalker extends Configurable {
      */
     Collection<File> listFiles(final File dir);
 
+    /**
+     * Lists the files among the specified entries which were created into the input directory.
+     * By default, the whole input directory is listed.
+     *
+     * @param dir       the input directory.
+     * @param entries   the new files or directories.
+     * @return          the list of the files found.
+     */
+    default Collection<File> listFiles(final File dir, final Collection<File> entries) {
+        return listFiles(dir);
+    }
+
     /**
      * Sets the filter to apply on each file during directory listing.
      * @param filter    the filter to apply.
      */
     void setFilter(final FileListFilter filter);
 
+    /**
+     * Close any internal resources.
+     */
+    @Override
+    default void close() {
+
+    }
 }
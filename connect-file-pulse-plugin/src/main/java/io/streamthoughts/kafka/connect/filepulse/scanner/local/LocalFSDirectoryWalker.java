@@ -20,16 +20,20 @@ package io.streamthoughts.kafka.connect.filepulse.scanner.local;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.file.AccessDeniedException;
 import java.nio.file.DirectoryStream;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecHandler;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.codec.CodecManager;
@@ -51,6 +55,11 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
 
     private LocalFSDirectoryWalkerConfig config;
 
+    /**
+     * The pool used to list directories in parallel, {@code null} if the scan parallelism is 1.
+     */
+    private ForkJoinPool pool;
+
     /**
      * Creates a new {@link LocalFSDirectoryWalker} instance.
      */
@@ -75,6 +84,11 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
     @Override
     public void configure(final Map<String, ?> configs) {
         config = new LocalFSDirectoryWalkerConfig(configs);
+        close();
+        final int parallelism = config.scanParallelism();
+        if (parallelism > 1) {
+            pool = new ForkJoinPool(parallelism);
+        }
     }
 
     /**
@@ -86,6 +100,39 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
         return (this.filter != null) ? this.filter.filterFiles(files) : files;
     }
 
+    /**
+     * Lists the new entries only. Directories are walked-through and compressed files are decompressed,
+     * as during a full scan of the input directory.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public Collection<File> listFiles(final File dir, final Collection<File> entries) {
+        final Path root = dir.toPath();
+        final List<File> files = new ArrayList<>();
+        final List<Path> directories = new ArrayList<>();
+        for (File entry : entries) {
+            final Path path = entry.toPath();
+            if (!isEligibleEntry(root, path)) {
+                continue;
+            }
+            final BasicFileAttributes attrs = readAttributesOrNull(path);
+            if (attrs == null) {
+                continue;
+            }
+            if (attrs.isRegularFile()) {
+                listFile(path, attrs, files, directories);
+            } else if (attrs.isDirectory() && config.isRecursiveScanEnable()) {
+                directories.add(path);
+            }
+        }
+        for (Path directory : directories) {
+            final ListDirectoryTask task = new ListDirectoryTask(directory);
+            files.addAll(pool != null ? pool.invoke(task) : task.compute());
+        }
+        return (this.filter != null) ? this.filter.filterFiles(files) : files;
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -95,57 +142,168 @@ public class LocalFSDirectoryWalker implements FSDirectoryWalker {
     }
 
     private List<File> listEligibleFiles(final File input) {
-        final List<File> listingLocalFiles = new LinkedList<>();
-        if (!isReadableAndNotHidden(input)) {
-            if (!input.isHidden()) {
-                LOG.warn("File doesn't exist or can't be read: {}", input.getAbsolutePath());
-            }
-            return listingLocalFiles;
-        }
-        final List<File> decompressedDirs = new LinkedList<>();
-        final List<File> directories = new LinkedList<>();
-        try (DirectoryStream<Path> stream = Files.newDirectoryStream(input.toPath())) {
-            stream.forEach(path -> {
-                final File file = path.toFile();
-                try {
-                    // directory path is already listed by the parent listEligibleFiles method.
-                    if (file.isFile()) {
-                        final CodecHandler codec = codecs.getCodecIfCompressedOrNull(file);
-                        if (codec != null) {
-                            LOG.debug("Detecting compressed file : {}", file.getCanonicalPath());
-                            final File decompressed = codec.decompress(file);
-                            listingLocalFiles.addAll(listEligibleFiles(decompressed));
-                            decompressedDirs.add(decompressed);
-                        } else {
-                            // If no codec is found for the input file -
-                            // we just naively consider it to be an uncompressed.
-                            listingLocalFiles.add(file);
-                        }
-                    } else {
-                        // A directory can be the result of a decompressed file.
-                        // Defer scan after all compress files has been proceed.
-                        directories.add(file);
-                    }
-                } catch (IOException e) {
-                    LOG.error("Skip input file {} - error while decompressing", file.getName(), e);
+        final ListDirectoryTask task = new ListDirectoryTask(input.toPath());
+        return pool != null ? pool.invoke(task) : task.compute();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (pool != null) {
+            pool.shutdown();
+            pool = null;
+        }
+    }
+
+    /**
+     * Lists the entries of the specified directory.
+     *
+     * @param dir           the directory to list.
+     * @param files         the list to add the regular and decompressed files to.
+     * @param directories   the list to add the directories which must be walked-through to.
+     */
+    private void listDirectory(final Path dir, final List<File> files, final List<Path> directories) {
+        if (isHidden(dir)) {
+            return;
+        }
+        final List<Path> decompressedDirs = new ArrayList<>();
+        final List<Path> subDirectories = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(dir)) {
+            for (Path path : stream) {
+                // a single call is used to get the file type instead of one per File method.
+                final BasicFileAttributes attrs = readAttributesOrNull(path);
+                if (attrs == null) {
+                    continue;
+                }
+                if (attrs.isRegularFile()) {
+                    listFile(path, attrs, files, decompressedDirs);
+                } else if (attrs.isDirectory()) {
+                    // A directory can be the result of a decompressed file.
+                    // Defer scan after all compress files has been proceed.
+                    subDirectories.add(path);
                 }
-            });
+            }
+        } catch (NoSuchFileException | AccessDeniedException e) {
+            LOG.warn("File doesn't exist or can't be read: {}", dir.toAbsolutePath());
+            return;
         } catch (IOException e) {
-            LOG.warn("Error while listing directory {}: {}", input.getAbsolutePath(), e.getLocalizedMessage());
+            LOG.warn("Error while listing directory {}: {}", dir.toAbsolutePath(), e.getLocalizedMessage());
             throw new ConnectException(e);
         }
 
+        directories.addAll(decompressedDirs);
         if (config.isRecursiveScanEnable()) {
-            listingLocalFiles.addAll(directories.stream()
-                .filter(f -> !decompressedDirs.contains(f))
-                .flatMap(f -> listEligibleFiles(f).stream())
-                .collect(Collectors.toList()));
+            subDirectories.stream()
+                .filter(path -> !decompressedDirs.contains(path))
+                .forEach(directories::add);
+        }
+    }
+
+    /**
+     * Adds the specified file to the list of files, or decompresses it.
+     *
+     * @param path              the regular file.
+     * @param attrs             the attributes of the file.
+     * @param files             the list to add the file to.
+     * @param decompressedDirs  the list to add the directory the file is decompressed into to.
+     */
+    private void listFile(final Path path,
+                          final BasicFileAttributes attrs,
+                          final List<File> files,
+                          final List<Path> decompressedDirs) {
+        final File file = new ScannedFile(path, attrs);
+        final CodecHandler codec = codecs.getCodecIfCompressedOrNull(file);
+        if (codec != null) {
+            final File decompressed = decompressOrNull(codec, file);
+            if (decompressed != null) {
+                decompressedDirs.add(decompressed.toPath());
+            }
+        } else {
+            // If no codec is found for the input file -
+            // we just naively consider it to be an uncompressed.
+            files.add(file);
+        }
+    }
+
+    /**
+     * Checks whether an entry created under the input directory would be listed by a full scan,
+     * i.e. it is not located into a hidden directory, nor into a sub-directory if the scan is not recursive.
+     */
+    private boolean isEligibleEntry(final Path root, final Path entry) {
+        if (!entry.startsWith(root) || entry.equals(root)) {
+            return false;
+        }
+        final Path parent = entry.getParent();
+        if (!config.isRecursiveScanEnable() && !root.equals(parent)) {
+            return false;
+        }
+        for (Path dir = parent; dir != null && dir.startsWith(root); dir = dir.getParent()) {
+            if (isHidden(dir)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private File decompressOrNull(final CodecHandler codec, final File file) {
+        try {
+            LOG.debug("Detecting compressed file : {}", file.getCanonicalPath());
+            return codec.decompress(file);
+        } catch (IOException e) {
+            LOG.error("Skip input file {} - error while decompressing", file.getName(), e);
+            return null;
         }
-        return listingLocalFiles;
     }
 
-    private boolean isReadableAndNotHidden(final File file) {
-        return file.exists() && file.canRead() && !file.isHidden();
+    private static BasicFileAttributes readAttributesOrNull(final Path path) {
+        try {
+            return Files.readAttributes(path, BasicFileAttributes.class);
+        } catch (IOException e) {
+            // file may have been deleted or is a broken link.
+            LOG.debug("Skip input file {} - error while reading attributes: {}", path, e.getLocalizedMessage());
+            return null;
+        }
     }
 
-}
\ No newline at end of file
+    private static boolean isHidden(final Path path) {
+        try {
+            return Files.isHidden(path);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Lists a directory and walks-through its sub-directories, in parallel when executed into a {@link ForkJoinPool}.
+     */
+    private final class ListDirectoryTask extends RecursiveTask<List<File>> {
+
+        private final Path dir;
+
+        ListDirectoryTask(final Path dir) {
+            this.dir = dir;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected List<File> compute() {
+            final List<File> files = new ArrayList<>();
+            final List<Path> directories = new ArrayList<>();
+            listDirectory(dir, files, directories);
+
+            final List<ListDirectoryTask> tasks = new ArrayList<>(directories.size());
+            directories.forEach(path -> tasks.add(new ListDirectoryTask(path)));
+            if (inForkJoinPool()) {
+                invokeAll(tasks);
+                tasks.forEach(task -> files.addAll(task.join()));
+            } else {
+                tasks.forEach(task -> files.addAll(task.compute()));
+            }
+            return files;
+        }
+    }
+}
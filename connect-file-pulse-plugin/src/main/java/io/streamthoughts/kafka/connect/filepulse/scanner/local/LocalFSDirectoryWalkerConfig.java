@@ -30,10 +30,16 @@ public class LocalFSDirectoryWalkerConfig extends AbstractConfig {
     private static final String FS_RECURSIVE_SCAN_ENABLE_DOC    = "Boolean indicating whether local directory " +
                                                                   "should be recursively scanned (default true).";
 
+    public static final String FS_SCAN_PARALLELISM_CONFIG       = "fs.scan.parallelism";
+    private static final String FS_SCAN_PARALLELISM_DOC         = "The maximum number of directories which can be " +
+                                                                  "listed in parallel while scanning (default 1).";
+
     public static ConfigDef getConf() {
         return new ConfigDef()
             .define(FS_RECURSIVE_SCAN_ENABLE_CONFIG, ConfigDef.Type.BOOLEAN, true,
-                    ConfigDef.Importance.MEDIUM, FS_RECURSIVE_SCAN_ENABLE_DOC);
+                    ConfigDef.Importance.MEDIUM, FS_RECURSIVE_SCAN_ENABLE_DOC)
+            .define(FS_SCAN_PARALLELISM_CONFIG, ConfigDef.Type.INT, 1,
+                    ConfigDef.Range.atLeast(1), ConfigDef.Importance.LOW, FS_SCAN_PARALLELISM_DOC);
     }
 
     /**
@@ -47,4 +53,8 @@ public class LocalFSDirectoryWalkerConfig extends AbstractConfig {
     public boolean isRecursiveScanEnable() {
         return getBoolean(FS_RECURSIVE_SCAN_ENABLE_CONFIG);
     }
+
+    public int scanParallelism() {
+        return getInt(FS_SCAN_PARALLELISM_CONFIG);
+    }
 }
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner.local;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Objects;
+
+/**
+ * A {@link File} listed by a {@link FSDirectoryWalker}, which holds the attributes read while walking through
+ * the directory, so that they do not have to be read again when the file is indexed.
+ */
+public class ScannedFile extends File {
+
+    private final transient BasicFileAttributes attributes;
+
+    /**
+     * Creates a new {@link ScannedFile} instance.
+     *
+     * @param path          the file path.
+     * @param attributes    the file attributes read while listing the file.
+     */
+    public ScannedFile(final Path path, final BasicFileAttributes attributes) {
+        super(path.toString());
+        this.attributes = Objects.requireNonNull(attributes, "attributes can't be null");
+    }
+
+    /**
+     * Gets the attributes of this file, as read while listing the file.
+     *
+     * @return  the {@link BasicFileAttributes}.
+     */
+    public BasicFileAttributes attributes() {
+        return attributes;
+    }
+}
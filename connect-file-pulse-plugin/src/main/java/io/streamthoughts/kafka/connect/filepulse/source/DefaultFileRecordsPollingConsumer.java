@@ -19,13 +19,17 @@
 package io.streamthoughts.kafka.connect.filepulse.source;
 
 import java.io.File;
+import java.util.Collections;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.Queue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
@@ -84,15 +88,62 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
     }
 
     void addAll(final List<String> files) {
+        addAll(files.stream().map(toIterable()));
+    }
+
+    /**
+     * Adds a single split of the specified file to be consumed.
+     *
+     * @param file  the file path.
+     * @param split the split of the file to read.
+     */
+    void add(final String file, final FileSplit split) {
+        addAll(Stream.of(new FileInputIterable(new File(file), reader, split)));
+    }
+
+    /**
+     * Computes the splits of the specified file using the configured reader.
+     *
+     * The boundaries of the splits for which offsets were already committed are reused, so that the splits of a
+     * file that has grown since it was first split are not shifted. A file already being read as a whole is not split.
+     *
+     * @param file  the file path.
+     * @return  the list of {@link FileSplit}, or an empty list if the file should be read as a whole.
+     */
+    List<FileSplit> splits(final String file) {
+        final SourceMetadata metadata = SourceMetadata.fromFile(new File(file));
+        if (ignoreCommittedOffsets) {
+            return reader.splits(metadata);
+        }
+        if (offsetManager.getOffsetFor(taskContext, metadata).isPresent()) {
+            return Collections.emptyList();
+        }
+        final Map<Long, FileSplit> computed = reader.splits(metadata)
+            .stream()
+            .collect(Collectors.toMap(FileSplit::startPosition, Function.identity()));
+
+        final List<FileSplit> splits = new LinkedList<>();
+        long start = 0;
+        while (true) {
+            final FileSplit split = offsetManager.getSplitFor(taskContext, metadata, start)
+                .orElse(computed.getOrDefault(start, new FileSplit(start, FileSplit.UNBOUNDED)));
+            splits.add(split);
+            if (split.endPosition() == FileSplit.UNBOUNDED) {
+                break;
+            }
+            start = split.endPosition();
+        }
+        return splits.size() > 1 ? splits : Collections.emptyList();
+    }
+
+    private void addAll(final Stream<FileInputIterable> stream) {
         if (isClose()) {
             throw new IllegalStateException("Can't add new input files, consumer is closed");
         }
-        final List<FileInputIterable> iterables = files
-            .stream()
-            .map(toIterable())
+        final List<FileInputIterable> iterables = stream
             .filter(excludeUnreadableAndNotify())
             .peek(it -> {
-                if (hasListener()) listener.onScheduled(new FileContext(it.metadata()));
+                if (hasListener()) listener.onScheduled(newFileContext(it, SourceOffset.empty()));
             })
             .collect(Collectors.toList());
         queue.addAll(iterables);
@@ -102,6 +153,10 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
         return file -> new FileInputIterable(new File(file), reader);
     }
 
+    private static FileContext newFileContext(final FileInputIterable iterable, final SourceOffset offset) {
+        return new FileContext(iterable.metadata(), offset, iterable.split());
+    }
+
     private Predicate<FileInputIterable> excludeUnreadableAndNotify() {
         return it -> {
             boolean valid = it.isValid();
@@ -109,7 +164,7 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 LOG.error(
                     "Invalid source, file doesn't exist or is not readable - ignore : {}",
                     it.file().getAbsolutePath());
-                listener.onInvalid(new FileContext(it.metadata()));
+                listener.onInvalid(newFileContext(it, SourceOffset.empty()));
             }
             return valid;
          };
@@ -123,23 +178,13 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
         if (currentIterator != null) {
             FileContext context = currentIterator.context();
             if (latestPollRecord != null) {
-                context = new FileContext(
-                        context.metadata(),
-                        latestPollRecord.offset().toSourceOffset());
+                context = context.withOffset(latestPollRecord.offset().toSourceOffset());
             }
             return context;
         }
         return null;
     }
 
-    /**
-     * {@inheritDoc}
-     */
-    @Override
-    public void seekTo(final SourceOffset offset) {
-        throw new UnsupportedOperationException();
-    }
-
     /**
      * {@inheritDoc}
      */
@@ -258,22 +303,24 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 LOG.error(
                     "File does not exist or is not readable, skip entry and continue '{}'",
                     metadata.absolutePath());
-                deleteFileQueueAndInvokeListener(new FileContext(metadata), null);
+                deleteFileQueueAndInvokeListener(newFileContext(iterable, SourceOffset.empty()), null);
                 return null;
             }
 
+            final FileSplit split = iterable.split();
             final SourceOffset committedOffset;
             if (!ignoreCommittedOffsets) {
-                committedOffset = offsetManager.getOffsetFor(context, metadata).orElse(SourceOffset.empty());
+                committedOffset = offsetManager.getOffsetFor(context, metadata, split).orElse(SourceOffset.empty());
             } else {
                 committedOffset = SourceOffset.empty();
             }
 
-            if (!ignoreCommittedOffsets && isAlreadyCompleted(committedOffset, metadata)) {
+            if (!ignoreCommittedOffsets && isAlreadyCompleted(committedOffset, metadata, split)) {
                 LOG.warn(
-                    "Detected source file already completed, skip entry and continue '{}'",
-                    metadata.absolutePath());
-                deleteFileQueueAndInvokeListener(new FileContext(metadata, committedOffset), null);
+                    "Detected source file already completed, skip entry and continue '{}' (split={})",
+                    metadata.absolutePath(),
+                    split);
+                deleteFileQueueAndInvokeListener(newFileContext(iterable, committedOffset), null);
             } else {
                 newIterator = iterable.open(committedOffset);
                 pipeline.init(newIterator.context());
@@ -282,7 +329,7 @@ public class DefaultFileRecordsPollingConsumer implements FileRecordsPollingCons
                 }
             }
         } catch (final Exception e) {
-            deleteFileQueueAndInvokeListener(new FileContext(metadata), e);
+            deleteFileQueueAndInvokeListener(newFileContext(iterable, SourceOffset.empty()), e);
         }
         return newIterator;
     }
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.internal.Network;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Tracks the files dynamically assigned to a task through the internal state topic.
+ *
+ * Files are only assigned by the connector, which writes a {@link SourceStatus#SCHEDULED} state holding the
+ * index of the task into the {@link #TASK_ID_PROP} property. Tasks keep that property on every state they report
+ * so that files still in progress are resumed by the same task after a restart.
+ *
+ * The files assigned to the task are indexed as state updates are received from the store, so that polling
+ * for new assignments does not depend on the total number of states.
+ */
+public final class FileAssignments implements StateBackingStore.UpdateListener<SourceFile>, AutoCloseable {
+
+    public static final String TASK_ID_PROP = "task.id";
+
+    private static final String HOSTNAME_PROP = "hostname";
+
+    private final StateBackingStore<SourceFile> store;
+
+    private final int taskId;
+
+    // Files assigned to the task which are not completed yet, by source partition.
+    private final Map<String, SourceMetadata> assigned = new HashMap<>();
+
+    // Files already returned by a previous poll and which are still in progress.
+    private final Set<String> polled = new HashSet<>();
+
+    private boolean closed = false;
+
+    /**
+     * Creates a new {@link FileAssignments} instance.
+     *
+     * @param store     the state store used to track file progression.
+     * @param taskId    the index of the task.
+     */
+    public FileAssignments(final StateBackingStore<SourceFile> store, final int taskId) {
+        this.store = Objects.requireNonNull(store, "store can't be null");
+        this.taskId = taskId;
+        synchronized (this) {
+            // updates received while reading the snapshot are applied after it.
+            store.addUpdateListener(this);
+            store.snapshot().states().forEach(this::onStateUpdate);
+        }
+    }
+
+    /**
+     * Gets the files assigned to the task since the last call.
+     *
+     * @return the paths of the newly assigned files, ordered by last modified time.
+     */
+    public synchronized List<String> poll() {
+        return pollNewFiles();
+    }
+
+    /**
+     * Gets the files assigned to the task since the last call, waiting for new files to be assigned if necessary.
+     *
+     * @param timeoutMs the maximum time to wait in milliseconds.
+     * @return the paths of the newly assigned files, ordered by last modified time, or an empty list if no file
+     *         was assigned before the timeout expired.
+     * @throws InterruptedException if the current thread is interrupted while waiting.
+     */
+    public synchronized List<String> poll(final long timeoutMs) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + timeoutMs;
+        long remaining = timeoutMs;
+        while (!closed && remaining > 0 && !hasNewFiles()) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return pollNewFiles();
+    }
+
+    private boolean hasNewFiles() {
+        // polled files are always assigned.
+        return assigned.size() > polled.size();
+    }
+
+    private List<String> pollNewFiles() {
+        final List<SourceMetadata> files = new ArrayList<>();
+        assigned.forEach((partition, metadata) -> {
+            if (polled.add(partition)) {
+                files.add(metadata);
+            }
+        });
+        return files.stream()
+            .sorted(Comparator.comparingLong(SourceMetadata::lastModified))
+            .map(SourceMetadata::absolutePath)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onStateUpdate(final String partition, final SourceFile state) {
+        if (isAssignedTo(state, taskId)) {
+            if (assigned.put(partition, state.metadata()) == null) {
+                // wake up the task waiting for new files.
+                notifyAll();
+            }
+        } else {
+            assigned.remove(partition);
+            // the file will be polled again if it is assigned anew.
+            polled.remove(partition);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public synchronized void onStateRemove(final String partition) {
+        assigned.remove(partition);
+        polled.remove(partition);
+    }
+
+    /**
+     * Stops tracking the files assigned to the task.
+     */
+    @Override
+    public void close() {
+        store.removeUpdateListener(this);
+        synchronized (this) {
+            closed = true;
+            notifyAll();
+        }
+    }
+
+    /**
+     * Creates the properties of a state reported for a file assigned to the specified task.
+     *
+     * @param taskId    the index of the task.
+     * @return a new {@link Map} instance.
+     */
+    public static Map<String, Object> props(final int taskId) {
+        final Map<String, Object> props = new HashMap<>();
+        props.put(HOSTNAME_PROP, Network.HOSTNAME);
+        // task index is stored as string to not depend on how numbers are deserialized.
+        props.put(TASK_ID_PROP, String.valueOf(taskId));
+        return props;
+    }
+
+    /**
+     * Gets the index of the task the specified file is assigned to.
+     *
+     * @param state the file state.
+     * @return the task index or {@code null} if the file is not assigned to a task.
+     */
+    public static Integer taskIdOf(final SourceFile state) {
+        final Map<String, Object> props = state.props();
+        final Object taskId = props != null ? props.get(TASK_ID_PROP) : null;
+        if (taskId == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(taskId.toString());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Checks whether the specified file is assigned to the specified task and not yet completed.
+     *
+     * @param state     the file state.
+     * @param taskId    the index of the task.
+     * @return {@code true} if the file must be processed by the task.
+     */
+    public static boolean isAssignedTo(final SourceFile state, final int taskId) {
+        return state.status().isOneOf(SourceStatus.started()) && Objects.equals(taskIdOf(state), taskId);
+    }
+}
@@ -26,6 +26,7 @@ import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
 import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.scanner.FileSystemScanner;
 import io.streamthoughts.kafka.connect.filepulse.scanner.LocalFileSystemScanner;
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.DirectoryWatcher;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.FSDirectoryWalker;
 import io.streamthoughts.kafka.connect.filepulse.scanner.local.filter.CompositeFileListFilter;
 import io.streamthoughts.kafka.connect.filepulse.state.FileStateBackingStore;
@@ -39,6 +40,8 @@ import org.apache.kafka.connect.source.SourceConnector;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
@@ -62,6 +65,8 @@ public class FilePulseSourceConnector extends SourceConnector {
 
     private FileSystemMonitorThread fsMonitorThread;
 
+    private DirectoryWatcher directoryWatcher;
+
     private ConnectorConfig config;
 
     private FileSystemScanner scanner;
@@ -116,7 +121,9 @@ public class FilePulseSourceConnector extends SourceConnector {
                 directoryScanner,
                 cleaner,
                 new SimpleOffsetManager(strategy),
-                store);
+                store,
+                config.isDynamicAssignmentEnable(),
+                config.readerParallelism());
 
             fsMonitorThread = new FileSystemMonitorThread(context, scanner, config.scanInternalMs());
             fsMonitorThread.setUncaughtExceptionHandler((t, e) -> {
@@ -124,15 +131,40 @@ public class FilePulseSourceConnector extends SourceConnector {
                 throw new ConnectException(e);
             });
             fsMonitorThread.start();
+
+            if (config.isScanWatchEnable()) {
+                startDirectoryWatcher(fsMonitorThread);
+            }
         } catch (Exception e) {
             StateBackingStoreRegistry.instance().release(connectorGroupName);
+            closeDirectoryWatcher();
             if( fsMonitorThread != null) {
                 fsMonitorThread.shutdown(0L);
             }
+            directoryScanner.close();
             throw e;
         }
     }
 
+    private void startDirectoryWatcher(final FileSystemMonitorThread monitor) {
+        try {
+            directoryWatcher = new DirectoryWatcher(
+                Paths.get(config.scanDirectoryPath()),
+                config.scanWatchQuietPeriodMs(),
+                monitor);
+        } catch (IOException e) {
+            throw new ConnectException("Failed to watch input directory: " + config.scanDirectoryPath(), e);
+        }
+        directoryWatcher.start();
+    }
+
+    private void closeDirectoryWatcher() {
+        if (directoryWatcher != null) {
+            directoryWatcher.close();
+            directoryWatcher = null;
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -152,10 +184,14 @@ public class FilePulseSourceConnector extends SourceConnector {
         List<Map<String, String>> taskConfigs = new ArrayList<>(groupFiles.size());
         if (!groupFiles.isEmpty()) {
             final long taskConfigsGen = taskConfigsGeneration.getAndIncrement();
-            for (List<String> group : groupFiles) {
+            for (int i = 0; i < groupFiles.size(); i++) {
                 final Map<String, String> taskProps = new HashMap<>(configProperties);
                 taskProps.put(TaskConfig.INTERNAL_REPORTER_GROUP_ID, connectorGroupName);
-                taskProps.put(TaskConfig.FILE_INPUT_PATHS_CONFIG, String.join(",", group));
+                if (config.isDynamicAssignmentEnable()) {
+                    // task index is only required to identify the files assigned to each task through the store.
+                    taskProps.put(TaskConfig.INTERNAL_TASK_ID_CONFIG, String.valueOf(i));
+                }
+                taskProps.put(TaskConfig.FILE_INPUT_PATHS_CONFIG, String.join(",", groupFiles.get(i)));
                 taskConfigs.add(taskProps);
             }
             for(int i = 0; i < groupFiles.size(); i++) {
@@ -177,12 +213,14 @@ public class FilePulseSourceConnector extends SourceConnector {
     @Override
     public void stop() {
         LOG.info("Stopping connector");
+        closeDirectoryWatcher();
         fsMonitorThread.shutdown();
         try {
             StateBackingStoreRegistry.instance().release(connectorGroupName);
             fsMonitorThread.join(MAX_TIMEOUT);
         } catch (InterruptedException ignore) {
         }
+        scanner.close();
         LOG.info("Connector stopped");
     }
 
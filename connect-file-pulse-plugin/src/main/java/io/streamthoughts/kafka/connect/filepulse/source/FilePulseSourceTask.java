@@ -28,13 +28,16 @@ import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
 import io.streamthoughts.kafka.connect.filepulse.offset.OffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
 import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import org.apache.kafka.common.utils.Time;
 import org.apache.kafka.connect.source.SourceRecord;
 import org.apache.kafka.connect.source.SourceTask;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -46,11 +49,24 @@ public class FilePulseSourceTask extends SourceTask {
 
     private static final Integer NO_PARTITION = null;
 
+    // The maximum time to wait for new assignments when the task has no file left to process.
+    private static final long IDLE_ASSIGNMENTS_WAIT_MS = 1000L;
+
     public TaskConfig config;
 
     private String topic;
 
-    private DefaultFileRecordsPollingConsumer consumer;
+    private FileRecordsPollingConsumer<FileRecord<TypedStruct>> consumer;
+
+    // Used to add new files to the consumer once it is created.
+    private Consumer<List<String>> fileQueue;
+
+    // Files dynamically assigned by the connector, or null if files are only passed through the task config.
+    private FileAssignments assignments;
+
+    private long lastAssignmentsPollMs;
+
+    private long emptyPollWaitMs;
 
     private OffsetManager offsetManager;
 
@@ -58,7 +74,11 @@ public class FilePulseSourceTask extends SourceTask {
 
     private KafkaFileStateReporter reporter;
 
-    private volatile FileContext contextToBeCommitted;
+    // Context of the records returned by the last poll.
+    private FileContext lastPollContext;
+
+    // Contexts of the records returned by previous polls for the files still in progress, by file path.
+    private final Map<String, FileContext> contextsToBeCommitted = new HashMap<>();
 
     /**
      * {@inheritDoc}
@@ -78,14 +98,40 @@ public class FilePulseSourceTask extends SourceTask {
         offsetManager = new SimpleOffsetManager(config.offsetStrategy());
         store = getStateStatesBackingStore();
         topic = config.topic();
+        final boolean dynamicAssignment = config.isDynamicAssignmentEnable() && config.taskId() != null;
+        // states are only tagged with the task index when files are dynamically assigned.
+        reporter = new KafkaFileStateReporter(store, offsetManager, dynamicAssignment ? config.taskId() : null);
         consumer = newFileRecordsPollingConsumer();
-        reporter = new KafkaFileStateReporter(store, offsetManager);
-        consumer.setFileListener(reporter);
+        if (dynamicAssignment) {
+            assignments = new FileAssignments(store, config.taskId());
+        }
+    }
+
+    private FileRecordsPollingConsumer<FileRecord<TypedStruct>> newFileRecordsPollingConsumer() {
+        final int parallelism = config.readerParallelism();
+        if (parallelism > 1) {
+            // Workers already wait for incoming records, so the consumer blocks on its ready-queue instead of sleeping.
+            final ParallelFileRecordsPollingConsumer consumer = new ParallelFileRecordsPollingConsumer(
+                this::newDefaultFileRecordsPollingConsumer,
+                parallelism,
+                config.emptyPollWaitMs());
+            consumer.setFileListener(new TaskStateListener());
+            consumer.addAll(config.files());
+            fileQueue = consumer::addAll;
+            emptyPollWaitMs = 0L;
+            return consumer;
+        }
+
+        final DefaultFileRecordsPollingConsumer consumer = newDefaultFileRecordsPollingConsumer();
+        consumer.setFileListener(new TaskStateListener());
         consumer.addAll(config.files());
+        fileQueue = consumer::addAll;
+        emptyPollWaitMs = config.emptyPollWaitMs();
+        return consumer;
     }
 
     @SuppressWarnings("unchecked")
-    private DefaultFileRecordsPollingConsumer newFileRecordsPollingConsumer() {
+    private DefaultFileRecordsPollingConsumer newDefaultFileRecordsPollingConsumer() {
         final RecordFilterPipeline filter = new DefaultRecordFilterPipeline(config.filters());
         return new DefaultFileRecordsPollingConsumer(
                 context,
@@ -112,10 +158,24 @@ public class FilePulseSourceTask extends SourceTask {
      */
     @Override
     public List<SourceRecord> poll() throws InterruptedException {
-        contextToBeCommitted = consumer.context();
+        if (lastPollContext != null) {
+            // records returned by the last poll are now handed over to the framework.
+            synchronized (contextsToBeCommitted) {
+                contextsToBeCommitted.put(lastPollContext.metadata().absolutePath(), lastPollContext);
+            }
+            lastPollContext = null;
+        }
+
+        if (assignments != null) {
+            pollAssignedFiles();
+        }
 
         if (!consumer.hasNext()) {
-            contextToBeCommitted = null;
+            if (assignments != null) {
+                // Wait for the connector to assign new files, instead of waiting for a new reconfiguration.
+                addAssignedFiles(assignments.poll(IDLE_ASSIGNMENTS_WAIT_MS));
+                return null;
+            }
             LOG.info("Orphan task detected - all scheduled files are now completed - waiting for new reconfiguration.");
             synchronized (this) {
                 this.wait();
@@ -126,28 +186,48 @@ public class FilePulseSourceTask extends SourceTask {
         RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
 
         // If no records attempt to wait for incoming records.
-        if (records.isEmpty() && consumer.hasNext()) {
-            Thread.sleep(500);
+        if (records.isEmpty() && consumer.hasNext() && emptyPollWaitMs > 0) {
+            Thread.sleep(emptyPollWaitMs);
             records = consumer.next();
         }
 
         FileContext context = consumer.context();
         if (records != null && !records.isEmpty()) {
+            lastPollContext = context;
             return records.stream().map(r -> buildSourceRecord(context, r)).collect(Collectors.toList());
         }
         return null;
     }
 
+    private void pollAssignedFiles() {
+        final long now = Time.SYSTEM.milliseconds();
+        // While files are in progress, new assignments are only checked periodically.
+        if (consumer.isClose() || (consumer.hasNext() && now - lastAssignmentsPollMs < config.emptyPollWaitMs())) {
+            return;
+        }
+        lastAssignmentsPollMs = now;
+        addAssignedFiles(assignments.poll());
+    }
+
+    private void addAssignedFiles(final List<String> files) {
+        if (!files.isEmpty() && !consumer.isClose()) {
+            LOG.info("Adding '{}' new source files assigned to task", files.size());
+            fileQueue.accept(files);
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void commit() {
-        if (contextToBeCommitted != null) {
-            reporter.notify(
-                contextToBeCommitted.metadata(),
-                contextToBeCommitted.offset(),
-                SourceStatus.READING);
+        synchronized (contextsToBeCommitted) {
+            // all the files being read concurrently are reported, not only the file of the last records.
+            contextsToBeCommitted.values().forEach(context -> reporter.notify(
+                context.metadata(),
+                context.offset(),
+                SourceStatus.READING));
+            contextsToBeCommitted.clear();
         }
     }
 
@@ -155,8 +235,10 @@ public class FilePulseSourceTask extends SourceTask {
                                            final FileRecord<?> record) {
         final SourceMetadata metadata = context.metadata();
 
-        final Map<String, ?> sourcePartition = offsetManager.toPartitionMap(metadata);
-        final Map<String, ?> sourceOffsets = offsetManager.toOffsetMap(record.offset().toSourceOffset());
+        final Map<String, ?> sourcePartition = offsetManager.toPartitionMap(metadata, context.split());
+        final Map<String, ?> sourceOffsets = offsetManager.toOffsetMap(
+            record.offset().toSourceOffset(),
+            context.split());
 
         return record.toSourceRecord(
             sourcePartition,
@@ -178,10 +260,52 @@ public class FilePulseSourceTask extends SourceTask {
                 consumer.close();
                 notify();
             }
+            if (assignments != null) {
+                assignments.close();
+            }
             if (store != null) {
                 StateBackingStoreRegistry.instance().release(config.getTasksReporterGroupId());
             }
         }
         LOG.info("Task stopped.");
     }
-}
\ No newline at end of file
+
+    /**
+     * Reports the state changes of the files to the {@link KafkaFileStateReporter}. The offsets of a file are
+     * no longer committed once it is completed, so that a completed file is never reported as being read.
+     */
+    private final class TaskStateListener implements StateListener {
+
+        @Override
+        public void onScheduled(final FileContext context) {
+            reporter.onScheduled(context);
+        }
+
+        @Override
+        public void onInvalid(final FileContext context) {
+            onDone(context, () -> reporter.onInvalid(context));
+        }
+
+        @Override
+        public void onStart(final FileContext context) {
+            reporter.onStart(context);
+        }
+
+        @Override
+        public void onCompleted(final FileContext context) {
+            onDone(context, () -> reporter.onCompleted(context));
+        }
+
+        @Override
+        public void onFailure(final FileContext context, final Throwable t) {
+            onDone(context, () -> reporter.onFailure(context, t));
+        }
+
+        private void onDone(final FileContext context, final Runnable report) {
+            synchronized (contextsToBeCommitted) {
+                contextsToBeCommitted.remove(context.metadata().absolutePath());
+                report.run();
+            }
+        }
+    }
+}
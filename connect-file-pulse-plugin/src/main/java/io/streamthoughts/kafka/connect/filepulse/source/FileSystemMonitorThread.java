@@ -19,19 +19,31 @@
 package io.streamthoughts.kafka.connect.filepulse.source;
 
 import io.streamthoughts.kafka.connect.filepulse.scanner.FileSystemScanner;
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.DirectoryWatcher;
 import org.apache.kafka.common.utils.Time;
 import org.apache.kafka.connect.connector.ConnectorContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Default thread scheduling periodic scans of the targeted file-system.
+ *
+ * When the input directory is watched, the files created between two periodic scans are scheduled
+ * without scanning the whole directory.
  */
-public class FileSystemMonitorThread extends Thread {
+public class FileSystemMonitorThread extends Thread implements DirectoryWatcher.Listener {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileSystemMonitorThread.class);
 
@@ -40,8 +52,14 @@ public class FileSystemMonitorThread extends Thread {
     private final ConnectorContext context;
     private final CountDownLatch shutdownLatch;
     private final CountDownLatch waitingLatch;
+    private final Semaphore scanRequests;
     private final long scanIntervalMs;
 
+    // Files created since the last scan, as notified by the directory watcher.
+    private final Queue<File> created = new ConcurrentLinkedQueue<>();
+
+    private final AtomicBoolean fullScanRequested = new AtomicBoolean(false);
+
     private final FileSystemScanner scanner;
 
     /**
@@ -64,6 +82,7 @@ public class FileSystemMonitorThread extends Thread {
         this.scanIntervalMs = scanIntervalMs;
         this.shutdownLatch = new CountDownLatch(1);
         this.waitingLatch = new CountDownLatch(1);
+        this.scanRequests = new Semaphore(0);
     }
 
     /**
@@ -73,20 +92,33 @@ public class FileSystemMonitorThread extends Thread {
     public void run() {
         try {
             LOG.info("Starting thread monitoring filesystem.");
+            long lastFullScan = 0L;
             while (shutdownLatch.getCount() > 0) {
                 long started = Time.SYSTEM.milliseconds();
+                final boolean fullScan = fullScanRequested.getAndSet(false)
+                    || started - lastFullScan >= scanIntervalMs;
+                final List<File> files = drainCreatedFiles();
                 try {
-                    scanner.scan(context);
+                    if (fullScan) {
+                        // created files are listed by the full scan.
+                        scanner.scan(context);
+                        lastFullScan = started;
+                    } else if (!files.isEmpty()) {
+                        scanner.scan(context, files);
+                    }
                 } catch (Exception e) {
                     LOG.error("Unexpected error while scanning file system.", e);
                     context.raiseError(e);
                     throw e;
                 }
 
-                long timeout = Math.abs(scanIntervalMs - (Time.SYSTEM.milliseconds() - started));
+                long timeout = Math.abs(scanIntervalMs - (Time.SYSTEM.milliseconds() - lastFullScan));
                 LOG.info("Waiting {} ms to scan for new files.", timeout);
-                boolean shuttingDown = shutdownLatch.await(timeout, TimeUnit.MILLISECONDS);
-                if (shuttingDown) {
+                if (scanRequests.tryAcquire(timeout, TimeUnit.MILLISECONDS)) {
+                    // multiple notifications received while scanning or waiting are served by a single scan.
+                    scanRequests.drainPermits();
+                }
+                if (shutdownLatch.getCount() == 0) {
                     return;
                 }
             }
@@ -98,6 +130,37 @@ public class FileSystemMonitorThread extends Thread {
         }
     }
 
+    private List<File> drainCreatedFiles() {
+        final List<File> files = new ArrayList<>();
+        File file;
+        while ((file = created.poll()) != null) {
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Schedules the created files without waiting for the end of the current scan interval.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void onCreate(final List<Path> paths) {
+        paths.forEach(path -> created.add(path.toFile()));
+        scanRequests.release();
+    }
+
+    /**
+     * Requests a full scan to be executed without waiting for the end of the current scan interval.
+     *
+     * {@inheritDoc}
+     */
+    @Override
+    public void onOverflow() {
+        fullScanRequested.set(true);
+        scanRequests.release();
+    }
+
     void shutdown() {
         shutdown(SHUTDOWN_TIMEOUT_MS);
     }
@@ -105,6 +168,7 @@ public class FileSystemMonitorThread extends Thread {
     void shutdown(final long timeoutMs) {
         LOG.info("Shutting down thread monitoring filesystem.");
         this.shutdownLatch.countDown();
+        this.scanRequests.release();
         try {
             this.waitingLatch.await(timeoutMs, TimeUnit.MILLISECONDS);
         } catch (InterruptedException ignore) {
@@ -25,6 +25,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.Collections;
+import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -38,6 +39,8 @@ public class KafkaFileStateReporter implements StateListener {
 
     private final OffsetManager offsetManager;
 
+    private final Map<String, Object> props;
+
     /**
      * Creates a new {@link KafkaFileStateReporter} instance.
      * @param store         the store to be used.
@@ -45,10 +48,25 @@ public class KafkaFileStateReporter implements StateListener {
      */
     KafkaFileStateReporter(final StateBackingStore<SourceFile> store,
                            final OffsetManager offsetManager) {
+        this(store, offsetManager, null);
+    }
+
+    /**
+     * Creates a new {@link KafkaFileStateReporter} instance.
+     * @param store         the store to be used.
+     * @param offsetManager the offset manager.
+     * @param taskId        the index of the task reporting states, or {@code null} without dynamic assignment.
+     */
+    KafkaFileStateReporter(final StateBackingStore<SourceFile> store,
+                           final OffsetManager offsetManager,
+                           final Integer taskId) {
         Objects.requireNonNull(store, "store can't be null");
         Objects.requireNonNull(offsetManager, "offsetManager can't be null");
         this.store = store;
         this.offsetManager = offsetManager;
+        this.props = taskId != null ?
+            FileAssignments.props(taskId) :
+            Collections.singletonMap("hostname", Network.HOSTNAME);
     }
 
     /**
@@ -66,7 +84,7 @@ public class KafkaFileStateReporter implements StateListener {
             metadata,
             offset,
             status,
-            Collections.singletonMap("hostname", Network.HOSTNAME));
+            props);
         store.putAsync(partition, state);
     }
 
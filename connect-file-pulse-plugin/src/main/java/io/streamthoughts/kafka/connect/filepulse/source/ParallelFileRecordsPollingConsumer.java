@@ -0,0 +1,490 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.errors.ConnectFilePulseException;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A {@link FileRecordsPollingConsumer} which reads and filters several files concurrently.
+ *
+ * Each worker owns its own {@link DefaultFileRecordsPollingConsumer} (i.e. its own reader and filter pipeline) and
+ * consumes one file at a time from a shared queue. Filtered batches are pushed into a bounded ready-queue which is
+ * drained by the {@link #next()} method. Because a file is always consumed by a single worker, records of a same
+ * file are returned in order.
+ *
+ * When the configured reader supports it, a large file is cut into several {@link FileSplit}s which are pushed back
+ * into the shared queue so that they can be consumed by different workers. Records are then only ordered within
+ * a split, and offsets are tracked per split. The file is reported as completed once all its splits are completed.
+ * The context of the records read from a split holds that split, but its offset is the progress of the whole file:
+ * the position before which all the splits were read, and the number of rows read from all the splits.
+ *
+ * State changes notified by the workers are pushed into the ready-queue behind the batches read before them, and
+ * the {@link StateListener} is only invoked by the {@link #next()} method. Thus, a file is not reported as completed
+ * before all its records have been returned, and the listener is never invoked concurrently.
+ *
+ * This class is attended to be used only by one Source Connect Task.
+ */
+public class ParallelFileRecordsPollingConsumer implements FileRecordsPollingConsumer<FileRecord<TypedStruct>> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelFileRecordsPollingConsumer.class);
+
+    private static final long CLOSE_TIMEOUT_MS = 5000L;
+    private static final long WORK_POLL_TIMEOUT_MS = 100L;
+
+    private final Supplier<DefaultFileRecordsPollingConsumer> consumerFactory;
+    private final int parallelism;
+    private final long maxPollWaitMs;
+
+    private final BlockingQueue<WorkItem> files;
+    private final BlockingQueue<ReadyBatch> ready;
+    // The number of files or splits either waiting or being consumed by a worker.
+    private final AtomicInteger pending = new AtomicInteger(0);
+    private final AtomicReference<Exception> failure = new AtomicReference<>();
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+
+    private ExecutorService executor;
+    private StateListener listener;
+    private FileContext context;
+
+    /**
+     * Creates a new {@link ParallelFileRecordsPollingConsumer} instance.
+     *
+     * @param consumerFactory   the factory used to create a new consumer for each worker.
+     * @param parallelism       the maximum number of files to be read concurrently.
+     * @param maxPollWaitMs     the maximum time to wait in milliseconds for records when invoking {@link #next()}.
+     */
+    ParallelFileRecordsPollingConsumer(final Supplier<DefaultFileRecordsPollingConsumer> consumerFactory,
+                                       final int parallelism,
+                                       final long maxPollWaitMs) {
+        Objects.requireNonNull(consumerFactory, "consumerFactory can't be null");
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0, was " + parallelism);
+        }
+        this.consumerFactory = consumerFactory;
+        this.parallelism = parallelism;
+        this.maxPollWaitMs = maxPollWaitMs;
+        this.files = new LinkedBlockingQueue<>();
+        this.ready = new ArrayBlockingQueue<>(2 * parallelism);
+    }
+
+    void addAll(final List<String> files) {
+        if (isClose()) {
+            throw new IllegalStateException("Can't add new input files, consumer is closed");
+        }
+        pending.addAndGet(files.size());
+        final StateListener fileListener = listener != null ? new QueuedStateListener(listener) : null;
+        files.forEach(file -> this.files.add(new WorkItem(file, null, fileListener, null)));
+        startWorkersIfNeeded();
+    }
+
+    private synchronized void startWorkersIfNeeded() {
+        if (executor == null) {
+            executor = newExecutor();
+            for (int i = 0; i < parallelism; i++) {
+                executor.execute(this::runWorker);
+            }
+        }
+    }
+
+    private void runWorker() {
+        final DefaultFileRecordsPollingConsumer consumer = consumerFactory.get();
+        try {
+            while (!isClose()) {
+                // Workers are kept alive until close so that splits and newly added files can be consumed.
+                final WorkItem item = files.poll(WORK_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (item == null) {
+                    continue;
+                }
+                try {
+                    if (item.split == null && mayAddSplits(consumer, item.file)) {
+                        continue;
+                    }
+                    consumer.setFileListener(item.listener);
+                    if (item.split == null) {
+                        consumer.addAll(Collections.singletonList(item.file));
+                    } else {
+                        consumer.add(item.file, item.split);
+                    }
+                    while (!isClose() && consumer.hasNext()) {
+                        final RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
+                        if (!records.isEmpty()) {
+                            ready.put(ReadyBatch.of(consumer.context(), records, item.splits));
+                        } else if (maxPollWaitMs > 0) {
+                            Thread.sleep(maxPollWaitMs);
+                        }
+                    }
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            LOG.error("Unexpected error while consuming files - stopping worker", e);
+            failure.compareAndSet(null, e);
+        } finally {
+            consumer.close();
+        }
+    }
+
+    /**
+     * Cuts the specified file into splits and pushes them into the shared queue.
+     *
+     * @return {@code true} if the file was split, {@code false} if it should be read as a whole.
+     */
+    private boolean mayAddSplits(final DefaultFileRecordsPollingConsumer consumer, final String file) {
+        final List<FileSplit> splits;
+        try {
+            splits = consumer.splits(file);
+        } catch (Exception e) {
+            LOG.warn("Failed to compute splits for file {} - file will be read as a whole", file, e);
+            return false;
+        }
+        if (splits.size() <= 1) {
+            return false;
+        }
+        LOG.info("Reading file {} using {} splits", file, splits.size());
+        final SplitsStateListener splitsListener = new SplitsStateListener(listener, splits);
+        final StateListener queuedListener = new QueuedStateListener(splitsListener);
+        // Pending splits must be counted before the file itself is released by the caller.
+        pending.addAndGet(splits.size());
+        splits.forEach(split -> files.add(new WorkItem(file, split, queuedListener, splitsListener)));
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public FileContext context() {
+        return context;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public RecordsIterable<FileRecord<TypedStruct>> next() {
+        final Exception exception = failure.get();
+        if (exception != null) {
+            throw exception instanceof ConnectFilePulseException ?
+                (ConnectFilePulseException) exception :
+                new ConnectFilePulseException(exception);
+        }
+
+        final long deadline = System.currentTimeMillis() + maxPollWaitMs;
+        while (true) {
+            final ReadyBatch batch;
+            try {
+                batch = ready.poll(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return RecordsIterable.empty();
+            }
+
+            if (batch == null) {
+                return RecordsIterable.empty();
+            }
+            if (batch.event != null) {
+                // all the batches read before the state change have already been returned.
+                batch.event.run();
+                continue;
+            }
+            context = batch.splits != null ? batch.splits.onRead(batch.context) : batch.context;
+            return batch.records;
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean hasNext() {
+        // The pending count must be checked first as workers decrement it only after the last batch is queued.
+        return pending.get() > 0 || !ready.isEmpty();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void close() {
+        if (closed.compareAndSet(false, true)) {
+            synchronized (this) {
+                if (executor != null) {
+                    executor.shutdownNow();
+                    try {
+                        if (!executor.awaitTermination(CLOSE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                            LOG.warn("Timeout while waiting for all workers to be stopped");
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+            files.clear();
+            ready.clear();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public boolean isClose() {
+        return closed.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void setFileListener(final StateListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Creates a new executor using virtual threads if available (Java 21+), or a fixed pool of daemon threads.
+     */
+    private ExecutorService newExecutor() {
+        try {
+            final Object executor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+            LOG.info("Starting {} file reader workers using virtual threads", parallelism);
+            return (ExecutorService) executor;
+        } catch (ReflectiveOperationException e) {
+            LOG.info("Starting {} file reader workers", parallelism);
+            final AtomicInteger threadId = new AtomicInteger(0);
+            final ThreadFactory factory = runnable -> {
+                final Thread thread = new Thread(runnable, "file-pulse-reader-" + threadId.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            };
+            return Executors.newFixedThreadPool(parallelism, factory);
+        }
+    }
+
+    private static final class WorkItem {
+
+        private final String file;
+        private final FileSplit split;
+        private final StateListener listener;
+        private final SplitsStateListener splits;
+
+        WorkItem(final String file,
+                 final FileSplit split,
+                 final StateListener listener,
+                 final SplitsStateListener splits) {
+            this.file = file;
+            this.split = split;
+            this.listener = listener;
+            this.splits = splits;
+        }
+    }
+
+    /**
+     * A {@link StateListener} which reports the states of all the splits of a file as the states of the file itself.
+     * It tracks the progress of each split and is only invoked by the {@link #next()} method.
+     */
+    private static final class SplitsStateListener implements StateListener {
+
+        private final StateListener delegate;
+        private final List<FileSplit> splits;
+        private final long[] positions;
+        private final long[] rows;
+        private int remaining;
+        private boolean scheduled = false;
+        private boolean started = false;
+        private boolean failed = false;
+
+        SplitsStateListener(final StateListener delegate, final List<FileSplit> splits) {
+            this.delegate = delegate;
+            this.splits = splits;
+            this.positions = splits.stream().mapToLong(FileSplit::startPosition).toArray();
+            this.rows = new long[splits.size()];
+            this.remaining = splits.size();
+        }
+
+        /**
+         * Updates the progress of the split of the specified context.
+         *
+         * @param context   the context of the split.
+         * @return  a new context holding the split and the progress of the whole file.
+         */
+        FileContext onRead(final FileContext context) {
+            return new FileContext(context.metadata(), update(context), context.split());
+        }
+
+        private SourceOffset update(final FileContext context) {
+            final int index = splits.indexOf(context.split());
+            positions[index] = Math.max(positions[index], context.offset().position());
+            rows[index] = Math.max(rows[index], context.offset().rows());
+            long position = positions[positions.length - 1];
+            for (int i = 0; i < positions.length - 1; i++) {
+                if (!splits.get(i).isAfterEnd(positions[i])) {
+                    position = positions[i];
+                    break;
+                }
+            }
+            return new SourceOffset(position, Arrays.stream(rows).sum(), context.offset().timestamp());
+        }
+
+        @Override
+        public void onScheduled(final FileContext context) {
+            if (delegate != null && !scheduled) {
+                scheduled = true;
+                delegate.onScheduled(new FileContext(context.metadata()));
+            }
+        }
+
+        @Override
+        public void onInvalid(final FileContext context) {
+            if (delegate != null && !failed) {
+                failed = true;
+                delegate.onInvalid(new FileContext(context.metadata()));
+            }
+        }
+
+        @Override
+        public void onStart(final FileContext context) {
+            if (delegate != null && !started) {
+                started = true;
+                delegate.onStart(new FileContext(context.metadata()));
+            }
+        }
+
+        @Override
+        public void onCompleted(final FileContext context) {
+            final SourceOffset progress = update(context);
+            if (--remaining == 0 && delegate != null && !failed) {
+                final SourceOffset offset = new SourceOffset(
+                    context.metadata().size(),
+                    progress.rows(),
+                    progress.timestamp());
+                delegate.onCompleted(new FileContext(context.metadata(), offset));
+            }
+        }
+
+        @Override
+        public void onFailure(final FileContext context, final Throwable t) {
+            final SourceOffset progress = update(context);
+            if (delegate != null && !failed) {
+                failed = true;
+                delegate.onFailure(new FileContext(context.metadata(), progress), t);
+            }
+        }
+    }
+
+    /**
+     * A {@link StateListener} which pushes the state changes into the ready-queue, to be reported from the
+     * {@link #next()} method.
+     */
+    private final class QueuedStateListener implements StateListener {
+
+        private final StateListener delegate;
+
+        QueuedStateListener(final StateListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onScheduled(final FileContext context) {
+            enqueue(() -> delegate.onScheduled(context));
+        }
+
+        @Override
+        public void onInvalid(final FileContext context) {
+            enqueue(() -> delegate.onInvalid(context));
+        }
+
+        @Override
+        public void onStart(final FileContext context) {
+            enqueue(() -> delegate.onStart(context));
+        }
+
+        @Override
+        public void onCompleted(final FileContext context) {
+            enqueue(() -> delegate.onCompleted(context));
+        }
+
+        @Override
+        public void onFailure(final FileContext context, final Throwable t) {
+            enqueue(() -> delegate.onFailure(context, t));
+        }
+
+        private void enqueue(final Runnable event) {
+            try {
+                ready.put(ReadyBatch.of(event));
+            } catch (InterruptedException e) {
+                // the consumer is closing, the state will be reported again when the file is resumed.
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static final class ReadyBatch {
+
+        private final FileContext context;
+        private final RecordsIterable<FileRecord<TypedStruct>> records;
+        // A state change to report, or null if this is a batch of records.
+        private final Runnable event;
+
+        // The splits of the file if the records were read from a split, or null.
+        private final SplitsStateListener splits;
+
+        static ReadyBatch of(final FileContext context,
+                             final RecordsIterable<FileRecord<TypedStruct>> records,
+                             final SplitsStateListener splits) {
+            return new ReadyBatch(context, records, null, splits);
+        }
+
+        static ReadyBatch of(final Runnable event) {
+            return new ReadyBatch(null, null, event, null);
+        }
+
+        private ReadyBatch(final FileContext context,
+                           final RecordsIterable<FileRecord<TypedStruct>> records,
+                           final Runnable event,
+                           final SplitsStateListener splits) {
+            this.context = context;
+            this.records = records;
+            this.event = event;
+            this.splits = splits;
+        }
+    }
+}
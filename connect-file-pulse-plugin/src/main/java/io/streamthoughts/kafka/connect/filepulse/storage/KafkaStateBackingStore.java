@@ -19,8 +19,11 @@
 package io.streamthoughts.kafka.connect.filepulse.storage;
 
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -43,11 +46,12 @@ public class KafkaStateBackingStore<T> implements StateBackingStore<T> {
     private final String groupId;
 
     private final AtomicLong offset = new AtomicLong(-1);
-    private final Map<String, T> states = new HashMap<>();
+    private final Map<String, T> states = new ConcurrentHashMap<>();
     private final StateSerde<T> serde;
     private final String keyPrefix;
     private States status = States.CREATED;
     private StateBackingStore.UpdateListener<T> updateListener;
+    private final List<StateBackingStore.UpdateListener<T>> updateListeners = new CopyOnWriteArrayList<>();
 
     /**
      * Creates a new {@link KafkaStateBackingStore} instance.
@@ -123,6 +127,7 @@ public class KafkaStateBackingStore<T> implements StateBackingStore<T> {
     @Override
     public StateSnapshot<T> snapshot() {
         synchronized (lock) {
+            // states can be iterated while being concurrently updated by the log consumer.
             return new StateSnapshot<>(offset.get(), Collections.unmodifiableMap(states));
         }
     }
@@ -219,6 +224,34 @@ public class KafkaStateBackingStore<T> implements StateBackingStore<T> {
         this.updateListener = listener;
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void addUpdateListener(final StateBackingStore.UpdateListener<T> listener) {
+        Objects.requireNonNull(listener, "listener can't be null");
+        this.updateListeners.add(listener);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void removeUpdateListener(final StateBackingStore.UpdateListener<T> listener) {
+        this.updateListeners.remove(listener);
+    }
+
+    private void notifyListener(final StateBackingStore.UpdateListener<T> listener,
+                                final String stateName,
+                                final T newState,
+                                final boolean removed) {
+        if (removed) {
+            listener.onStateRemove(stateName);
+        } else {
+            listener.onStateUpdate(stateName, newState);
+        }
+    }
+
     private String getBackingStoreName() {
         return this.getClass().getSimpleName();
     }
@@ -277,11 +310,12 @@ public class KafkaStateBackingStore<T> implements StateBackingStore<T> {
                         }
                     }
 
-                    if (getState() == States.STARTED && updateListener != null) {
-                        if (removed) {
-                            updateListener.onStateRemove(stateName);
-                        } else {
-                            updateListener.onStateUpdate(stateName, newState);
+                    if (getState() == States.STARTED) {
+                        if (updateListener != null) {
+                            notifyListener(updateListener, stateName, newState, removed);
+                        }
+                        for (StateBackingStore.UpdateListener<T> listener : updateListeners) {
+                            notifyListener(listener, stateName, newState, removed);
                         }
                     }
                 } else {
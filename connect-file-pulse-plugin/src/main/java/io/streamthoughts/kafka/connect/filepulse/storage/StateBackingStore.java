@@ -102,6 +102,21 @@ public interface StateBackingStore<T> {
      */
     void setUpdateListener(final UpdateListener<T> listener);
 
+    /**
+     * Add an update listener to instance notifications when there are state changes,
+     * in addition to the listener set through {@link #setUpdateListener(UpdateListener)}.
+     *
+     * @param listener non-null listener
+     */
+    void addUpdateListener(final UpdateListener<T> listener);
+
+    /**
+     * Remove an update listener previously added through {@link #addUpdateListener(UpdateListener)}.
+     *
+     * @param listener the listener to remove.
+     */
+    void removeUpdateListener(final UpdateListener<T> listener);
+
     interface UpdateListener<T> {
 
         /**
@@ -44,6 +44,7 @@ import java.util.HashMap;
 import java.util.Map;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 public class AvroFileInputReaderTest {
@@ -185,12 +186,38 @@ public class AvroFileInputReaderTest {
         assertTrue(iterator.hasNext());
         int records = 0;
         while (iterator.hasNext()) {
-            iterator.next();
-            records++;
+            records += iterator.next().size();
         }
         assertEquals(3, records);
     }
 
+    @Test
+    public void shouldReadOneAvroBlockPerIteration() {
+        writeGenericRecordBlocks(
+            DEFAULT_TEST_SCHEMA,
+            new GenericRecord[]{DEFAULT_GENERIC_RECORD},
+            new GenericRecord[]{DEFAULT_GENERIC_RECORD, DEFAULT_GENERIC_RECORD});
+
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+
+        assertTrue(iterator.hasNext());
+        RecordsIterable<FileRecord<TypedStruct>> first = iterator.next();
+        assertEquals(1, first.size());
+
+        assertTrue(iterator.hasNext());
+        RecordsIterable<FileRecord<TypedStruct>> second = iterator.next();
+        assertEquals(2, second.size());
+
+        final AvroRecordOffset offset = (AvroRecordOffset) second.last().offset();
+        assertEquals(2, offset.records());
+        assertTrue(offset.blockStart() > ((AvroRecordOffset) first.last().offset()).blockStart());
+
+        // records must not share state with re-used avro records.
+        assertEquals("bar", second.last().value().getString("firstName"));
+        assertEquals(42, second.collect().get(0).value().getInt("age").intValue());
+        assertFalse(iterator.hasNext());
+    }
+
     @Test
     public void shouldSeekToGivenAValidPosition() {
 
@@ -204,7 +231,7 @@ public class AvroFileInputReaderTest {
         assertTrue(iterator.hasNext());
 
         RecordsIterable<FileRecord<TypedStruct>> next = iterator.next();
-        final FileRecordOffset offset = next.last().offset();
+        final FileRecordOffset offset = next.collect().get(0).offset();
 
         // Close the first iterator.
         iterator.close();
@@ -217,20 +244,28 @@ public class AvroFileInputReaderTest {
         assertTrue(iterator.hasNext());
         int records = 0;
         while (iterator.hasNext()) {
-            iterator.next();
-            records++;
-
+            records += iterator.next().size();
         }
         assertEquals(2, records);
     }
 
     public void writeGenericRecords(final Schema schema, final GenericRecord...records) {
+        writeGenericRecordBlocks(schema, records);
+    }
+
+    /**
+     * Writes each array of records into a distinct Avro block.
+     */
+    public void writeGenericRecordBlocks(final Schema schema, final GenericRecord[]...blocks) {
         DatumWriter<GenericRecord> datumWriter = new GenericDatumWriter<>(schema);
         try {
             DataFileWriter <GenericRecord> dataFileWriter = new DataFileWriter<>(datumWriter);
             dataFileWriter.create(schema, file);
-            for (GenericRecord record : records) {
-                dataFileWriter.append(record);
+            for (GenericRecord[] block : blocks) {
+                for (GenericRecord record : block) {
+                    dataFileWriter.append(record);
+                }
+                dataFileWriter.sync();
             }
             dataFileWriter.close();
         } catch (IOException e) {
@@ -24,7 +24,9 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedValue;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
+import org.apache.kafka.common.config.ConfigException;
 import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
@@ -37,7 +39,10 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
 
 public class BytesArrayInputReaderTest {
 
@@ -80,4 +85,111 @@ public class BytesArrayInputReaderTest {
         Assert.assertTrue( Arrays.equals(TEST_VALUE.getBytes(), typedValue.getBytes()));
         Assert.assertFalse(iterator.hasNext());
     }
+
+    @Test
+    public void shouldReadFixedSizeChunksGivenChunkSize() {
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_BYTES_SIZE_CONFIG, "10");
+            put(BytesArrayInputReaderConfig.READER_BUFFER_BYTES_SIZE_CONFIG, "16");
+        }});
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(4, records.size());
+        Assert.assertEquals("test value", chunk(records.get(0)));
+        Assert.assertEquals("s\ntest val", chunk(records.get(1)));
+        Assert.assertEquals("ues\ntest v", chunk(records.get(2)));
+        Assert.assertEquals("alues", chunk(records.get(3)));
+        assertOffset(30, 35, records.get(3));
+    }
+
+    @Test
+    public void shouldReadDelimitedChunksGivenHexDelimiter() {
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_DELIMITER_CONFIG, "0A");
+        }});
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(3, records.size());
+        for (FileRecord<TypedStruct> record : records) {
+            Assert.assertEquals("test values", chunk(record));
+        }
+        assertOffset(12, 24, records.get(1));
+        assertOffset(24, 35, records.get(2));
+    }
+
+    @Test
+    public void shouldReadRemainingChunksGivenCommittedOffset() {
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_DELIMITER_CONFIG, "0a");
+        }});
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        iterator.seekTo(new SourceOffset(12, -1, 0));
+
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(2, records.size());
+        assertOffset(12, 24, records.get(0));
+    }
+
+    @Test
+    public void shouldFindDelimiterGivenDelimiterCutByMaxChunkSize() throws IOException {
+        Files.write(file.toPath(), "abcd\r\nefgh\r\nij".getBytes());
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_DELIMITER_CONFIG, "0d0a");
+            put(BytesArrayInputReaderConfig.READER_CHUNK_BYTES_SIZE_CONFIG, "5");
+            put(BytesArrayInputReaderConfig.READER_BUFFER_BYTES_SIZE_CONFIG, "3");
+        }});
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals("abcd", chunk(records.get(0)));
+        Assert.assertEquals("efgh", chunk(records.get(1)));
+        Assert.assertEquals("ij", chunk(records.get(2)));
+        assertOffset(0, 6, records.get(0));
+        assertOffset(6, 12, records.get(1));
+    }
+
+    @Test
+    public void shouldSplitRecordsGivenDelimiterAndNoChunkSize() throws IOException {
+        final byte[] bytes = new byte[BytesArrayInputReaderConfig.DELIMITED_CHUNK_MAX_BYTES_SIZE + 10];
+        Arrays.fill(bytes, (byte) 'a');
+        Files.write(file.toPath(), bytes);
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_DELIMITER_CONFIG, "0a");
+        }});
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(2, records.size());
+        assertOffset(0, BytesArrayInputReaderConfig.DELIMITED_CHUNK_MAX_BYTES_SIZE, records.get(0));
+    }
+
+    @Test(expected = ConfigException.class)
+    public void shouldFailGivenInvalidHexDelimiter() {
+        reader.configure(new HashMap<String, String>(){{
+            put(BytesArrayInputReaderConfig.READER_CHUNK_DELIMITER_CONFIG, "0G");
+        }});
+    }
+
+    private static void assertOffset(final long start, final long end, final FileRecord<TypedStruct> record) {
+        final BytesRecordOffset offset = (BytesRecordOffset) record.offset();
+        Assert.assertEquals(start, offset.startPosition());
+        Assert.assertEquals(end, offset.endPosition());
+    }
+
+    private static String chunk(final FileRecord<TypedStruct> record) {
+        return new String(record.value().get(TypedFileRecord.DEFAULT_MESSAGE_FIELD).getBytes());
+    }
 }
\ No newline at end of file
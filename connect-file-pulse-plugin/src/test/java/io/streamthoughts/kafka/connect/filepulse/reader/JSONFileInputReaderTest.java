@@ -0,0 +1,127 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+public class JSONFileInputReaderTest {
+
+    private static final String NDJSON = "{\"id\":1,\"name\":\"foo\"}\n{\"id\":2,\"name\":\"bar\"}\n{\"id\":3,\"name\":\"baz\"}\n";
+
+    private static final String JSON_ARRAY = "[\n  {\"id\":1,\"name\":\"foo\"},\n  {\"id\":2,\"name\":\"bar\"},\n  {\"id\":3,\"name\":\"baz\"}\n]";
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private JSONFileInputReader reader;
+
+    @Before
+    public void setUp() {
+        reader = new JSONFileInputReader();
+        reader.configure(new HashMap<String, String>(){{
+            // use a small buffer to force objects to be read across several reads.
+            put(JSONFileInputReaderConfig.BUFFER_INIT_BYTES_SIZE_CONFIG, "8");
+        }});
+    }
+
+    @After
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Test
+    public void shouldReadAllObjectsGivenNewlineDelimitedJSON() throws IOException {
+        final List<FileRecord<TypedStruct>> records = readAll(reader.newIterator(newContext(NDJSON)));
+        assertRecords(records);
+    }
+
+    @Test
+    public void shouldReadAllObjectsGivenTopLevelArray() throws IOException {
+        final List<FileRecord<TypedStruct>> records = readAll(reader.newIterator(newContext(JSON_ARRAY)));
+        assertRecords(records);
+    }
+
+    @Test
+    public void shouldTrackBytePositionOfEachObject() throws IOException {
+        final List<FileRecord<TypedStruct>> records = readAll(reader.newIterator(newContext(NDJSON)));
+
+        final RowFileRecordOffset offset = (RowFileRecordOffset) records.get(1).offset();
+        Assert.assertEquals(23, offset.startPosition());
+        Assert.assertEquals(45, offset.endPosition());
+        Assert.assertEquals(2, offset.rows());
+    }
+
+    @Test
+    public void shouldReadRemainingObjectsGivenCommittedOffset() throws IOException {
+        final FileContext context = newContext(JSON_ARRAY);
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        final FileRecord<TypedStruct> first = iterator.next().collect().get(0);
+        iterator.close();
+
+        iterator = reader.newIterator(context);
+        iterator.seekTo(first.offset().toSourceOffset());
+        final List<FileRecord<TypedStruct>> records = readAll(iterator);
+
+        Assert.assertEquals(2, records.size());
+        Assert.assertEquals("bar", records.get(0).value().getString("name"));
+        Assert.assertEquals(3, ((RowFileRecordOffset) records.get(1).offset()).rows());
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldFailGivenTruncatedObject() throws IOException {
+        readAll(reader.newIterator(newContext("{\"id\":1}\n{\"id\":")));
+    }
+
+    private static void assertRecords(final List<FileRecord<TypedStruct>> records) {
+        Assert.assertEquals(3, records.size());
+        Assert.assertEquals(1, records.get(0).value().getInt("id").intValue());
+        Assert.assertEquals("foo", records.get(0).value().getString("name"));
+        Assert.assertEquals("bar", records.get(1).value().getString("name"));
+        Assert.assertEquals("baz", records.get(2).value().getString("name"));
+    }
+
+    private FileContext newContext(final String content) throws IOException {
+        final File file = testFolder.newFile();
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return new FileContext(SourceMetadata.fromFile(file));
+    }
+
+    private static List<FileRecord<TypedStruct>> readAll(final FileInputIterator<FileRecord<TypedStruct>> iterator) {
+        final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+        return records;
+    }
+}
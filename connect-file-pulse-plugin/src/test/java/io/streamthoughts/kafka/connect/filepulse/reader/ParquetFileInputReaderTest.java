@@ -0,0 +1,184 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroupFactory;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+public class ParquetFileInputReaderTest {
+
+    private static final MessageType DEFAULT_TEST_SCHEMA = MessageTypeParser.parseMessageType(
+        "message test { "
+            + "required binary name (UTF8); "
+            + "required int32 age; "
+            + "optional group address { required binary city (UTF8); } "
+            + "repeated int64 scores; "
+            + "}");
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+    private FileContext context;
+
+    private ParquetFileInputReader reader;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+        writeGroups(
+            newGroup("foo", 42, "Paris", 1L, 2L),
+            newGroup("bar", 43, null),
+            newGroup("baz", 44, "Lyon", 3L));
+        context = new FileContext(SourceMetadata.fromFile(file));
+        reader = new ParquetFileInputReader();
+    }
+
+    @After
+    public void tearDown() {
+        reader.close();
+    }
+
+    @Test
+    public void shouldReadAllRowsAndColumns() {
+        reader.configure(Collections.emptyMap());
+
+        final List<FileRecord<TypedStruct>> records = readAll(reader.newIterator(context));
+
+        assertEquals(3, records.size());
+        final TypedStruct first = records.get(0).value();
+        assertEquals("foo", first.getString("name"));
+        assertEquals(42, first.getInt("age").intValue());
+        assertEquals("Paris", first.getStruct("address").getString("city"));
+        assertEquals(Arrays.asList(1L, 2L), first.getArray("scores"));
+
+        final TypedStruct second = records.get(1).value();
+        assertNull(second.getStruct("address"));
+        assertEquals(Collections.emptyList(), second.getArray("scores"));
+    }
+
+    @Test
+    public void shouldReadOnlyProjectedColumns() {
+        reader.configure(new HashMap<String, String>(){{
+            put(ParquetFileInputReaderConfig.READER_COLUMNS_CONFIG, "age,name");
+        }});
+
+        final List<FileRecord<TypedStruct>> records = readAll(reader.newIterator(context));
+
+        assertEquals(3, records.size());
+        final TypedStruct struct = records.get(2).value();
+        assertEquals(44, struct.getInt("age").intValue());
+        assertEquals("baz", struct.getString("name"));
+        assertFalse(struct.has("address"));
+        assertFalse(struct.has("scores"));
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldFailGivenUnknownProjectedColumn() {
+        ParquetFileInputReader.project(DEFAULT_TEST_SCHEMA, Collections.singletonList("unknown"));
+    }
+
+    @Test
+    public void shouldReturnAtMostMaxRecordsPerIteration() {
+        reader.configure(new HashMap<String, String>(){{
+            put(ParquetFileInputReaderConfig.READER_MAX_RECORDS_CONFIG, "2");
+        }});
+
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        assertEquals(2, iterator.next().size());
+        assertEquals(1, iterator.next().size());
+        assertFalse(iterator.hasNext());
+    }
+
+    @Test
+    public void shouldSeekToGivenAValidPosition() {
+        reader.configure(Collections.emptyMap());
+
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        final SourceOffset offset = iterator.next().collect().get(0).offset().toSourceOffset();
+        iterator.close();
+
+        iterator = reader.newIterator(context);
+        iterator.seekTo(offset);
+
+        final List<FileRecord<TypedStruct>> records = readAll(iterator);
+        assertEquals(2, records.size());
+        assertEquals("bar", records.get(0).value().getString("name"));
+        assertEquals(3L, ((ParquetRecordOffset) records.get(1).offset()).rows());
+    }
+
+    private static List<FileRecord<TypedStruct>> readAll(final FileInputIterator<FileRecord<TypedStruct>> iterator) {
+        final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+        return records;
+    }
+
+    private static Group newGroup(final String name, final int age, final String city, final long... scores) {
+        final Group group = new SimpleGroupFactory(DEFAULT_TEST_SCHEMA).newGroup()
+            .append("name", name)
+            .append("age", age);
+        if (city != null) {
+            group.addGroup("address").append("city", city);
+        }
+        for (long score : scores) {
+            group.append("scores", score);
+        }
+        return group;
+    }
+
+    private void writeGroups(final Group... groups) throws IOException {
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new Path(file.toURI()))
+                .withType(DEFAULT_TEST_SCHEMA)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .build()) {
+            for (Group group : groups) {
+                writer.write(group);
+            }
+        }
+    }
+}
@@ -23,6 +23,7 @@ import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
+import io.streamthoughts.kafka.connect.filepulse.source.TypedFileRecord;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -34,6 +35,8 @@ import java.io.File;
 import java.io.IOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.Assert.*;
 
@@ -85,6 +88,31 @@ public class RowFileInputIteratorTest {
         assertEquals(NLINES, context.offset().rows());
     }
 
+    @Test
+    public void shouldResumeAfterLastCommittedLineGivenRecordOffset() {
+        final List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        while (iterator.hasNext()) {
+            iterator.next().forEach(records::add);
+        }
+        assertEquals(NLINES, records.size());
+
+        final SourceOffset committed = records.get(4).offset().toSourceOffset();
+        assertEquals(5, committed.rows());
+
+        final RowFileInputIterator resumed = RowFileInputIterator.newBuilder()
+                .withContext(new FileContext(SourceMetadata.fromFile(file)))
+                .withIteratorManager(new IteratorManager())
+                .build();
+        try {
+            resumed.seekTo(committed);
+            assertTrue(resumed.hasNext());
+            final FileRecord<TypedStruct> next = resumed.next().iterator().next();
+            assertEquals("00000000-5", next.value().getString(TypedFileRecord.DEFAULT_MESSAGE_FIELD));
+        } finally {
+            resumed.close();
+        }
+    }
+
     private void generateLines(final BufferedWriter writer) throws IOException {
 
         for (int i = 0; i < NLINES; i++) {
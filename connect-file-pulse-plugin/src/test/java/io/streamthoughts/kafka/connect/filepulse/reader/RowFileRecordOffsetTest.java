@@ -0,0 +1,48 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader;
+
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class RowFileRecordOffsetTest {
+
+    @Test
+    public void shouldKeepPositionsGivenOffsetCopies() {
+        final RowFileRecordOffset offset = RowFileRecordOffset.with(10, 20).withRowNumber(3);
+
+        Assert.assertEquals(10, offset.startPosition());
+        Assert.assertEquals(20, offset.endPosition());
+        Assert.assertEquals(3, offset.rows());
+
+        final RowFileRecordOffset sized = offset.withSize(9);
+        Assert.assertEquals(10, sized.startPosition());
+        Assert.assertEquals(20, sized.endPosition());
+        Assert.assertEquals(offset.timestamp(), sized.timestamp());
+    }
+
+    @Test
+    public void shouldCommitEndPositionOfRecordGivenSourceOffset() {
+        final SourceOffset committed = RowFileRecordOffset.with(10, 20).withRowNumber(3).toSourceOffset();
+
+        Assert.assertEquals(20, committed.position());
+        Assert.assertEquals(3, committed.rows());
+    }
+}
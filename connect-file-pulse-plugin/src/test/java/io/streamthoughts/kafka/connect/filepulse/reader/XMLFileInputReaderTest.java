@@ -22,6 +22,7 @@ import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
 import io.streamthoughts.kafka.connect.filepulse.source.FileContext;
 import io.streamthoughts.kafka.connect.filepulse.source.FileRecord;
 import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -100,6 +101,43 @@ public class XMLFileInputReaderTest {
         assertTopicPartitionObject(brokers.get(2), "103", "2");
     }
 
+    @Test
+    public void shouldReadAllRecordsGivenStreamingEnabled() {
+        reader.configure(new HashMap<String, String>(){{
+            put(XMLFileInputReaderConfig.XPATH_QUERY_CONFIG, "//broker");
+            put(XMLFileInputReaderConfig.XPATH_STREAMING_ENABLED_CONFIG, "true");
+        }});
+
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(3, records.size());
+
+        assertTopicPartitionObject(records.get(0).value(), "101", "0");
+        assertTopicPartitionObject(records.get(1).value(), "102", "1");
+        assertTopicPartitionObject(records.get(2).value(), "103", "2");
+    }
+
+    @Test
+    public void shouldReadRemainingRecordsGivenCommittedOffsetAndStreamingEnabled() {
+        reader.configure(new HashMap<String, String>(){{
+            put(XMLFileInputReaderConfig.XPATH_QUERY_CONFIG, "/cluster/broker");
+            put(XMLFileInputReaderConfig.XPATH_STREAMING_ENABLED_CONFIG, "true");
+        }});
+
+        FileInputIterator<FileRecord<TypedStruct>> iterator = reader.newIterator(context);
+        iterator.seekTo(new SourceOffset(1, 1, 0));
+        List<FileRecord<TypedStruct>> records = new ArrayList<>();
+        iterator.forEachRemaining(r -> records.addAll(r.collect()));
+
+        Assert.assertEquals(2, records.size());
+
+        assertTopicPartitionObject(records.get(0).value(), "102", "1");
+        assertTopicPartitionObject(records.get(1).value(), "103", "2");
+        Assert.assertEquals(3L, records.get(1).offset().toSourceOffset().position());
+    }
+
     private void assertTopicPartitionObject(final TypedStruct struct,
                                             final String expectedId,
                                             final String expectedNum) {
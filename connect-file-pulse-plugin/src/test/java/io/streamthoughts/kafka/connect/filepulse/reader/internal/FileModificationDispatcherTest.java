@@ -0,0 +1,87 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+public class FileModificationDispatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final FileModificationDispatcher dispatcher = new FileModificationDispatcher();
+
+    @Test
+    public void shouldNotifyListenersOfModifiedFileOnly() throws Exception {
+        final File file1 = testFolder.newFile();
+        final File file2 = testFolder.newFile();
+        final Semaphore modified1 = new Semaphore(0);
+        final Semaphore modified2 = new Semaphore(0);
+        dispatcher.register(file1.toPath(), modified1::release);
+        dispatcher.register(file2.toPath(), modified2::release);
+
+        append(file1);
+        Assert.assertTrue(modified1.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        Assert.assertEquals(0, modified2.availablePermits());
+    }
+
+    @Test
+    public void shouldKeepNotifyingListenersGivenAnotherListenerUnregisteredOnSameDirectory() throws Exception {
+        final File file1 = testFolder.newFile();
+        final File file2 = testFolder.newFile();
+        final Semaphore modified = new Semaphore(0);
+        final Runnable unregistered = () -> { };
+        dispatcher.register(file1.toPath(), unregistered);
+        dispatcher.register(file2.toPath(), modified::release);
+        dispatcher.unregister(file1.toPath(), unregistered);
+
+        append(file2);
+        Assert.assertTrue(modified.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void shouldWatchAgainGivenAllListenersUnregistered() throws Exception {
+        final File file = testFolder.newFile();
+        final Semaphore modified = new Semaphore(0);
+        final Runnable listener = modified::release;
+        dispatcher.register(file.toPath(), listener);
+        dispatcher.unregister(file.toPath(), listener);
+
+        dispatcher.register(file.toPath(), listener);
+        append(file);
+        Assert.assertTrue(modified.tryAcquire(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
+    private static void append(final File file) throws IOException {
+        Files.write(file.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+
+public class FileModificationWatcherTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+    }
+
+    @Test
+    public void shouldReturnFalseGivenNoModificationBeforeTimeout() throws Exception {
+        try (FileModificationWatcher watcher = new FileModificationWatcher(file, 10, 50)) {
+            Assert.assertFalse(watcher.await(() -> file.length() > 0, 200));
+        }
+    }
+
+    @Test
+    public void shouldReturnTrueGivenFileModifiedBeforeTimeout() throws Exception {
+        final Thread writer = new Thread(() -> {
+            try {
+                Thread.sleep(100);
+                Files.write(file.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+            } catch (Exception e) {
+                throw new RuntimeException(e);
+            }
+        });
+        writer.start();
+        try (FileModificationWatcher watcher = new FileModificationWatcher(file, 10, 50)) {
+            Assert.assertTrue(watcher.await(() -> file.length() > 0, 10000));
+        }
+        writer.join();
+    }
+}
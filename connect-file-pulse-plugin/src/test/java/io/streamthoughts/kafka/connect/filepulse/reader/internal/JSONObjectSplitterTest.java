@@ -0,0 +1,89 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.reader.ReaderException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+
+public class JSONObjectSplitterTest {
+
+    @Test
+    public void shouldFindObjectsGivenNewlineDelimitedJSON() {
+        final byte[] bytes = "{\"a\":1}\n{\"b\":{\"c\":[1,2]}}\n".getBytes(StandardCharsets.UTF_8);
+        final JSONObjectSplitter splitter = new JSONObjectSplitter();
+
+        Assert.assertEquals(0, splitter.nextObjectStart(bytes, 0, bytes.length));
+        Assert.assertEquals(7, splitter.objectEnd(bytes, 0, bytes.length));
+        Assert.assertEquals(8, splitter.nextObjectStart(bytes, 7, bytes.length));
+        Assert.assertEquals(bytes.length - 1, splitter.objectEnd(bytes, 8, bytes.length));
+        Assert.assertEquals(JSONObjectSplitter.NEED_MORE_BYTES,
+            splitter.nextObjectStart(bytes, bytes.length - 1, bytes.length));
+    }
+
+    @Test
+    public void shouldFindObjectsGivenTopLevelArray() {
+        final byte[] bytes = "[ {\"a\":\"}\"} , {\"b\":\"\\\"{\"} ]".getBytes(StandardCharsets.UTF_8);
+        final JSONObjectSplitter splitter = new JSONObjectSplitter();
+
+        Assert.assertEquals(2, splitter.nextObjectStart(bytes, 0, bytes.length));
+        Assert.assertEquals(11, splitter.objectEnd(bytes, 2, bytes.length));
+        Assert.assertEquals(14, splitter.nextObjectStart(bytes, 11, bytes.length));
+        Assert.assertEquals(bytes.length - 2, splitter.objectEnd(bytes, 14, bytes.length));
+        Assert.assertEquals(JSONObjectSplitter.NEED_MORE_BYTES,
+            splitter.nextObjectStart(bytes, bytes.length - 2, bytes.length));
+    }
+
+    @Test
+    public void shouldContinueScanningGivenObjectSplitAcrossCalls() {
+        final byte[] bytes = "{\"a\":\"x\\\\\",\"b\":[{}]}".getBytes(StandardCharsets.UTF_8);
+        final JSONObjectSplitter splitter = new JSONObjectSplitter();
+
+        for (int i = 0; i < bytes.length - 1; i++) {
+            Assert.assertEquals(JSONObjectSplitter.NEED_MORE_BYTES, splitter.objectEnd(bytes, i, i + 1));
+            Assert.assertTrue(splitter.isInObject());
+        }
+        Assert.assertEquals(bytes.length, splitter.objectEnd(bytes, bytes.length - 1, bytes.length));
+        Assert.assertFalse(splitter.isInObject());
+    }
+
+    @Test
+    public void shouldSkipByteOrderMarkGivenFirstBytesOfFile() {
+        final byte[] bytes = "\uFEFF{\"a\":1}".getBytes(StandardCharsets.UTF_8);
+        final JSONObjectSplitter splitter = new JSONObjectSplitter();
+
+        Assert.assertEquals(3, JSONObjectSplitter.skipByteOrderMark(bytes, 0, bytes.length));
+        Assert.assertEquals(3, splitter.nextObjectStart(bytes, 3, bytes.length));
+        Assert.assertEquals(0, JSONObjectSplitter.skipByteOrderMark(bytes, 0, 2));
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldFailGivenByteOrderMarkBetweenObjects() {
+        final byte[] bytes = "{\"a\":1}\n\uFEFF{\"b\":2}".getBytes(StandardCharsets.UTF_8);
+        new JSONObjectSplitter().nextObjectStart(bytes, 7, bytes.length);
+    }
+
+    @Test(expected = ReaderException.class)
+    public void shouldFailGivenTopLevelValueWhichIsNotAnObject() {
+        final byte[] bytes = "[1, 2]".getBytes(StandardCharsets.UTF_8);
+        new JSONObjectSplitter().nextObjectStart(bytes, 0, bytes.length);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileSplit;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class LineAlignedFileSplitterTest {
+
+    private static final String LF = "\n";
+    private static final String CR = "\r";
+
+    private static final int NLINES = 100;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void shouldNotSplitGivenFileSmallerThanSplitSize() throws Exception {
+        final File file = generateFile(NLINES, LF, StandardCharsets.UTF_8);
+        final List<FileSplit> splits = new LineAlignedFileSplitter(StandardCharsets.UTF_8)
+            .split(file, file.length());
+        Assert.assertTrue(splits.isEmpty());
+    }
+
+    @Test
+    public void shouldReadAllLinesOnceGivenSplitsAndLF() throws Exception {
+        final File file = generateFile(NLINES, LF, StandardCharsets.UTF_8);
+        assertAllLinesReadOnce(file, 64, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldReadAllLinesOnceGivenSplitsAndCRLF() throws Exception {
+        final File file = generateFile(NLINES, CR + LF, StandardCharsets.UTF_8);
+        assertAllLinesReadOnce(file, 64, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldReadAllLinesOnceGivenSplitSizeSmallerThanLineSize() throws Exception {
+        final File file = generateFile(NLINES, CR + LF, StandardCharsets.UTF_8);
+        assertAllLinesReadOnce(file, 1, StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldReadAllLinesOnceGivenSplitsAndMultiBytesCharset() throws Exception {
+        final File file = generateFile(NLINES, CR + LF, StandardCharsets.UTF_16LE);
+        assertAllLinesReadOnce(file, 99, StandardCharsets.UTF_16LE);
+    }
+
+    private void assertAllLinesReadOnce(final File file,
+                                        final long splitSize,
+                                        final Charset charset) throws Exception {
+        final List<FileSplit> splits = new LineAlignedFileSplitter(charset).split(file, splitSize);
+        Assert.assertTrue(splits.size() > 1);
+        Assert.assertEquals(0, splits.get(0).startPosition());
+        Assert.assertEquals(FileSplit.UNBOUNDED, splits.get(splits.size() - 1).endPosition());
+
+        final List<String> lines = new ArrayList<>();
+        for (FileSplit split : splits) {
+            try (NonBlockingBufferReader reader = new NonBlockingBufferReader(file, charset)) {
+                reader.seekTo(split.startPosition());
+                reader.enableAutoFlush();
+                while (reader.hasNext()) {
+                    final List<TextBlock> blocks = reader.readLines(1);
+                    if (blocks == null) {
+                        break;
+                    }
+                    for (TextBlock block : blocks) {
+                        if (split.isAfterEnd(block.startOffset())) {
+                            break;
+                        }
+                        lines.add(block.data());
+                    }
+                    if (split.isAfterEnd(reader.position())) {
+                        break;
+                    }
+                }
+            }
+        }
+        Assert.assertEquals(NLINES, lines.size());
+        for (int i = 0; i < NLINES; i++) {
+            Assert.assertEquals("00000000-" + i, lines.get(i));
+        }
+    }
+
+    private File generateFile(final int limit,
+                              final String newLine,
+                              final Charset charset) throws IOException {
+        final File file = testFolder.newFile();
+        try (BufferedWriter writer = Files.newBufferedWriter(file.toPath(), charset)) {
+            for (int i = 0; i < limit; i++) {
+                writer.write("00000000-" + i);
+                writer.write(newLine);
+            }
+        }
+        return file;
+    }
+}
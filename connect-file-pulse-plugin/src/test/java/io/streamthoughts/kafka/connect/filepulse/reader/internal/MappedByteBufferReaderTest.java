@@ -0,0 +1,165 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MappedByteBufferReaderTest {
+
+    private static final String LF = "\n";
+    private static final String CR = "\r";
+
+    private static final int NLINES = 10;
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private File file;
+    private BufferedWriter writer;
+
+    @Before
+    public void setUp() throws IOException {
+        file = testFolder.newFile();
+        writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenHigherRegionSizeThanFileSize() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        readAllAndAssert(expected, createReaderWithRegionSize(file, 1024));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenHigherRegionSizeThanFileSizeAndCRLF() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, CR + LF);
+        readAllAndAssert(expected, createReaderWithRegionSize(file, 1024));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenSmallerRegionSizeThanLineSize() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        readAllAndAssert(expected, createReaderWithRegionSize(file, 4));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenSmallerRegionSizeThanLineSizeCRLF() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, CR + LF);
+        readAllAndAssert(expected, createReaderWithRegionSize(file, 4));
+    }
+
+    @Test
+    public void shouldReadAllLinesGivenFileNotEndingWithNewLine() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, CR + LF, false);
+        readAllAndAssert(expected, createReaderWithRegionSize(file, 1024));
+    }
+
+    @Test
+    public void shouldReadNewLinesGivenFileGrowingAfterEndOfFileIsReached() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        final MappedByteBufferReader reader = createReaderWithRegionSize(file, 1024);
+        reader.disableAutoFlush();
+        final List<TextBlock> results = new ArrayList<>();
+        while (reader.hasNext()) {
+            results.addAll(reader.readLines(1));
+        }
+
+        writer.write("00000000-X");
+        writer.flush();
+        Assert.assertTrue(reader.hasNext());
+        Assert.assertTrue(reader.readLines(1).isEmpty());
+        Assert.assertTrue(reader.remaining());
+
+        writer.write(LF);
+        writer.flush();
+        results.addAll(reader.readLines(1));
+        expected.add(new TextBlock("00000000-X", StandardCharsets.UTF_8, file.length() - 11, file.length(), 10));
+        assertResult(expected, results);
+        reader.close();
+    }
+
+    @Test
+    public void shouldReadLinesFromPositionGivenSeekTo() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        final MappedByteBufferReader reader = createReaderWithRegionSize(file, 1024);
+        reader.seekTo(expected.get(5).startOffset());
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
+    private static MappedByteBufferReader createReaderWithRegionSize(final File file, final int regionSize) {
+        return new MappedByteBufferReader(file, 1, regionSize, StandardCharsets.UTF_8);
+    }
+
+    private void readAllAndAssert(final List<TextBlock> expected,
+                                  final MappedByteBufferReader reader) throws Exception {
+        List<TextBlock> results = new ArrayList<>();
+        while (reader.hasNext()) {
+            results.addAll(reader.readLines(1));
+        }
+        assertResult(expected, results);
+        Assert.assertEquals(file.length(), reader.position());
+        Assert.assertFalse(reader.remaining());
+        reader.close();
+    }
+
+    private void assertResult(final List<TextBlock> expected, final List<TextBlock> results) {
+        Assert.assertEquals(expected.size(), results.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertEquals(expected.get(i), results.get(i));
+        }
+    }
+
+    private List<TextBlock> generateLines(final BufferedWriter writer,
+                                          final int limit,
+                                          final String newLine) throws IOException {
+        return generateLines(writer, limit, newLine, true);
+    }
+
+    private List<TextBlock> generateLines(final BufferedWriter writer,
+                                          final int limit,
+                                          final String newLine,
+                                          final boolean endWithNewLine) throws IOException {
+        long offset = 0;
+        List<TextBlock> generated = new ArrayList<>(limit);
+        for (int i = 0; i < limit; i++) {
+            String line = "00000000-" + i;
+            writer.write(line);
+            if (i + 1 < limit || endWithNewLine) {
+                writer.write(newLine);
+                generated.add(new TextBlock(line, StandardCharsets.UTF_8, offset, offset + 10 + newLine.length(), 10));
+            } else {
+                generated.add(new TextBlock(line, StandardCharsets.UTF_8, offset, offset + 10, 10));
+            }
+            offset += line.length() + newLine.length();
+        }
+        writer.flush();
+        return generated;
+    }
+}
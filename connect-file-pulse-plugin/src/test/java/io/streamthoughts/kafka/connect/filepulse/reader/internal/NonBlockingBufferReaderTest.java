@@ -102,6 +102,30 @@ public class NonBlockingBufferReaderTest {
         readAllAndAssert(expected, reader);
     }
 
+    @Test
+    public void shouldTrackBytePositionsGivenMultiBytesCharacters() throws Exception {
+        final String line = "\u00e9t\u00e9-\u20ac";
+        final int size = line.getBytes(StandardCharsets.UTF_8).length;
+        writer.close();
+        writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+        writer.write(line + LF + line + LF);
+        writer.flush();
+
+        NonBlockingBufferReader reader = new NonBlockingBufferReader(file, 4, StandardCharsets.UTF_8);
+        List<TextBlock> expected = new ArrayList<>();
+        expected.add(new TextBlock(line, StandardCharsets.UTF_8, 0, size + 1, size));
+        expected.add(new TextBlock(line, StandardCharsets.UTF_8, size + 1, 2 * (size + 1), size));
+        readAllAndAssert(expected, reader);
+    }
+
+    @Test
+    public void shouldReadLinesFromPositionGivenSeekTo() throws Exception {
+        final List<TextBlock> expected = generateLines(writer, NLINES, LF);
+        NonBlockingBufferReader reader = createReaderWithCapacity(file, 16);
+        reader.seekTo(expected.get(5).startOffset());
+        readAllAndAssert(expected.subList(5, NLINES), reader);
+    }
+
     private static NonBlockingBufferReader createReaderWithCapacity(final File file,
                                                                     final int defaultInitialCapacity) {
         return new NonBlockingBufferReader(
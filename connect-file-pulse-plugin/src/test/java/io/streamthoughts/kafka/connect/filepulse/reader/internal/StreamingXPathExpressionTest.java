@@ -0,0 +1,71 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.reader.internal;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+public class StreamingXPathExpressionTest {
+
+    @Test
+    public void shouldSupportAbsoluteLocationPaths() {
+        Assert.assertTrue(StreamingXPathExpression.isSupported("/root/items/item"));
+        Assert.assertTrue(StreamingXPathExpression.isSupported("//item"));
+        Assert.assertTrue(StreamingXPathExpression.isSupported("/root//item"));
+        Assert.assertTrue(StreamingXPathExpression.isSupported("/root/*/item"));
+    }
+
+    @Test
+    public void shouldNotSupportComplexExpressions() {
+        Assert.assertFalse(StreamingXPathExpression.isSupported("root/item"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/root/item[1]"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/root/@id"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/root/text()"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/ns:root"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/root/"));
+        Assert.assertFalse(StreamingXPathExpression.isSupported("/"));
+    }
+
+    @Test
+    public void shouldMatchGivenChildSteps() {
+        final StreamingXPathExpression expression = StreamingXPathExpression.compile("/root/items/item");
+        Assert.assertTrue(expression.matches(Arrays.asList("root", "items", "item")));
+        Assert.assertFalse(expression.matches(Arrays.asList("root", "items")));
+        Assert.assertFalse(expression.matches(Arrays.asList("root", "items", "item", "item")));
+        Assert.assertFalse(expression.matches(Arrays.asList("root", "other", "item")));
+    }
+
+    @Test
+    public void shouldMatchGivenDescendantSteps() {
+        final StreamingXPathExpression expression = StreamingXPathExpression.compile("//item");
+        Assert.assertTrue(expression.matches(Arrays.asList("item")));
+        Assert.assertTrue(expression.matches(Arrays.asList("root", "items", "item")));
+        Assert.assertFalse(expression.matches(Arrays.asList("root", "items")));
+    }
+
+    @Test
+    public void shouldMatchGivenWildcardStep() {
+        final StreamingXPathExpression expression = StreamingXPathExpression.compile("/root/*/item");
+        Assert.assertTrue(expression.matches(Arrays.asList("root", "items", "item")));
+        Assert.assertTrue(expression.matches(Arrays.asList("root", "others", "item")));
+        Assert.assertFalse(expression.matches(Arrays.asList("root", "item")));
+    }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner;
+
+import io.streamthoughts.kafka.connect.filepulse.source.FileAssignments;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceFile;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceOffset;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceStatus;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DynamicFileAssignorTest {
+
+    private InMemoryStateBackingStore<SourceFile> store;
+
+    // The last task index each file was assigned to.
+    private Map<String, Integer> assigned;
+
+    private Map<String, SourceMetadata> scheduled;
+
+    @Before
+    public void setUp() {
+        store = new InMemoryStateBackingStore<>(new StateSnapshot<>(0, Collections.emptyMap()));
+        assigned = new HashMap<>();
+        store.setUpdateListener(new StateBackingStore.UpdateListener<SourceFile>() {
+            @Override
+            public void onStateRemove(final String state) {
+            }
+
+            @Override
+            public void onStateUpdate(final String state, final SourceFile value) {
+                assigned.put(state, FileAssignments.taskIdOf(value));
+            }
+        });
+        scheduled = new LinkedHashMap<>();
+        for (int i = 0; i < 4; i++) {
+            scheduled.put("file-" + i, new SourceMetadata("file-" + i, "/tmp", 0L, i, null, 0L));
+        }
+    }
+
+    @Test
+    public void shouldNotAssignFilesBeforeNumberOfTasksIsSet() {
+        final DynamicFileAssignor assignor = new DynamicFileAssignor(store, 1);
+        assertEquals(0, assignor.assign(scheduled));
+        assertTrue(assigned.isEmpty());
+    }
+
+    @Test
+    public void shouldAssignFilesToLeastLoadedTasksUpToMaxFilesPerTask() {
+        final DynamicFileAssignor assignor = new DynamicFileAssignor(store, 1);
+        assignor.setNumTasks(2);
+
+        assertEquals(2, assignor.assign(scheduled));
+        assertEquals(Integer.valueOf(0), assigned.get("file-0"));
+        assertEquals(Integer.valueOf(1), assigned.get("file-1"));
+
+        // all tasks are busy.
+        assertEquals(0, assignor.assign(scheduled));
+
+        assignor.release("file-1");
+        assertEquals(1, assignor.assign(scheduled));
+        assertEquals(Integer.valueOf(1), assigned.get("file-2"));
+    }
+
+    @Test
+    public void shouldNotAssignReleasedFilesAgainUntilRemoved() {
+        final DynamicFileAssignor assignor = new DynamicFileAssignor(store, 4);
+        assignor.setNumTasks(1);
+        assertEquals(4, assignor.assign(scheduled));
+
+        assignor.release("file-0");
+        assertEquals(0, assignor.assign(scheduled));
+
+        assignor.remove("file-0");
+        assertEquals(1, assignor.assign(scheduled));
+    }
+
+    @Test
+    public void shouldAssignAgainFilesOfTasksWhichNoLongerExist() {
+        final DynamicFileAssignor assignor = new DynamicFileAssignor(store, 2);
+        assignor.setNumTasks(2);
+        assertEquals(4, assignor.assign(scheduled));
+        assertEquals(Integer.valueOf(1), assigned.get("file-1"));
+
+        assignor.setNumTasks(1);
+        assertEquals(0, assignor.assign(scheduled));
+
+        assignor.release("file-0");
+        assignor.release("file-2");
+        assertEquals(2, assignor.assign(scheduled));
+        assertEquals(Integer.valueOf(0), assigned.get("file-1"));
+        assertEquals(Integer.valueOf(0), assigned.get("file-3"));
+    }
+
+    @Test
+    public void shouldRecoverFilesAssignedDuringPreviousExecution() {
+        final Map<String, SourceFile> states = new HashMap<>();
+        states.put("file-0", newState(scheduled.get("file-0"), SourceStatus.READING, 1));
+        states.put("file-1", newState(scheduled.get("file-1"), SourceStatus.COMPLETED, 0));
+
+        final DynamicFileAssignor assignor = new DynamicFileAssignor(store, 1);
+        assignor.recover(new StateSnapshot<>(0, states));
+        assignor.setNumTasks(2);
+
+        assertEquals(1, assignor.assign(scheduled));
+        assertEquals(Integer.valueOf(0), assigned.get("file-1"));
+    }
+
+    private static SourceFile newState(final SourceMetadata metadata, final SourceStatus status, final int taskId) {
+        return new SourceFile(metadata, SourceOffset.empty(), status, FileAssignments.props(taskId));
+    }
+}
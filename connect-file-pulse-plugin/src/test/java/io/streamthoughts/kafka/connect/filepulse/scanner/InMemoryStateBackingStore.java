@@ -21,7 +21,9 @@ package io.streamthoughts.kafka.connect.filepulse.scanner;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateBackingStore;
 import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
@@ -32,6 +34,8 @@ public class InMemoryStateBackingStore<V> implements StateBackingStore<V> {
 
     UpdateListener<V> listener;
 
+    private final List<UpdateListener<V>> listeners = new ArrayList<>();
+
     private Map<String, V> states = new HashMap<>();
 
     public InMemoryStateBackingStore(final StateSnapshot<V> state) {
@@ -66,33 +70,25 @@ public class InMemoryStateBackingStore<V> implements StateBackingStore<V> {
     @Override
     public void putAsync(String name, V state) {
         states.put(name, state);
-        if (listener != null) {
-            listener.onStateUpdate(name, state);
-        }
+        notifyUpdate(name, state);
     }
 
     @Override
     public void put(String name, V state) {
         states.put(name, state);
-        if (listener != null) {
-            listener.onStateUpdate(name, state);
-        }
+        notifyUpdate(name, state);
     }
 
     @Override
     public void remove(String name) {
         states.remove(name);
-        if (listener != null) {
-            listener.onStateRemove(name);
-        }
+        notifyRemove(name);
     }
 
     @Override
     public void removeAsync(String name) {
         states.remove(name);
-        if (listener != null) {
-            listener.onStateRemove(name);
-        }
+        notifyRemove(name);
     }
 
     @Override
@@ -104,4 +100,28 @@ public class InMemoryStateBackingStore<V> implements StateBackingStore<V> {
     public void setUpdateListener(final UpdateListener<V> listener) {
         this.listener = listener;
     }
+
+    @Override
+    public void addUpdateListener(final UpdateListener<V> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void removeUpdateListener(final UpdateListener<V> listener) {
+        listeners.remove(listener);
+    }
+
+    private void notifyUpdate(final String name, final V state) {
+        if (listener != null) {
+            listener.onStateUpdate(name, state);
+        }
+        listeners.forEach(l -> l.onStateUpdate(name, state));
+    }
+
+    private void notifyRemove(final String name) {
+        if (listener != null) {
+            listener.onStateRemove(name);
+        }
+        listeners.forEach(l -> l.onStateRemove(name));
+    }
 }
\ No newline at end of file
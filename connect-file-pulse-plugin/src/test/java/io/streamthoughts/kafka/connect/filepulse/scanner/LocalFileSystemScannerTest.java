@@ -36,6 +36,10 @@ import org.junit.rules.TestRule;
 import org.mockito.Mockito;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -160,20 +164,112 @@ public class LocalFileSystemScannerTest {
     }
 
     @Test
-    public void shouldNotScannedDirectoryWhileProcessingFiles() {
+    public void shouldScanDirectoryWhileProcessingFiles() {
         final StateSnapshot<SourceFile> state = new StateSnapshot<>(0, Collections.emptyMap());
-        FileStateBackingStore store = Mockito.mock(FileStateBackingStore.class);
-        Mockito.when(store.snapshot()).thenReturn(state);
-
-        final List<File> sources = INPUT_FILES.getInputPathsFor(0, 1);
-        final MockTimesDirectoryScanner ds = new MockTimesDirectoryScanner(sources);
+        final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(state);
+        final MockTimesDirectoryScanner ds = new MockTimesDirectoryScanner();
         final LocalFileSystemScanner scanner = newFsMonitorThread(new MockFileCleaner(true), ds, store);
 
         MockConnectorContext context = new MockConnectorContext();
+        ds.put(INPUT_FILES.getInputPathsFor(0, 1));
         scanner.scan(context);
+        scanner.partitionFilesAndGet(1);
+
+        ds.put(INPUT_FILES.getInputPathsFor(0, 1));
+        scanner.scan(context);
+        assertEquals(0, context.reconfigurations());
+
+        ds.put(INPUT_FILES.getInputPathsFor(0, 1, 2));
+        scanner.scan(context);
+        assertEquals(3, ds.times());
+        // the single task is still processing its files.
+        assertEquals(0, context.reconfigurations());
+
+        final SourceFile completed = INPUT_FILES.stateFor(0, SourceStatus.COMPLETED);
+        store.put(OFFSET_MANAGER.toPartitionJson(completed.metadata()), completed);
+        ds.put(INPUT_FILES.getInputPathsFor(1, 2));
         scanner.scan(context);
+        assertEquals(0, context.reconfigurations());
+
+        final SourceFile failed = INPUT_FILES.stateFor(1, SourceStatus.FAILED);
+        store.put(OFFSET_MANAGER.toPartitionJson(failed.metadata()), failed);
+        ds.put(INPUT_FILES.getInputPathsFor(2));
+        scanner.scan(context);
+        assertEquals(1, context.reconfigurations());
+
+        List<List<String>> groupedFiles = scanner.partitionFilesAndGet(1);
+        assertEquals(1, groupedFiles.size());
+        // completed files have been cleaned up.
+        assertEquals(Collections.singletonList(INPUT_FILES.metadataFor(2).absolutePath()), groupedFiles.get(0));
+    }
+
+    @Test
+    public void shouldKeepFilesIntoSameGroupWhenNewFilesAreScheduled() {
+        final StateSnapshot<SourceFile> state = new StateSnapshot<>(0, Collections.emptyMap());
+        final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(state);
+        final MockTimesDirectoryScanner ds = new MockTimesDirectoryScanner();
+        final LocalFileSystemScanner scanner = newFsMonitorThread(new MockFileCleaner(true), ds, store);
+
+        ds.put(INPUT_FILES.getInputPathsFor(0, 1));
+        scanner.scan(new MockConnectorContext());
+        final List<List<String>> previous = scanner.partitionFilesAndGet(4);
+        assertEquals(2, previous.size());
+
+        ds.put(INPUT_FILES.getInputPathsFor(0, 1, 2, 3));
+        scanner.scan(new MockConnectorContext());
+        final List<List<String>> groupedFiles = scanner.partitionFilesAndGet(4);
+        assertEquals(4, groupedFiles.size());
+        assertEquals(previous.get(0), groupedFiles.get(0));
+        assertEquals(previous.get(1), groupedFiles.get(1));
+        assertEquals(1, groupedFiles.get(2).size());
+        assertEquals(1, groupedFiles.get(3).size());
+    }
 
+    @Test
+    public void shouldScheduleCreatedFilesWithoutScanningDirectory() {
+        final StateSnapshot<SourceFile> state = new StateSnapshot<>(0, Collections.emptyMap());
+        final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(state);
+        final MockTimesDirectoryScanner ds = new MockTimesDirectoryScanner();
+        final LocalFileSystemScanner scanner = newFsMonitorThread(new MockFileCleaner(true), ds, store);
+
+        ds.put(INPUT_FILES.getInputPathsFor(0));
+        scanner.scan(new MockConnectorContext());
+        assertEquals(1, scanner.partitionFilesAndGet(4).size());
+
+        scanner.scan(new MockConnectorContext(), INPUT_FILES.getInputPathsFor(0, 1));
         assertEquals(1, ds.times());
+
+        final List<List<String>> groupedFiles = scanner.partitionFilesAndGet(4);
+        assertEquals(2, groupedFiles.size());
+        assertEquals(Collections.singletonList(INPUT_FILES.metadataFor(1).absolutePath()), groupedFiles.get(1));
+    }
+
+    @Test
+    public void shouldNotRescheduleFileModifiedWhileInFlight() throws IOException {
+        final StateSnapshot<SourceFile> state = new StateSnapshot<>(0, Collections.emptyMap());
+        final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(state);
+        final MockTimesDirectoryScanner ds = new MockTimesDirectoryScanner();
+        // the content hash of the file is part of its source partition.
+        final LocalFileSystemScanner scanner = new LocalFileSystemScanner(
+            INPUT_FILES.inputDirectory().getAbsolutePath(),
+            ds,
+            new MockFileCleaner(true),
+            new SimpleOffsetManager(OffsetStrategy.FILENAME_HASH),
+            store);
+
+        final File file = Files.createTempFile("file", ".txt").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), "foo\n".getBytes(StandardCharsets.UTF_8));
+
+        ds.put(Collections.singletonList(file));
+        scanner.scan(new MockConnectorContext());
+        assertEquals(Collections.singletonList(file.getAbsolutePath()), scanner.partitionFilesAndGet(1).get(0));
+
+        // the file is still being written while it is scheduled.
+        Files.write(file.toPath(), "bar\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        ds.put(Collections.singletonList(file));
+        scanner.scan(new MockConnectorContext());
+        assertEquals(Collections.singletonList(file.getAbsolutePath()), scanner.partitionFilesAndGet(1).get(0));
     }
 
     @Test
@@ -256,6 +352,11 @@ public class LocalFileSystemScannerTest {
             return (files.isEmpty()) ? Collections.emptyList() : files.remove(0);
         }
 
+        @Override
+        public Collection<File> listFiles(File dir, Collection<File> entries) {
+            return entries;
+        }
+
         void put(Collection<File> files) {
             this.files.add(files);
         }
@@ -267,9 +368,15 @@ public class LocalFileSystemScannerTest {
 
     private static class MockConnectorContext implements ConnectorContext {
 
+        private int reconfigurations = 0;
+
         @Override
         public void requestTaskReconfiguration() {
+            reconfigurations++;
+        }
 
+        int reconfigurations() {
+            return reconfigurations;
         }
 
         @Override
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner;
+
+import io.streamthoughts.kafka.connect.filepulse.scanner.local.ScannedFile;
+import io.streamthoughts.kafka.connect.filepulse.source.SourceMetadata;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+public class SourceMetadataIndexTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Set<String> inFlight = new HashSet<>();
+
+    private final SourceMetadataIndex index = new SourceMetadataIndex(SourceMetadata::absolutePath, inFlight::contains);
+
+    private File file1;
+    private File file2;
+
+    @Before
+    public void setUp() throws IOException {
+        file1 = write(folder.newFile("file1.txt"), "foo\n");
+        file2 = write(folder.newFile("file2.txt"), "bar\n");
+    }
+
+    @Test
+    public void shouldReturnMetadataForAllListedFiles() {
+        final Map<String, SourceMetadata> sources = index.update(Arrays.asList(file1, file2));
+        assertEquals(2, sources.size());
+        assertEquals("file1.txt", sources.get(file1.getAbsolutePath()).name());
+        assertEquals("file2.txt", sources.get(file2.getAbsolutePath()).name());
+    }
+
+    @Test
+    public void shouldReuseMetadataGivenUnchangedFile() {
+        final SourceMetadata first = index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath());
+        final SourceMetadata second = index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath());
+        assertSame(first, second);
+    }
+
+    @Test
+    public void shouldRecomputeMetadataGivenModifiedFile() throws IOException {
+        final SourceMetadata first = index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath());
+        write(file1, "more\n");
+        assertTrue(file1.setLastModified(first.lastModified() + 1000L));
+
+        final SourceMetadata second = index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath());
+        assertNotSame(first, second);
+        assertEquals(file1.length(), second.size());
+    }
+
+    @Test
+    public void shouldUseAttributesReadWhileListingGivenScannedFile() throws IOException {
+        final BasicFileAttributes attributes = Files.readAttributes(file1.toPath(), BasicFileAttributes.class);
+        final File scanned = new ScannedFile(file1.toPath(), attributes);
+        final SourceMetadata first = index.update(Collections.singletonList(scanned)).get(file1.getAbsolutePath());
+        write(file1, "more\n");
+        assertTrue(file1.setLastModified(first.lastModified() + 1000L));
+
+        // the file attributes are not read again from the file system.
+        assertSame(first, index.update(Collections.singletonList(scanned)).get(file1.getAbsolutePath()));
+        assertNotSame(first, index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath()));
+    }
+
+    @Test
+    public void shouldKeepMetadataGivenFileModifiedWhileInFlight() throws IOException {
+        final SourceMetadata first = index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath());
+        inFlight.add(file1.getAbsolutePath());
+        write(file1, "more\n");
+        assertTrue(file1.setLastModified(first.lastModified() + 1000L));
+
+        assertSame(first, index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath()));
+
+        inFlight.clear();
+        assertNotSame(first, index.update(Collections.singletonList(file1)).get(file1.getAbsolutePath()));
+    }
+
+    @Test
+    public void shouldEvictFilesNoLongerListed() {
+        index.update(Arrays.asList(file1, file2));
+        assertEquals(2, index.size());
+
+        index.update(Collections.singletonList(file2));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    public void shouldSkipFilesDeletedSinceListing() {
+        assertTrue(file2.delete());
+        final Map<String, SourceMetadata> sources = index.update(Arrays.asList(file1, file2));
+        assertEquals(Collections.singleton(file1.getAbsolutePath()), sources.keySet());
+    }
+
+    private static File write(final File file, final String content) throws IOException {
+        Files.write(file.toPath(), content.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        return file;
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.scanner.local;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+public class DirectoryWatcherTest {
+
+    private static final long TIMEOUT_SECONDS = 30L;
+
+    private static final long QUIET_PERIOD_MS = 100L;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private File inputDirectory;
+
+    private BlockingQueue<Path> created;
+
+    @Before
+    public void setUp() throws IOException {
+        inputDirectory = folder.newFolder("test-watch");
+        created = new LinkedBlockingQueue<>();
+    }
+
+    @Test
+    public void shouldNotifyListenerWhenNewFileIsCreated() throws Exception {
+        try (DirectoryWatcher watcher = newDirectoryWatcher(QUIET_PERIOD_MS)) {
+            watcher.start();
+            final File file = new File(inputDirectory, "test.txt");
+            Assert.assertTrue(file.createNewFile());
+            Assert.assertEquals(file.toPath(), created.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldNotifyListenerWhenNewFileIsCreatedInNewSubDirectory() throws Exception {
+        try (DirectoryWatcher watcher = newDirectoryWatcher(QUIET_PERIOD_MS)) {
+            watcher.start();
+            final File subDirectory = new File(inputDirectory, "sub");
+            Assert.assertTrue(subDirectory.mkdir());
+            Assert.assertEquals(subDirectory.toPath(), created.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+            final File file = new File(subDirectory, "test.txt");
+            Assert.assertTrue(file.createNewFile());
+            Assert.assertEquals(file.toPath(), created.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    public void shouldNotNotifyListenerWhileCreatedFileIsBeingWritten() throws Exception {
+        final long quietPeriodMs = 1000L;
+        try (DirectoryWatcher watcher = newDirectoryWatcher(quietPeriodMs)) {
+            watcher.start();
+            final File file = new File(inputDirectory, "test.txt");
+            Assert.assertTrue(file.createNewFile());
+            long lastWrite = 0L;
+            for (int i = 0; i < 10; i++) {
+                Files.write(file.toPath(), "line\n".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+                lastWrite = System.currentTimeMillis();
+                Assert.assertNull(created.poll(quietPeriodMs / 4, TimeUnit.MILLISECONDS));
+            }
+            Assert.assertEquals(file.toPath(), created.poll(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+            Assert.assertTrue(System.currentTimeMillis() - lastWrite >= quietPeriodMs - 50L);
+        }
+    }
+
+    private DirectoryWatcher newDirectoryWatcher(final long quietPeriodMs) throws IOException {
+        return new DirectoryWatcher(inputDirectory.toPath(), quietPeriodMs, new QueueListener());
+    }
+
+    private class QueueListener implements DirectoryWatcher.Listener {
+
+        @Override
+        public void onCreate(final List<Path> paths) {
+            created.addAll(paths);
+        }
+
+        @Override
+        public void onOverflow() {
+            Assert.fail("Unexpected overflow");
+        }
+    }
+}
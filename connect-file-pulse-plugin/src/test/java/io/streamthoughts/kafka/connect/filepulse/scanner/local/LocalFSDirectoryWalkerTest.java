@@ -18,6 +18,7 @@
  */
 package io.streamthoughts.kafka.connect.filepulse.scanner.local;
 
+import org.junit.After;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Rule;
@@ -27,9 +28,13 @@ import org.junit.rules.TemporaryFolder;
 import java.io.File;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.zip.ZipEntry;
 import java.util.zip.ZipOutputStream;
@@ -53,6 +58,11 @@ public class LocalFSDirectoryWalkerTest {
         scanner = new LocalFSDirectoryWalker(Collections.emptyList());
     }
 
+    @After
+    public void tearDown() {
+        scanner.close();
+    }
+
     @Test
     public void shouldExtractXZGipCompressedFilesPathWhileScanningGivenRecursiveScanDisable() throws IOException {
         File archiveFile = new File(inputDirectory, DEFAULT_ARCHIVE_NAME + ".zip");
@@ -108,6 +118,94 @@ public class LocalFSDirectoryWalkerTest {
         Assert.assertTrue(scanned.contains(file1.getCanonicalPath()));
     }
 
+    @Test
+    public void shouldListFilesGivenScanParallelism() throws IOException {
+        final List<String> expected = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            folder.newFolder(TEST_SCAN_DIRECTORY, "dir-" + i, "sub-directory");
+            expected.add(folder.newFile(TEST_SCAN_DIRECTORY + "/dir-" + i + "/test-file.txt").getCanonicalPath());
+            expected.add(folder.newFile(TEST_SCAN_DIRECTORY + "/dir-" + i + "/sub-directory/test-file.txt")
+                .getCanonicalPath());
+        }
+
+        final Map<String, Object> configs = new HashMap<>();
+        configs.put(LocalFSDirectoryWalkerConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, true);
+        configs.put(LocalFSDirectoryWalkerConfig.FS_SCAN_PARALLELISM_CONFIG, 4);
+        scanner.configure(configs);
+
+        final Collection<String> scanned = scanner
+                .listFiles(inputDirectory)
+                .stream()
+                .map(this::toCanonicalPath)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(expected.size(), scanned.size());
+        Assert.assertTrue(scanned.containsAll(expected));
+        // the same pool is used for each scan.
+        Assert.assertEquals(expected.size(), scanner.listFiles(inputDirectory).size());
+    }
+
+    @Test
+    public void shouldNotListFilesFromHiddenDirectory() throws IOException {
+        folder.newFolder(TEST_SCAN_DIRECTORY , ".hidden");
+        final File file1 = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file1.txt");
+        folder.newFile(TEST_SCAN_DIRECTORY + "/.hidden/test-file2.txt"); // will not be scanned
+
+        scanner.configure(Collections.singletonMap(LocalFSDirectoryWalkerConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, true));
+
+        final Collection<String> scanned = scanner
+                .listFiles(inputDirectory)
+                .stream()
+                .map(this::toCanonicalPath)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(1, scanned.size());
+        Assert.assertTrue(scanned.contains(file1.getCanonicalPath()));
+    }
+
+    @Test
+    public void shouldListOnlyGivenEntriesGivenRecursiveScanEnable() throws IOException {
+        final File subDirectory = folder.newFolder(TEST_SCAN_DIRECTORY , "sub-directory");
+        folder.newFolder(TEST_SCAN_DIRECTORY , ".hidden");
+        folder.newFile(TEST_SCAN_DIRECTORY + "/test-file1.txt"); // will not be listed
+        final File file2 = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file2.txt");
+        final File file3 = folder.newFile(TEST_SCAN_DIRECTORY + "/sub-directory/test-file3.txt");
+        final File file4 = folder.newFile(TEST_SCAN_DIRECTORY + "/.hidden/test-file4.txt");
+
+        scanner.configure(Collections.singletonMap(LocalFSDirectoryWalkerConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, true));
+
+        final Collection<String> scanned = scanner
+                .listFiles(inputDirectory, Arrays.asList(file2, subDirectory, file4))
+                .stream()
+                .map(this::toCanonicalPath)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(2, scanned.size());
+        Assert.assertTrue(scanned.contains(file2.getCanonicalPath()));
+        Assert.assertTrue(scanned.contains(file3.getCanonicalPath()));
+    }
+
+    @Test
+    public void shouldNotListEntriesFromSubDirectoryGivenRecursiveScanDisable() throws IOException {
+        final File subDirectory = folder.newFolder(TEST_SCAN_DIRECTORY , "sub-directory");
+        final File file1 = folder.newFile(TEST_SCAN_DIRECTORY + "/test-file1.txt");
+        final File file2 = folder.newFile(TEST_SCAN_DIRECTORY + "/sub-directory/test-file2.txt");
+
+        scanner.configure(Collections.singletonMap(LocalFSDirectoryWalkerConfig.FS_RECURSIVE_SCAN_ENABLE_CONFIG, false));
+
+        final Collection<File> scanned = scanner
+                .listFiles(inputDirectory, Arrays.asList(file1, subDirectory, file2));
+
+        Assert.assertEquals(1, scanned.size());
+        Assert.assertEquals(file1.getCanonicalPath(), toCanonicalPath(scanned.iterator().next()));
+    }
+
+    @Test
+    public void shouldReturnEmptyListGivenNonExistingDirectory() {
+        scanner.configure(Collections.emptyMap());
+        Assert.assertTrue(scanner.listFiles(new File(inputDirectory, "unknown")).isEmpty());
+    }
+
     private String toCanonicalPath(final File f) {
         try {
             return f.getCanonicalPath();
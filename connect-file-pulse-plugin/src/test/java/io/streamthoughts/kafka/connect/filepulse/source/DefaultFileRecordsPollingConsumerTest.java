@@ -0,0 +1,158 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
+import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.reader.RowFileInputReader;
+import org.apache.kafka.connect.source.SourceTaskContext;
+import org.apache.kafka.connect.storage.OffsetStorageReader;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+public class DefaultFileRecordsPollingConsumerTest {
+
+    private static final int NUM_LINES = 100;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final SimpleOffsetManager offsetManager = new SimpleOffsetManager(OffsetStrategy.FILENAME);
+
+    private final Map<Map<String, ?>, Map<String, Object>> offsets = new HashMap<>();
+
+    private DefaultFileRecordsPollingConsumer consumer;
+
+    private File file;
+
+    @Before
+    public void setUp() throws IOException {
+        final RowFileInputReader reader = new RowFileInputReader();
+        reader.configure(Collections.singletonMap("read.split.bytes.size", 256L));
+        consumer = new DefaultFileRecordsPollingConsumer(
+            new InMemoryTaskContext(),
+            reader,
+            new DefaultRecordFilterPipeline(Collections.emptyList()),
+            offsetManager,
+            false);
+        file = folder.newFile("file.txt");
+        appendLines(file, 0);
+    }
+
+    @After
+    public void tearDown() {
+        consumer.close();
+    }
+
+    @Test
+    public void shouldReuseCommittedSplitsWhenFileHasGrown() throws IOException {
+        final List<FileSplit> splits = consumer.splits(file.getAbsolutePath());
+        assertTrue(splits.size() > 1);
+
+        appendLines(file, NUM_LINES);
+        assertNotEquals(splits, consumer.splits(file.getAbsolutePath()));
+
+        splits.forEach(this::commit);
+        assertEquals(splits, consumer.splits(file.getAbsolutePath()));
+    }
+
+    @Test
+    public void shouldKeepLastCommittedSplitUnboundedWhenFileHasGrown() throws IOException {
+        final List<FileSplit> splits = consumer.splits(file.getAbsolutePath());
+        final FileSplit last = splits.get(splits.size() - 1);
+        commit(last);
+
+        appendLines(file, NUM_LINES);
+
+        final List<FileSplit> resumed = consumer.splits(file.getAbsolutePath());
+        assertEquals(splits, resumed);
+        assertEquals(FileSplit.UNBOUNDED, resumed.get(resumed.size() - 1).endPosition());
+    }
+
+    @Test
+    public void shouldNotSplitFileAlreadyReadAsWhole() {
+        final SourceMetadata metadata = SourceMetadata.fromFile(file);
+        offsets.put(
+            offsetManager.toPartitionMap(metadata),
+            new HashMap<>(offsetManager.toOffsetMap(new SourceOffset(10, 1, 0))));
+
+        assertTrue(consumer.splits(file.getAbsolutePath()).isEmpty());
+    }
+
+    private void commit(final FileSplit split) {
+        final SourceMetadata metadata = SourceMetadata.fromFile(file);
+        final SourceOffset offset = new SourceOffset(split.startPosition(), 0, 0);
+        offsets.put(
+            offsetManager.toPartitionMap(metadata, split),
+            new HashMap<>(offsetManager.toOffsetMap(offset, split)));
+    }
+
+    private static void appendLines(final File file, final int from) throws IOException {
+        final List<String> lines = new ArrayList<>();
+        for (int i = from; i < from + NUM_LINES; i++) {
+            lines.add("line-" + i);
+        }
+        Files.write(file.toPath(), lines, StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+    }
+
+    private class InMemoryTaskContext implements SourceTaskContext, OffsetStorageReader {
+
+        @Override
+        public Map<String, String> configs() {
+            return Collections.emptyMap();
+        }
+
+        @Override
+        public OffsetStorageReader offsetStorageReader() {
+            return this;
+        }
+
+        @Override
+        public <T> Map<String, Object> offset(final Map<String, T> partition) {
+            return offsets.get(partition);
+        }
+
+        @Override
+        public <T> Map<Map<String, T>, Map<String, Object>> offsets(final Collection<Map<String, T>> partitions) {
+            final Map<Map<String, T>, Map<String, Object>> result = new HashMap<>();
+            partitions.forEach(partition -> result.put(partition, offsets.get(partition)));
+            return result;
+        }
+    }
+}
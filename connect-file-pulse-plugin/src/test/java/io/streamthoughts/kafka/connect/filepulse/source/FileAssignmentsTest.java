@@ -0,0 +1,129 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.scanner.InMemoryStateBackingStore;
+import io.streamthoughts.kafka.connect.filepulse.storage.StateSnapshot;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class FileAssignmentsTest {
+
+    private final InMemoryStateBackingStore<SourceFile> store = new InMemoryStateBackingStore<>(
+        new StateSnapshot<>(0, Collections.emptyMap()));
+
+    private final FileAssignments assignments = new FileAssignments(store, 0);
+
+    @Test
+    public void shouldPollOnlyFilesAssignedToTask() {
+        store.put("file-0", newState("file-0", 2L, SourceStatus.SCHEDULED, 0));
+        store.put("file-1", newState("file-1", 1L, SourceStatus.READING, 0));
+        store.put("file-2", newState("file-2", 0L, SourceStatus.SCHEDULED, 1));
+        store.put("file-3", newState("file-3", 0L, SourceStatus.COMPLETED, 0));
+
+        assertEquals(Arrays.asList("/tmp/file-1", "/tmp/file-0"), assignments.poll());
+    }
+
+    @Test
+    public void shouldPollFilesAssignedToTaskGivenExistingStates() {
+        final Map<String, SourceFile> states = new HashMap<>();
+        states.put("file-0", newState("file-0", 0L, SourceStatus.READING, 0));
+        states.put("file-1", newState("file-1", 0L, SourceStatus.SCHEDULED, 1));
+        final FileAssignments recovered = new FileAssignments(
+            new InMemoryStateBackingStore<>(new StateSnapshot<>(0, states)), 0);
+
+        assertEquals(Collections.singletonList("/tmp/file-0"), recovered.poll());
+    }
+
+    @Test
+    public void shouldNotPollAgainFilesStillInProgress() {
+        store.put("file-0", newState("file-0", 0L, SourceStatus.SCHEDULED, 0));
+        assertEquals(1, assignments.poll().size());
+
+        store.put("file-0", newState("file-0", 0L, SourceStatus.READING, 0));
+        assertTrue(assignments.poll().isEmpty());
+
+        // file is completed, then assigned again before the next poll.
+        store.put("file-0", newState("file-0", 0L, SourceStatus.COMPLETED, 0));
+        store.put("file-0", newState("file-0", 0L, SourceStatus.SCHEDULED, 0));
+        assertEquals(1, assignments.poll().size());
+    }
+
+    @Test
+    public void shouldWaitForNewAssignments() throws InterruptedException {
+        final Thread connector = new Thread(() -> {
+            try {
+                Thread.sleep(100L);
+            } catch (InterruptedException ignore) {
+            }
+            store.put("file-0", newState("file-0", 0L, SourceStatus.SCHEDULED, 0));
+        });
+        connector.start();
+        final long started = System.currentTimeMillis();
+        assertEquals(Collections.singletonList("/tmp/file-0"), assignments.poll(30000L));
+        assertTrue(System.currentTimeMillis() - started < 30000L);
+        connector.join();
+    }
+
+    @Test
+    public void shouldReturnNoFileWhenNoNewAssignmentBeforeTimeout() throws InterruptedException {
+        store.put("file-0", newState("file-0", 0L, SourceStatus.SCHEDULED, 0));
+        assertEquals(1, assignments.poll(0L).size());
+
+        final long started = System.currentTimeMillis();
+        assertTrue(assignments.poll(100L).isEmpty());
+        assertTrue(System.currentTimeMillis() - started >= 100L);
+    }
+
+    @Test
+    public void shouldStopTrackingAssignmentsWhenClosed() {
+        assignments.close();
+        store.put("file-0", newState("file-0", 0L, SourceStatus.SCHEDULED, 0));
+        assertTrue(assignments.poll().isEmpty());
+    }
+
+    @Test
+    public void shouldGetTaskIdFromStateProps() {
+        final SourceFile state = newState("file-0", 0L, SourceStatus.SCHEDULED, 3);
+        assertEquals(Integer.valueOf(3), FileAssignments.taskIdOf(state));
+        assertTrue(FileAssignments.isAssignedTo(state, 3));
+        assertFalse(FileAssignments.isAssignedTo(state, 0));
+
+        final SourceFile unassigned = new SourceFile(
+            state.metadata(), state.offset(), SourceStatus.SCHEDULED, Collections.emptyMap());
+        assertNull(FileAssignments.taskIdOf(unassigned));
+    }
+
+    private static SourceFile newState(final String name,
+                                       final long lastModified,
+                                       final SourceStatus status,
+                                       final int taskId) {
+        final SourceMetadata metadata = new SourceMetadata(name, "/tmp", 0L, lastModified, null, 0L);
+        return new SourceFile(metadata, SourceOffset.empty(), status, FileAssignments.props(taskId));
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2019-2020 StreamThoughts.
+ *
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.streamthoughts.kafka.connect.filepulse.source;
+
+import io.streamthoughts.kafka.connect.filepulse.data.TypedStruct;
+import io.streamthoughts.kafka.connect.filepulse.filter.DefaultRecordFilterPipeline;
+import io.streamthoughts.kafka.connect.filepulse.offset.OffsetStrategy;
+import io.streamthoughts.kafka.connect.filepulse.offset.SimpleOffsetManager;
+import io.streamthoughts.kafka.connect.filepulse.reader.RecordsIterable;
+import io.streamthoughts.kafka.connect.filepulse.reader.RowFileInputReader;
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ParallelFileRecordsPollingConsumerTest {
+
+    private static final int NUM_LINES = 100;
+
+    @Rule
+    public final TemporaryFolder folder = new TemporaryFolder();
+
+    private final Map<String, Object> readerConfigs = new HashMap<>();
+
+    private ParallelFileRecordsPollingConsumer consumer;
+
+    @After
+    public void tearDown() {
+        if (consumer != null) {
+            consumer.close();
+        }
+    }
+
+    @Test
+    public void shouldReportCompletedFilesFromCallingThreadAfterAllRecordsAreReturned() throws IOException {
+        consumer = newConsumer();
+        assertCompletedAfterAllRecordsAreReturned(newFiles(4));
+    }
+
+    @Test
+    public void shouldReportCompletedFilesAfterAllRecordsOfAllSplitsAreReturned() throws IOException {
+        readerConfigs.put("read.split.bytes.size", 256L);
+        consumer = newConsumer();
+        assertCompletedAfterAllRecordsAreReturned(newFiles(2));
+    }
+
+    private void assertCompletedAfterAllRecordsAreReturned(final List<String> files) {
+        final Map<String, Integer> returned = new HashMap<>();
+        final Map<String, Integer> returnedOnCompletion = new HashMap<>();
+        final Thread caller = Thread.currentThread();
+        final List<Thread> listenerThreads = new ArrayList<>();
+        consumer.setFileListener(new StateListener() {
+            @Override
+            public void onScheduled(final FileContext context) {
+                listenerThreads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void onInvalid(final FileContext context) {
+                listenerThreads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void onStart(final FileContext context) {
+                listenerThreads.add(Thread.currentThread());
+            }
+
+            @Override
+            public void onCompleted(final FileContext context) {
+                listenerThreads.add(Thread.currentThread());
+                final String path = context.metadata().absolutePath();
+                returnedOnCompletion.put(path, returned.getOrDefault(path, 0));
+            }
+
+            @Override
+            public void onFailure(final FileContext context, final Throwable t) {
+                listenerThreads.add(Thread.currentThread());
+            }
+        });
+        consumer.addAll(files);
+
+        final Map<String, SourceOffset> progress = new HashMap<>();
+        while (consumer.hasNext()) {
+            final RecordsIterable<FileRecord<TypedStruct>> records = consumer.next();
+            if (!records.isEmpty()) {
+                final String path = consumer.context().metadata().absolutePath();
+                returned.merge(path, records.size(), Integer::sum);
+                final SourceOffset offset = consumer.context().offset();
+                final SourceOffset previous = progress.put(path, offset);
+                if (previous != null) {
+                    assertTrue(offset.position() >= previous.position());
+                    assertTrue(offset.rows() >= previous.rows());
+                }
+            }
+        }
+
+        assertEquals(files.size(), returnedOnCompletion.size());
+        files.forEach(file -> assertEquals(Integer.valueOf(NUM_LINES), returnedOnCompletion.get(file)));
+        // the progress of the whole file is reported, even when it is read using splits.
+        files.forEach(file -> assertEquals(NUM_LINES, progress.get(file).rows()));
+        files.forEach(file -> assertEquals(new File(file).length(), progress.get(file).position()));
+        listenerThreads.forEach(thread -> assertEquals(caller, thread));
+    }
+
+    private List<String> newFiles(final int numFiles) throws IOException {
+        final List<String> files = new ArrayList<>();
+        for (int i = 0; i < numFiles; i++) {
+            final File file = folder.newFile("file-" + i + ".txt");
+            final List<String> lines = new ArrayList<>();
+            for (int j = 0; j < NUM_LINES; j++) {
+                lines.add("line-" + j);
+            }
+            Files.write(file.toPath(), lines, StandardCharsets.UTF_8);
+            files.add(file.getAbsolutePath());
+        }
+        return files;
+    }
+
+    private ParallelFileRecordsPollingConsumer newConsumer() {
+        readerConfigs.put("read.max.wait.ms", 0L);
+        return new ParallelFileRecordsPollingConsumer(() -> {
+            final RowFileInputReader reader = new RowFileInputReader();
+            reader.configure(readerConfigs);
+            return new DefaultFileRecordsPollingConsumer(
+                null,
+                reader,
+                new DefaultRecordFilterPipeline(Collections.emptyList()),
+                new SimpleOffsetManager(OffsetStrategy.FILENAME),
+                true);
+        }, 2, 100L);
+    }
+}
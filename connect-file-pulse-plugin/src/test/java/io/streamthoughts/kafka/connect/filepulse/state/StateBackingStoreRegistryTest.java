@@ -108,6 +108,16 @@ public class StateBackingStoreRegistryTest {
         public void setUpdateListener(UpdateListener listener) {
 
         }
+
+        @Override
+        public void addUpdateListener(UpdateListener listener) {
+
+        }
+
+        @Override
+        public void removeUpdateListener(UpdateListener listener) {
+
+        }
     }
 
 }
\ No newline at end of file